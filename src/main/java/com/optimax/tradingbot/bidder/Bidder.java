@@ -37,6 +37,45 @@ public interface Bidder {
      */
     void bids(int own, int other) throws InvalidParameterException;
 
+    /**
+     * Shows the bids of the two bidders together with the already settled won quantity,
+     * so the bidder does not have to evaluate the round again.
+     * Bidders which do not override it evaluate the round themselves through {@link #bids(int, int)}.
+     *
+     * @param own
+     *              the bid of this bidder
+     * @param other
+     *              the bid of the other bidder
+     * @param wonQuantity
+     *              the quantity this bidder has won in the round
+     */
+    default void bids(int own, int other, int wonQuantity) throws InvalidParameterException {
+        bids(own, other);
+    }
+
+    /**
+     * Tells whether the bidder can no longer place a non-zero bid,
+     * either because it is out of cash or because its strategy has stopped bidding.
+     *
+     * @return true if all further bids of this bidder are zero
+     */
+    default boolean isExhausted() {
+        return false;
+    }
+
+    /**
+     * Settles the given number of rounds in which neither bidder bids.
+     * Equivalent to calling {@code bids(0, 0)} for each of the rounds.
+     *
+     * @param rounds
+     *              the number of idle rounds
+     */
+    default void settleIdleRounds(int rounds) throws InvalidParameterException {
+        for (int i = 0; i < rounds; i++) {
+            bids(0, 0);
+        }
+    }
+
     /**
      * @return
      *        The BidderState indicating current state of the bidder
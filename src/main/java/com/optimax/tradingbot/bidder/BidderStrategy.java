@@ -4,7 +4,9 @@ import org.springframework.lang.NonNull;
 import com.optimax.tradingbot.impl.BidderContext;
 import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
 
+import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 
 /**
  * The Strategy for bidding
@@ -28,10 +30,95 @@ public interface BidderStrategy {
      */
     OptionalInt nextBid(BidderState own, BidderContext ctx);
 
+    /**
+     * Tells whether the strategy will never place a non-zero bid again,
+     * e.g. once its round limit is exceeded.
+     * Lets the auction settle the remaining rounds at once instead of playing them.
+     * @param own
+     *           The POV BidderState
+     * @return
+     *           true if every further {@link #nextBid} would be empty or zero
+     */
+    default boolean isExhausted(BidderState own) {
+        return false;
+    }
+
+    /**
+     * Open-loop strategies, whose bids do not depend on the opponent, can commit to their bids up front.
+     * When both strategies of an auction do, the auction settles the planned rounds at once.
+     * Must not change the state of the strategy, the settled rounds are reported through {@link #finishRounds}.
+     * @param own
+     *           The POV BidderState
+     * @param remainingRounds
+     *           The number of rounds left in the auction
+     * @return
+     *           empty if the strategy cannot plan, otherwise the bids of the next rounds.
+     *           A plan shorter than the remaining rounds is invalidated after its last bid,
+     *           the rounds after it are played one by one
+     */
+    default Optional<int[]> bidPlan(BidderState own, int remainingRounds) {
+        return Optional.empty();
+    }
+
+    /**
+     * Lets a strategy drop its plan once the assumptions it was made on no longer hold.
+     * Called by the auction after each round settled from the plans, with the bids of the round.
+     * The round itself stays settled, the rounds after it are played one by one.
+     * Must not change the state of the strategy, like {@link #bidPlan}.
+     * @param round
+     *           The number of the round, starting at 1
+     * @param ownBid
+     *           The planned bid of this strategy
+     * @param opponentBid
+     *           The planned bid of the opponent
+     * @return
+     *           false to stop settling the plan after this round
+     */
+    default boolean isPlanValid(int round, int ownBid, int opponentBid) {
+        return true;
+    }
+
+    /**
+     * Tells which parts of the context the strategy reads in {@link #nextBid}, so the auction can skip maintaining the others
+     * @return
+     *           the parts read, {@link StrategyCapability#UNDECLARED} unless overridden, {@link StrategyCapability#NONE} for none.
+     *           Null counts as undeclared
+     */
+    default Set<StrategyCapability> capabilities() {
+        return StrategyCapability.UNDECLARED;
+    }
+
+    /**
+     * Push notification of a round played one by one, before {@link #finishRound()},
+     * so the strategy can keep its own incremental state instead of reading the history.
+     * Rounds settled at once, from bid plans or idle, are only reported through {@link #finishRounds}
+     * @param round
+     *           The number of the round, starting at 1
+     * @param ownBid
+     *           The bid of this strategy
+     * @param opponentBid
+     *           The bid of the opponent
+     * @param wonQuantity
+     *           The quantity this strategy has won in the round
+     */
+    default void onRoundResult(int round, int ownBid, int opponentBid, int wonQuantity) {
+    }
+
     /**
      * Finish the round after all the bids done
      * Needed if we have more than one bid per round
      */
     default void finishRound() {
     }
+
+    /**
+     * Finish a series of rounds settled at once, e.g. from a {@link #bidPlan}
+     * @param rounds
+     *           The number of rounds
+     */
+    default void finishRounds(int rounds) {
+        for (int i = 0; i < rounds; i++) {
+            finishRound();
+        }
+    }
 }
@@ -21,4 +21,19 @@ public interface BidderWinEvaluator {
      *                  if own or opponent amount < 0
      */
     int evaluateWonQuantity(int own, int other) throws InvalidParameterException;
+
+    /**
+     * Upper bound of the quantity a single bidder can still win until the auction ends.
+     * Used to tell when the outcome of an auction can no longer change.
+     * By default assumes the evaluator never hands out more than the auctioned supply.
+     * @param remainingQuantity
+     *                  quantity not yet allocated
+     * @param remainingRounds
+     *                  rounds left to be played
+     * @return
+     *                  the maximum quantity one bidder can still win
+     */
+    default int maxRemainingGain(int remainingQuantity, int remainingRounds) {
+        return remainingQuantity;
+    }
 }
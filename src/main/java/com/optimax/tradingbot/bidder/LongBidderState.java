@@ -0,0 +1,15 @@
+package com.optimax.tradingbot.bidder;
+
+/**
+ * 64-bit counterpart of {@link BidderState}, for markets whose volumes or prices in the smallest units exceed an int
+ */
+public interface LongBidderState {
+
+    long getQuantity();
+
+    long cash();
+
+    String id();
+
+    long totalQuantity();
+}
@@ -0,0 +1,51 @@
+package com.optimax.tradingbot.bidder;
+
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import org.springframework.lang.NonNull;
+
+import java.util.OptionalLong;
+
+/**
+ * 64-bit counterpart of {@link BidderStrategy}.
+ * There is no shared history: strategies interested in the past bids keep track of them in {@link #finishRound}.
+ */
+public interface LongBidderStrategy {
+
+    /**
+     * @param params
+     *              Unified parameters for the strategy
+     */
+    void init(@NonNull BidderStrategyParameters params);
+
+    /**
+     * Pull next bid from the strategy
+     * @param own
+     *           The POV bidder state
+     * @param opponent
+     *           The opponent's bidder state
+     * @return
+     *           empty if no bid possible, otherwise finite amount of cash to be sacrificed
+     */
+    OptionalLong nextBid(LongBidderState own, LongBidderState opponent);
+
+    /**
+     * Tells whether the strategy will never place a non-zero bid again
+     * @param own
+     *           The POV bidder state
+     * @return
+     *           true if every further {@link #nextBid} would be empty or zero
+     */
+    default boolean isExhausted(LongBidderState own) {
+        return false;
+    }
+
+    /**
+     * Notify the strategy about the settled round
+     * @param ownBid
+     *           The own bid of the round
+     * @param opponentBid
+     *           The opponent's bid of the round
+     */
+    default void finishRound(long ownBid, long opponentBid) {
+    }
+}
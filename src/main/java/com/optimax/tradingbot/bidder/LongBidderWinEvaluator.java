@@ -0,0 +1,23 @@
+package com.optimax.tradingbot.bidder;
+
+import java.security.InvalidParameterException;
+
+/**
+ * 64-bit counterpart of {@link BidderWinEvaluator}
+ */
+@FunctionalInterface
+public interface LongBidderWinEvaluator {
+
+    /**
+     * Calculate the won quantity based on some finite algorithm
+     * @param own
+     *                  own cash offer
+     * @param other
+     *                  opponent cash offer
+     * @return
+     *                  quantity own has won
+     * @throws InvalidParameterException
+     *                  if own or opponent amount < 0
+     */
+    long evaluateWonQuantity(long own, long other) throws InvalidParameterException;
+}
@@ -0,0 +1,45 @@
+package com.optimax.tradingbot.bidder;
+
+import java.security.InvalidParameterException;
+import java.util.Optional;
+
+/**
+ * A {@link Bidder} able to commit to its bids up front, see {@link BidderStrategy#bidPlan}.
+ * The auction only settles planned rounds when both of its bidders implement this interface.
+ */
+public interface PlanningBidder extends Bidder {
+
+    /**
+     * Retrieves the bids the bidder commits to for the next rounds.
+     *
+     * @param remainingRounds
+     *              the number of rounds left in the auction
+     * @return empty if the bidder cannot plan, otherwise the planned bids
+     */
+    Optional<int[]> bidPlan(int remainingRounds);
+
+    /**
+     * Checked by the auction after each planned round, see {@link BidderStrategy#isPlanValid}.
+     *
+     * @param round
+     *              the number of the round just settled from the plan, starting at 1
+     * @param own
+     *              the planned bid of this bidder
+     * @param other
+     *              the planned bid of the other bidder
+     * @return false if the rest of the plan must not be settled
+     */
+    boolean isPlanValid(int round, int own, int other);
+
+    /**
+     * Settles a series of planned rounds at once.
+     *
+     * @param rounds
+     *              the number of rounds settled from the plan
+     * @param cashSpent
+     *              the sum of the planned bids of this bidder in these rounds
+     * @param wonQuantity
+     *              the quantity this bidder has won in these rounds
+     */
+    void settlePlannedRounds(int rounds, int cashSpent, int wonQuantity) throws InvalidParameterException;
+}
@@ -0,0 +1,146 @@
+package com.optimax.tradingbot.bidder;
+
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import org.springframework.lang.NonNull;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+/**
+ * A {@link BidderStrategy} split into an immutable strategy and a small per-auction state defined by the strategy.
+ * <p>
+ * The strategy only keeps what is derived from its parameters, so a single instance can serve any number of auctions,
+ * concurrently as well. Whatever changes during an auction lives in the state object, created by {@link #newState()}
+ * and owned by the auction through the {@link BidderStrategy} returned by {@link #bind()}.
+ * The methods mirror the ones of {@link BidderStrategy}, with the state of the calling auction passed in.
+ *
+ * @param <S> the per-auction state
+ */
+public interface StatelessBidderStrategy<S> {
+
+    /**
+     * @return the state of a new auction
+     */
+    S newState();
+
+    /**
+     * See {@link BidderStrategy#nextBid}
+     */
+    OptionalInt nextBid(S state, BidderState own, BidderContext ctx);
+
+    /**
+     * See {@link BidderStrategy#isExhausted}
+     */
+    default boolean isExhausted(S state, BidderState own) {
+        return false;
+    }
+
+    /**
+     * See {@link BidderStrategy#bidPlan}, must not change the state
+     */
+    default Optional<int[]> bidPlan(S state, BidderState own, int remainingRounds) {
+        return Optional.empty();
+    }
+
+    /**
+     * See {@link BidderStrategy#isPlanValid}, must not change the state
+     */
+    default boolean isPlanValid(S state, int round, int ownBid, int opponentBid) {
+        return true;
+    }
+
+    /**
+     * See {@link BidderStrategy#capabilities()}
+     */
+    default Set<StrategyCapability> capabilities() {
+        return StrategyCapability.UNDECLARED;
+    }
+
+    /**
+     * See {@link BidderStrategy#onRoundResult}
+     */
+    default void onRoundResult(S state, int round, int ownBid, int opponentBid, int wonQuantity) {
+    }
+
+    /**
+     * See {@link BidderStrategy#finishRounds}, called with 1 for each round played one by one
+     */
+    default void finishRounds(S state, int rounds) {
+    }
+
+    /**
+     * @return a strategy for a single auction at a time, holding a new state and delegating to this strategy
+     */
+    default BoundStrategy<S> bind() {
+        return new BoundStrategy<>(this);
+    }
+
+    /**
+     * Gives a {@link StatelessBidderStrategy} the shape of a {@link BidderStrategy}.
+     * {@link #init} starts a new auction with a new state, the parameters being those the strategy was built with.
+     */
+    final class BoundStrategy<S> implements BidderStrategy {
+
+        private final StatelessBidderStrategy<S> strategy;
+        private S state;
+
+        BoundStrategy(@NonNull StatelessBidderStrategy<S> strategy) {
+            this.strategy = strategy;
+            this.state = strategy.newState();
+        }
+
+        @Override
+        public void init(@NonNull BidderStrategyParameters params) {
+            state = strategy.newState();
+        }
+
+        @Override
+        public OptionalInt nextBid(BidderState own, BidderContext ctx) {
+            return strategy.nextBid(state, own, ctx);
+        }
+
+        @Override
+        public boolean isExhausted(BidderState own) {
+            return strategy.isExhausted(state, own);
+        }
+
+        @Override
+        public Optional<int[]> bidPlan(BidderState own, int remainingRounds) {
+            return strategy.bidPlan(state, own, remainingRounds);
+        }
+
+        @Override
+        public boolean isPlanValid(int round, int ownBid, int opponentBid) {
+            return strategy.isPlanValid(state, round, ownBid, opponentBid);
+        }
+
+        @Override
+        public Set<StrategyCapability> capabilities() {
+            return strategy.capabilities();
+        }
+
+        @Override
+        public void onRoundResult(int round, int ownBid, int opponentBid, int wonQuantity) {
+            strategy.onRoundResult(state, round, ownBid, opponentBid, wonQuantity);
+        }
+
+        @Override
+        public void finishRound() {
+            strategy.finishRounds(state, 1);
+        }
+
+        @Override
+        public void finishRounds(int rounds) {
+            strategy.finishRounds(state, rounds);
+        }
+
+        /**
+         * @return the state of the current auction
+         */
+        public S state() {
+            return state;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.optimax.tradingbot.bidder;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Parts of the {@link com.optimax.tradingbot.impl.BidderContext} a strategy reads, see {@link BidderStrategy#capabilities()}.
+ * The auction only maintains the parts read by at least one of its strategies, the bidder states are always kept.
+ */
+public enum StrategyCapability {
+
+    /**
+     * Reads {@link com.optimax.tradingbot.impl.BidderContext#getHistory()}
+     */
+    HISTORY,
+
+    /**
+     * Reads {@link com.optimax.tradingbot.impl.BidderContext#getBidQueries()}, which the auction then enables
+     * with {@link com.optimax.tradingbot.impl.history.BidQueries#DEFAULT_WINDOW} unless enabled already
+     */
+    STATS;
+
+    /**
+     * Every part of the context
+     */
+    public static final Set<StrategyCapability> ALL = Collections.unmodifiableSet(EnumSet.allOf(StrategyCapability.class));
+
+    /**
+     * The parts the context has always been maintaining, for strategies which do not tell
+     */
+    public static final Set<StrategyCapability> UNDECLARED = Collections.unmodifiableSet(EnumSet.of(HISTORY));
+
+    /**
+     * None of the parts, for strategies which only need the bidder states and the round callbacks
+     */
+    public static final Set<StrategyCapability> NONE = Collections.unmodifiableSet(EnumSet.noneOf(StrategyCapability.class));
+}
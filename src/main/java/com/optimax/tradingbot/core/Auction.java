@@ -1,25 +1,40 @@
 package com.optimax.tradingbot.core;
 
 import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.impl.ContextSnapshot;
 import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
 import com.optimax.tradingbot.bidder.Bidder;
 import com.optimax.tradingbot.bidder.BidderWinEvaluator;
+import com.optimax.tradingbot.bidder.StrategyCapability;
+import com.optimax.tradingbot.core.shadow.ShadowBidder;
+import com.optimax.tradingbot.core.shadow.ShadowExecutor;
+import com.optimax.tradingbot.core.shadow.ShadowMetrics;
+import com.optimax.tradingbot.core.validation.AuctionRuleValidator;
 import com.optimax.tradingbot.core.validation.AuctionVerifier;
 import com.optimax.tradingbot.exceptions.AuctionValidatorException;
 import com.optimax.tradingbot.exceptions.InternalStrategyException;
 import com.optimax.tradingbot.impl.BidderImpl;
+import com.optimax.tradingbot.impl.history.BidQueries;
+import com.optimax.tradingbot.impl.history.HistoryPolicy;
+import com.optimax.tradingbot.bidder.BidderState;
 import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.bidder.PlanningBidder;
 import com.optimax.tradingbot.impl.DefaultBidderWinEvaluator;
-import com.optimax.tradingbot.core.validation.AuctionRuleValidator;
 import com.optimax.tradingbot.core.validation.CompositeAuctionValidator;
+import com.optimax.tradingbot.core.validation.PipelinedAuctionVerifier;
+import com.optimax.tradingbot.core.validation.RoundVerificationListener;
 import com.optimax.tradingbot.core.validation.rules.NegativeCashValidator;
 import com.optimax.tradingbot.core.validation.rules.RemainingQuantityValidator;
 import com.optimax.tradingbot.core.validation.rules.FinalQuantityExhaustionValidator;
+import com.optimax.tradingbot.core.validation.rules.PortfolioSpendValidator;
 import org.slf4j.Logger;
 
 import java.security.InvalidParameterException;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Represents a base auction where two bidders compete by placing bids
@@ -30,15 +45,41 @@ import java.util.List;
  */
 public class Auction implements Runnable {
 
-    private static final Logger log = LoggerFactory.getLogger(Auction.class);
+    private static final Logger AUCTION_LOG = LoggerFactory.getLogger(Auction.class);
+
+    // Results of a single round, see playRound
+    private static final int ROUND_PLAYED = 0;
+    private static final int IDLE_ROUNDS_SETTLED = 1;
+    private static final int ROUND_FAILED = -1;
+
+    // The rules are stateless, so all auctions share them
+    private static final CompositeAuctionValidator ROUND_VALIDATORS = new CompositeAuctionValidator(List.of(
+            new NegativeCashValidator(),           // Ensure no bidder has negative cash after bidding
+            new RemainingQuantityValidator()       // Ensure bidders have remaining quantity to trade
+    ));
+    private static final CompositeAuctionValidator FINAL_VALIDATORS = new CompositeAuctionValidator(List.of(
+            new FinalQuantityExhaustionValidator() // Ensure all quantity is exhausted properly
+    ));
 
     private final BidderContext context;      // Shared context representing both bidders' states
     private final Bidder ownBidder;
     private final Bidder otherBidder;
-    private final int maxRounds;                // Maximum rounds equal to half of total quantity
+    private int maxRounds;                      // Maximum rounds equal to half of total quantity
 
     private final AuctionVerifier verifier;    // Verifies each round and final auction state
     private final AuctionState auctionState;   // Maintains the current state of the auction
+    private final BidderWinEvaluator winEvaluator;
+    private final RoundSettlement settlement;  // Evaluates each round once for the bidders and the verifier
+    private PipelinedAuctionVerifier pipeline;  // Off-thread verification, null when verifying inline
+    private ShadowBidder shadow;                // Candidate strategy evaluated next to the own bidder, null when off
+    private final RoundFlightRecorder flightRecorder = new RoundFlightRecorder(RoundFlightRecorder.DEFAULT_CAPACITY);
+    private Set<StrategyCapability> consumedContext; // Parts of the context read by the strategies, the rest is not maintained
+
+    private Logger log = AUCTION_LOG;          // Results and failures of this auction, see setLogger
+    private boolean configured;                 // Set by the settings kept across reset, see isConfigured
+
+    private int roundsPlayed;
+    private boolean aborted;
 
     /**
      * Constructs an Auction instance with initial parameters and strategies for both bidders.
@@ -50,42 +91,240 @@ public class Auction implements Runnable {
      * @throws IllegalArgumentException if totalQuantity is not positive even number or baseCash is negative
      */
     public Auction(int totalQuantity, int baseCash, @NonNull BidderStrategy ownStrategy, @NonNull BidderStrategy opponentStrategy) throws IllegalArgumentException {
+        this(totalQuantity, baseCash, ownStrategy, opponentStrategy, DefaultBidderWinEvaluator.INSTANCE);
+    }
+
+    /**
+     * Constructs an Auction instance which settles the rounds with a custom win evaluator.
+     *
+     * @param totalQuantity    the total quantity available to each bidder; must be positive and even
+     * @param baseCash         the initial cash each bidder has; must be non-negative
+     * @param ownStrategy      the bidding strategy for the own bidder; must not be null
+     * @param opponentStrategy the bidding strategy for the opponent bidder; must not be null
+     * @param winEvaluator     the evaluator deciding the won quantity of each round; must not be null
+     * @throws IllegalArgumentException if totalQuantity is not positive even number or baseCash is negative
+     */
+    public Auction(int totalQuantity, int baseCash,
+                   @NonNull BidderStrategy ownStrategy,
+                   @NonNull BidderStrategy opponentStrategy,
+                   @NonNull BidderWinEvaluator winEvaluator) throws IllegalArgumentException {
+        validateParameters(totalQuantity, baseCash);
+
+        this.winEvaluator = winEvaluator;
+        this.settlement = new RoundSettlement(winEvaluator, winEvaluator);
+
+        context = new BidderContext();
+
+        // Create bidders with their respective strategies and the shared context
+        ownBidder = new BidderImpl(totalQuantity, baseCash, ownStrategy, winEvaluator, context);
+        otherBidder = new BidderImpl(totalQuantity, baseCash, opponentStrategy, winEvaluator, context);
+        consumedContext = consumedContext(ownStrategy, opponentStrategy);
+        enableConsumedBidQueries();
+
+        // Maximum number of rounds is half the total quantity (each round allocates two units)
+        maxRounds = totalQuantity / 2;
+
+        auctionState = new AuctionState(totalQuantity, baseCash);
+        verifier = new AuctionVerifier(
+                auctionState,
+                ROUND_VALIDATORS,
+                FINAL_VALIDATORS,
+                winEvaluator,
+                winEvaluator
+        );
+    }
+
+    private static void validateParameters(int totalQuantity, int baseCash) throws IllegalArgumentException {
         if (totalQuantity % 2 != 0 || totalQuantity <= 0) {
             throw new IllegalArgumentException("Total Quantity must be evenly dividable by 2 and > 0");
         }
         if (baseCash < 0) {
             throw new IllegalArgumentException("Base Cash must be >= 0");
         }
+    }
 
-        // Use Default evaluator
-        BidderWinEvaluator defaultEvaluator = new DefaultBidderWinEvaluator();
+    /**
+     * Prepares the auction for another matchup without reallocating it: the bidders, the shared context
+     * and the auction state are reset in place and the bidders switch over to the given strategies.
+     * The strategies are expected to be initialized already, see {@link BidderStrategy#init}.
+     * Pipelined verification and shadow evaluation are switched off and have to be enabled again if needed.
+     *
+     * @param totalQuantity    the total quantity available to each bidder; must be positive and even
+     * @param baseCash         the initial cash each bidder has; must be non-negative
+     * @param ownStrategy      the bidding strategy for the own bidder; must not be null
+     * @param opponentStrategy the bidding strategy for the opponent bidder; must not be null
+     * @throws IllegalArgumentException if totalQuantity is not positive even number or baseCash is negative
+     */
+    public void reset(int totalQuantity, int baseCash,
+                      @NonNull BidderStrategy ownStrategy,
+                      @NonNull BidderStrategy opponentStrategy) throws IllegalArgumentException {
+        validateParameters(totalQuantity, baseCash);
 
-        context = new BidderContext();
+        closePipeline();
+        shadow = null;
 
-        // Create bidders with their respective strategies and the shared context
-        ownBidder = new BidderImpl(totalQuantity, baseCash, ownStrategy, defaultEvaluator, context);
-        otherBidder = new BidderImpl(totalQuantity, baseCash, opponentStrategy, defaultEvaluator, context);
+        context.clear();
+        resetBidder(ownBidder, totalQuantity, baseCash, ownStrategy);
+        resetBidder(otherBidder, totalQuantity, baseCash, opponentStrategy);
+        consumedContext = consumedContext(ownStrategy, opponentStrategy);
+        enableConsumedBidQueries();
 
-        // Maximum number of rounds is half the total quantity (each round allocates two units)
         maxRounds = totalQuantity / 2;
+        auctionState.reset(totalQuantity, baseCash);
+        flightRecorder.clear();
+        roundsPlayed = 0;
+        aborted = false;
+    }
 
-        List<AuctionRuleValidator> roundValidators = List.of(
-                new NegativeCashValidator(),           // Ensure no bidder has negative cash after bidding
-                new RemainingQuantityValidator()       // Ensure bidders have remaining quantity to trade
-        );
+    /**
+     * @return the parts of the context read by at least one of the strategies, a null declaration counting as undeclared
+     */
+    private static Set<StrategyCapability> consumedContext(BidderStrategy ownStrategy, BidderStrategy opponentStrategy) {
+        EnumSet<StrategyCapability> consumed = EnumSet.noneOf(StrategyCapability.class);
+        for (BidderStrategy strategy : List.of(ownStrategy, opponentStrategy)) {
+            Set<StrategyCapability> capabilities = strategy.capabilities();
+            consumed.addAll(capabilities == null ? StrategyCapability.UNDECLARED : capabilities);
+        }
+        return consumed;
+    }
 
-        List<AuctionRuleValidator> finalValidators = List.of(
-                new FinalQuantityExhaustionValidator() // Ensure all quantity is exhausted properly
-        );
+    private void enableConsumedBidQueries() {
+        if (consumedContext.contains(StrategyCapability.STATS) && !context.hasBidQueries()) {
+            context.enableBidQueries(BidQueries.DEFAULT_WINDOW);
+        }
+    }
 
-        auctionState = new AuctionState(totalQuantity, baseCash);
-        verifier = new AuctionVerifier(
-                auctionState,
-                new CompositeAuctionValidator(roundValidators),
-                new CompositeAuctionValidator(finalValidators),
-                defaultEvaluator,
-                defaultEvaluator
-        );
+    /**
+     * @return true once any of the settings kept across {@link #reset} was changed, e.g. a validator was added,
+     * so the auction cannot be handed to other callers as a fresh one
+     */
+    boolean isConfigured() {
+        return configured;
+    }
+
+    /**
+     * Bidders created by the auction switch their strategy in place, other ones are only re-initialized
+     */
+    private static void resetBidder(Bidder bidder, int totalQuantity, int baseCash, BidderStrategy strategy) {
+        if (bidder instanceof BidderImpl impl) {
+            impl.init(totalQuantity, baseCash, strategy);
+        } else {
+            bidder.init(totalQuantity, baseCash);
+        }
+    }
+
+    /**
+     * Logs the results and failures of this auction to the given logger instead of the {@code Auction} one,
+     * so e.g. synthetic auctions can be turned down without muting the live ones. Kept across {@link #reset}.
+     *
+     * @param logger the logger of this auction
+     */
+    public void setLogger(@NonNull Logger logger) {
+        this.log = logger;
+        configured = true;
+    }
+
+    /**
+     * Moves round verification off the auction thread. The bids of each round are published
+     * into a ring buffer of the given capacity and verified by a dedicated thread, overlapping
+     * with the bid computation of the next rounds. The auction is aborted at the next round
+     * once a violation is reported. Must be called before the auction is run.
+     *
+     * @param capacity number of rounds the verification may lag behind the auction
+     * @param listener hook fired when verification fails or falls behind
+     */
+    public void enablePipelinedVerification(int capacity, @NonNull RoundVerificationListener listener) {
+        if (pipeline != null) {
+            pipeline.close();
+        }
+        pipeline = PipelinedAuctionVerifier.start(verifier, capacity, listener);
+    }
+
+    /**
+     * Decides how the history of the shared context is kept, e.g. {@link HistoryPolicy#spillToDisk} for auctions
+     * of millions of rounds. Must be called before the auction is run, and is kept across {@link #reset}.
+     *
+     * @param historyPolicy the policy of the history handed to the strategies
+     */
+    public void setHistoryPolicy(@NonNull HistoryPolicy historyPolicy) {
+        context.setHistoryPolicy(historyPolicy);
+        configured = true;
+    }
+
+    /**
+     * Maintains {@link BidderContext#getBidQueries()} for the strategies of this auction. Kept across {@link #reset}.
+     *
+     * @param window number of the last history units covered by the window queries
+     */
+    public void enableBidQueries(int window) {
+        context.enableBidQueries(window);
+        configured = true;
+    }
+
+    /**
+     * Lets other threads, e.g. a dashboard, follow this auction through {@link #contextSnapshot()}.
+     * The history of the snapshots holds the rounds settled one by one, planned rounds only show in the states.
+     * Kept across {@link #reset}.
+     */
+    public void enableContextSnapshots() {
+        context.enableSnapshots();
+        configured = true;
+    }
+
+    /**
+     * Safe to call from any thread while the auction runs, never blocks it
+     *
+     * @return the context as of the last settled round
+     * @throws IllegalStateException if the snapshots were not enabled
+     */
+    public ContextSnapshot contextSnapshot() {
+        return context.snapshot();
+    }
+
+    /**
+     * Adds a rule checked after every round, next to the built-in ones.
+     * Must be called before the auction is run and before pipelined verification is enabled,
+     * since the verifier thread reads the round rules, and is kept across {@link #reset}.
+     *
+     * @param validator the rule to add, safe to call from the verifier thread in pipelined mode
+     * @throws IllegalStateException if pipelined verification is enabled
+     */
+    public void addRoundValidator(@NonNull AuctionRuleValidator validator) {
+        if (pipeline != null) {
+            throw new IllegalStateException("Round validators cannot be added once pipelined verification is enabled");
+        }
+        verifier.addRoundValidator(validator);
+        configured = true;
+    }
+
+    /**
+     * Adds a rule checked on the final state, next to the built-in ones, e.g. a {@link PortfolioSpendValidator}
+     * for a bidder drawing on a {@link com.optimax.tradingbot.impl.budget.SharedBudget}. Final rules run on the
+     * auction thread, in pipelined mode as well. Must be called before the auction is run, and is kept across {@link #reset}.
+     *
+     * @param validator the rule to add
+     */
+    public void addFinalValidator(@NonNull AuctionRuleValidator validator) {
+        verifier.addFinalValidator(validator);
+        configured = true;
+    }
+
+    /**
+     * Evaluates a candidate strategy for the own bidder on the rounds of this auction without letting it bid.
+     * The settled bids are handed over to the executor, which replays them for the shadow strategy on copies
+     * of the bidder states and the context and records the divergence from the live bids into the metrics.
+     * Rounds are played one by one while shadowing, see {@link ShadowBidder}. Must be called before the auction is run.
+     *
+     * @param shadowStrategy initialized candidate strategy, not used by any other bidder
+     * @param executor       pool running the shadow work, dropping it when saturated
+     * @param metrics        metrics to record into, may be shared across auctions
+     */
+    public void enableShadowStrategy(@NonNull BidderStrategy shadowStrategy, @NonNull ShadowExecutor executor, @NonNull ShadowMetrics metrics) {
+        shadow = new ShadowBidder(shadowStrategy, ownBidder.getState(), otherBidder.getState(),
+                winEvaluator, executor, metrics, ShadowBidder.DEFAULT_CAPACITY);
+        if (context.hasBidQueries()) {
+            shadow.enableBidQueries(context.getBidQueries().window());
+        }
     }
 
     /**
@@ -95,59 +334,489 @@ public class Auction implements Runnable {
      */
     @Override
     public void run() {
-        auctionLoop(maxRounds);
+        aborted = !auctionLoop(maxRounds, false);
 
         try {
-            verifier.verifyFinalState();
+            verifyFinalState();
+        } catch (AuctionValidatorException e) {
+            log.error("Auction Final State Verification Error: {}", e.getMessage());
+            dumpFlightRecorder();
+            aborted = true;
+        } finally {
+            closePipeline();
+        }
+    }
+
+    /**
+     * Runs the auction only until its winner is mathematically decided, i.e. the lead of one bidder
+     * exceeds everything the other can still win according to {@link BidderWinEvaluator#maxRemainingGain}.
+     * Meant for tournaments that only need the winner: the remaining rounds are not played,
+     * so the final state is not verified and the final quantities are reported as bounds.
+     *
+     * @return the outcome of the auction
+     */
+    public AuctionOutcome runUntilDecided() {
+        boolean completed = auctionLoop(maxRounds, true);
+        int remainingRounds = maxRounds - roundsPlayed;
+
+        if (completed && remainingRounds == 0) {
+            try {
+                verifyFinalState();
+            } catch (AuctionValidatorException e) {
+                log.error("Auction Final State Verification Error: {}", e.getMessage());
+                dumpFlightRecorder();
+                completed = false;
+            }
+        }
+        closePipeline();
+        aborted = !completed;
+        return outcome(remainingRounds, completed);
+    }
+
+    /**
+     * Plays a single round, for callers driving the round lifecycle themselves instead of {@link #run()},
+     * e.g. on a wall-clock schedule. Once both bidders are exhausted all remaining rounds are settled at once.
+     * The auction has to be concluded with {@link #finish()} after the last round or when stopping early.
+     *
+     * @return true if there are rounds left to be played
+     */
+    public boolean playNextRound() {
+        if (aborted || roundsPlayed >= maxRounds) {
+            return false;
+        }
+        if (pipeline != null && pipeline.failure() != null) {
+            log.error("Auction Round Verification Error: {}", pipeline.failure().getMessage());
+            dumpFlightRecorder();
+            aborted = true;
+            return false;
+        }
+        if (playRound(maxRounds - roundsPlayed) == ROUND_FAILED) {
+            aborted = true;
+            return false;
+        }
+        return roundsPlayed < maxRounds;
+    }
+
+    /**
+     * Concludes an auction played round by round with {@link #playNextRound()}.
+     * Waits for pipelined verification and verifies the final state if all rounds have been played.
+     *
+     * @return false if the auction was aborted
+     */
+    public boolean finish() {
+        try {
+            if (!aborted && !awaitPipeline()) {
+                aborted = true;
+            }
+            if (!aborted && roundsPlayed == maxRounds) {
+                verifyFinalState();
+                logResult();
+            }
         } catch (AuctionValidatorException e) {
             log.error("Auction Final State Verification Error: {}", e.getMessage());
+            dumpFlightRecorder();
+            aborted = true;
+        } finally {
+            closePipeline();
         }
+        return !aborted;
+    }
+
+    /**
+     * @return the last settled rounds of the auction, dumped to the log when the auction fails
+     */
+    public RoundFlightRecorder getFlightRecorder() {
+        return flightRecorder;
+    }
+
+    /**
+     * @return number of rounds played so far
+     */
+    public int getRoundsPlayed() {
+        return roundsPlayed;
+    }
+
+    /**
+     * @return the state of the auction, to be read once the auction has been run
+     */
+    public AuctionState getAuctionState() {
+        return auctionState;
+    }
+
+    /**
+     * @return true if the last run was aborted or failed the final verification
+     */
+    public boolean isAborted() {
+        return aborted;
     }
 
     /**
      * Executes the auction rounds, where each bidder places bids and states are updated.
      * Verifies each round using configured validators and logs any errors encountered.
      *
-     * @param iterations number of rounds to execute (typically maxRounds)
+     * @param iterations       number of rounds to execute (typically maxRounds)
+     * @param stopWhenDecided  stop as soon as the winner can no longer change
+     * @return false if the auction was aborted
      */
-    private void auctionLoop(int iterations) {
-        for (int i = 0; i < iterations; i++) {
-            int ownBid;
-            int otherBid;
-            try {
-                // Each bidder places their bid for this round
-                ownBid = ownBidder.placeBid();
-                otherBid = otherBidder.placeBid();
-            } catch (InternalStrategyException e) {
-                log.error("Caught internal strategy exception: {}", e.getMessage());
-                return;  // Abort auction on strategy failure
+    private boolean auctionLoop(int iterations, boolean stopWhenDecided) {
+        int planned = 0;
+        if (pipeline == null && shadow == null && !stopWhenDecided) {
+            planned = playPlannedRounds(iterations);
+            if (planned < 0) {
+                return false;
             }
+        }
 
-            try {
-                // Update bidders with the bids placed by both sides
-                ownBidder.bids(ownBid, otherBid);
-                otherBidder.bids(otherBid, ownBid);
-            } catch (InvalidParameterException e) {
-                log.error("Caught invalid parameters: {}", e.getMessage());
-                return;  // Abort auction on invalid bid parameters
+        for (int i = planned; i < iterations; i++) {
+            if (pipeline != null && pipeline.failure() != null) {
+                log.error("Auction Round Verification Error: {}", pipeline.failure().getMessage());
+                dumpFlightRecorder();
+                return false;  // Abort auction once the verifier reports a violation
+            }
+
+            if (stopWhenDecided && isDecidedByBidders(iterations - i)) {
+                // Only the verified rounds count, the pipeline is drained once the bidders see a decision
+                if (!awaitPipeline()) {
+                    return false;
+                }
+                log.info("Outcome decided after {} rounds", roundsPlayed);
+                return true;
+            }
+
+            int result = playRound(iterations - i);
+            if (result == ROUND_FAILED) {
+                return false;
+            }
+            if (result == IDLE_ROUNDS_SETTLED) {
+                break;
             }
+        }
 
-            log.debug("Bidding: {} against {}", ownBid, otherBid);
+        if (!awaitPipeline()) {
+            return false;
+        }
+
+        logResult();
+        return true;
+    }
+
+    /**
+     * Plays the next round: both bidders place their bids, the round is settled and verified
+     * and the shared context is updated. Once both bidders are exhausted all remaining rounds are settled at once.
+     *
+     * @param remainingRounds number of rounds left to be played, including this one
+     * @return {@link #ROUND_PLAYED}, {@link #IDLE_ROUNDS_SETTLED} or {@link #ROUND_FAILED}
+     */
+    private int playRound(int remainingRounds) {
+        if (ownBidder.isExhausted() && otherBidder.isExhausted()) {
+            // Nobody can bid anymore, the rest of the auction is a series of 0 vs 0 ties
+            if (!settleIdleRounds(remainingRounds)) {
+                return ROUND_FAILED;
+            }
+            return IDLE_ROUNDS_SETTLED;
+        }
+
+        int ownBid;
+        int otherBid;
+        try {
+            // Each bidder places their bid for this round
+            ownBid = ownBidder.placeBid();
+            otherBid = otherBidder.placeBid();
+        } catch (InternalStrategyException e) {
+            log.error("Caught internal strategy exception: {}", e.getMessage());
+            dumpFlightRecorder();
+            return ROUND_FAILED;  // Abort auction on strategy failure
+        }
+
+        RoundOutcome outcome;
+        try {
+            // Settle the round once and update bidders with its outcome
+            outcome = settlement.settle(ownBid, otherBid);
+            ownBidder.bids(ownBid, otherBid, outcome.ownWonQuantity());
+            otherBidder.bids(otherBid, ownBid, outcome.otherWonQuantity());
+            flightRecorder.record(roundsPlayed, 1, ownBid, otherBid, outcome.ownWonQuantity(), outcome.otherWonQuantity(),
+                    ownBidder.getState().cash(), otherBidder.getState().cash());
+        } catch (InvalidParameterException e) {
+            log.error("Caught invalid parameters: {}", e.getMessage());
+            dumpFlightRecorder();
+            return ROUND_FAILED;  // Abort auction on invalid bid parameters
+        }
+
+        log.debug("Bidding: {} against {}", ownBid, otherBid);
+
+        try {
+            // Validate round
+            verifyRound(outcome);
+        } catch (AuctionValidatorException e) {
+            log.error("Auction Round Verification Error: {}", e.getMessage());
+            dumpFlightRecorder();
+            return ROUND_FAILED;  // Abort auction if round verification fails
+        }
+
+        // Update shared context state based on bids and auction results
+        BidderContextUpdater.updateBidderContext(context, ownBidder, otherBidder, ownBid, otherBid, consumedContext);
+        if (shadow != null) {
+            shadow.onRound(ownBid, otherBid);
+        }
+        roundsPlayed++;
+        return ROUND_PLAYED;
+    }
+
+    /**
+     * Settles the rounds both bidders have committed to up front in a primitive loop,
+     * without bid requests, context updates or history entries per round.
+     * Only {@link BidderStrategy#isPlanValid} is asked per round, stopping the plans after the round it fails on.
+     * The state updates and the round validation are applied once for all of them,
+     * which is equivalent since cash and quantities only change in one direction.
+     *
+     * @param iterations number of rounds to execute
+     * @return number of rounds settled, -1 if the auction has to be aborted
+     */
+    private int playPlannedRounds(int iterations) {
+        if (!(ownBidder instanceof PlanningBidder ownPlanner) || !(otherBidder instanceof PlanningBidder otherPlanner)) {
+            return 0;
+        }
+        Optional<int[]> ownPlan = ownPlanner.bidPlan(iterations);
+        if (ownPlan == null || ownPlan.isEmpty()) {
+            return 0;
+        }
+        Optional<int[]> otherPlan = otherPlanner.bidPlan(iterations);
+        if (otherPlan == null || otherPlan.isEmpty()) {
+            return 0;
+        }
+        int[] ownBids = ownPlan.get();
+        int[] otherBids = otherPlan.get();
+        int rounds = Math.min(iterations, Math.min(ownBids.length, otherBids.length));
+
+        int ownCash = ownBidder.getState().cash();
+        int otherCash = otherBidder.getState().cash();
+        int ownSpent = 0;
+        int otherSpent = 0;
+        int ownWon = 0;
+        int otherWon = 0;
+        boolean failed = false;
+
+        int round = 0;
+        try {
+            for (; round < rounds; round++) {
+                int ownBid = ownBids[round];
+                int otherBid = otherBids[round];
+                if (ownBid < 0 || otherBid < 0 || ownBid > ownCash - ownSpent || otherBid > otherCash - otherSpent) {
+                    log.error("Caught invalid bid plan: {} against {} in round {}", ownBid, otherBid, roundsPlayed + round + 1);
+                    dumpFlightRecorder();
+                    failed = true;
+                    break;
+                }
+                ownSpent += ownBid;
+                otherSpent += otherBid;
+                int ownRoundWon = winEvaluator.evaluateWonQuantity(ownBid, otherBid);
+                int otherRoundWon = winEvaluator.evaluateWonQuantity(otherBid, ownBid);
+                ownWon += ownRoundWon;
+                otherWon += otherRoundWon;
+                flightRecorder.record(roundsPlayed + round, 1, ownBid, otherBid, ownRoundWon, otherRoundWon,
+                        ownCash - ownSpent, otherCash - otherSpent);
+                int roundNumber = roundsPlayed + round + 1;
+                if (!ownPlanner.isPlanValid(roundNumber, ownBid, otherBid) | !otherPlanner.isPlanValid(roundNumber, otherBid, ownBid)) {
+                    log.debug("Bid plan invalidated after round {}", roundNumber);
+                    round++;
+                    break;
+                }
+            }
+        } catch (InvalidParameterException e) {
+            log.error("Caught invalid parameters: {}", e.getMessage());
+            dumpFlightRecorder();
+            failed = true;
+        }
 
+        if (round > 0) {
             try {
-                // Validate round
-                verifier.verifyRound(ownBid, otherBid);
+                ownPlanner.settlePlannedRounds(round, ownSpent, ownWon);
+                otherPlanner.settlePlannedRounds(round, otherSpent, otherWon);
+                verifier.verifyRound(new RoundOutcome(ownSpent, otherSpent, ownWon, otherWon));
+                verifier.verifyConsistency(ownBidder.getState(), otherBidder.getState());
+            } catch (InvalidParameterException e) {
+                log.error("Caught invalid parameters: {}", e.getMessage());
+                dumpFlightRecorder();
+                return -1;
             } catch (AuctionValidatorException e) {
                 log.error("Auction Round Verification Error: {}", e.getMessage());
-                return;  // Abort auction if round verification fails
+                dumpFlightRecorder();
+                return -1;
             }
-
-            // Update shared context state based on bids and auction results
-            BidderContextUpdater.updateBidderContext(context, ownBidder, otherBidder, ownBid, otherBid);
+            context.publish();
+            log.debug("Settled {} planned rounds", round);
+            roundsPlayed += round;
         }
+        return failed ? -1 : round;
+    }
+
+    /**
+     * Logs the last settled rounds, called once the auction fails
+     */
+    private void dumpFlightRecorder() {
+        log.error("Auction flight recorder:{}{}", System.lineSeparator(), flightRecorder.dump());
+    }
 
-        // Log final auction results and declare the winner
+    /**
+     * Log final auction results and declare the winner
+     */
+    private void logResult() {
         log.info("Winner: {}", auctionState.getOwnBidderQuantityWon() > auctionState.getOtherBidderQuantityWon() ? "Own" : "Other");
         log.info("Stats. Own: {} Other: {}", auctionState.getOwnBidderQuantityWon(), auctionState.getOtherBidderQuantityWon());
     }
+
+    /**
+     * Same as {@link #isDecided} on the states kept by the bidders, which match the auction state once verified.
+     * Unlike the auction state they are owned by the auction thread in pipelined mode as well,
+     * so the decision can be checked every round without waiting for the verifier.
+     */
+    private boolean isDecidedByBidders(int remainingRounds) {
+        if (pipeline == null) {
+            return isDecided(remainingRounds);
+        }
+        BidderState own = ownBidder.getState();
+        BidderState other = otherBidder.getState();
+        int remainingQuantity = own.totalQuantity() - own.getQuantity() - other.getQuantity();
+        long maxGain = winEvaluator.maxRemainingGain(remainingQuantity, remainingRounds);
+        return own.getQuantity() > other.getQuantity() + maxGain || other.getQuantity() > own.getQuantity() + maxGain;
+    }
+
+    /**
+     * The winner is decided once the lead of one bidder is greater than
+     * the maximum quantity the other one can still win.
+     *
+     * @param remainingRounds number of rounds left to be played
+     */
+    private boolean isDecided(int remainingRounds) {
+        long maxGain = winEvaluator.maxRemainingGain(auctionState.getRemainingQuantity(), remainingRounds);
+        long own = auctionState.getOwnBidderQuantityWon();
+        long other = auctionState.getOtherBidderQuantityWon();
+        return own > other + maxGain || other > own + maxGain;
+    }
+
+    /**
+     * Builds the outcome from the current auction state, projecting the final quantities
+     * with the maximum gain still possible in the remaining rounds.
+     *
+     * @param remainingRounds number of rounds not played
+     * @param completed       false if the auction was aborted
+     */
+    private AuctionOutcome outcome(int remainingRounds, boolean completed) {
+        int own = auctionState.getOwnBidderQuantityWon();
+        int other = auctionState.getOtherBidderQuantityWon();
+        int maxGain = remainingRounds == 0 ? 0 : winEvaluator.maxRemainingGain(auctionState.getRemainingQuantity(), remainingRounds);
+
+        AuctionOutcome.Winner winner;
+        if (!completed || (remainingRounds > 0 && !isDecided(remainingRounds))) {
+            winner = AuctionOutcome.Winner.UNDECIDED;
+        } else if (own > other) {
+            winner = AuctionOutcome.Winner.OWN;
+        } else if (other > own) {
+            winner = AuctionOutcome.Winner.OTHER;
+        } else {
+            winner = AuctionOutcome.Winner.TIE;
+        }
+
+        return new AuctionOutcome(winner, roundsPlayed, remainingRounds > 0,
+                own, (int) Math.min(Integer.MAX_VALUE, (long) own + maxGain),
+                other, (int) Math.min(Integer.MAX_VALUE, (long) other + maxGain));
+    }
+
+    /**
+     * Settles all the remaining rounds at once when no bidder can bid anymore.
+     * Each of them would resolve to a 0 vs 0 tie, so the cash stays untouched,
+     * the tie quantities are applied in closed form and a single compressed history entry is recorded.
+     *
+     * @param rounds number of remaining rounds
+     * @return false if the auction has to be aborted
+     */
+    private boolean settleIdleRounds(int rounds) {
+        int ownQuantity = ownBidder.getState().getQuantity();
+        int otherQuantity = otherBidder.getState().getQuantity();
+        try {
+            ownBidder.settleIdleRounds(rounds);
+            otherBidder.settleIdleRounds(rounds);
+            flightRecorder.record(roundsPlayed, rounds, 0, 0,
+                    ownBidder.getState().getQuantity() - ownQuantity, otherBidder.getState().getQuantity() - otherQuantity,
+                    ownBidder.getState().cash(), otherBidder.getState().cash());
+        } catch (InvalidParameterException e) {
+            log.error("Caught invalid parameters: {}", e.getMessage());
+            dumpFlightRecorder();
+            return false;
+        }
+
+        log.debug("Fast-forwarding {} idle rounds", rounds);
+
+        try {
+            if (pipeline == null) {
+                verifier.verifyIdleRounds(rounds);
+            } else {
+                pipeline.verifyIdleRounds(rounds);
+            }
+            verifier.verifyConsistency(ownBidder.getState(), otherBidder.getState());
+        } catch (AuctionValidatorException e) {
+            log.error("Auction Round Verification Error: {}", e.getMessage());
+            dumpFlightRecorder();
+            return false;
+        }
+
+        BidderContextUpdater.updateBidderContextIdle(context, ownBidder, otherBidder, rounds, consumedContext);
+        if (shadow != null) {
+            shadow.onIdleRounds(rounds);
+        }
+        roundsPlayed += rounds;
+        return true;
+    }
+
+    /**
+     * Verifies the round inline, or hands it over to the verifier thread in pipelined mode.
+     * Inline, the auction state is also cross-checked against the bidders' own states right away.
+     */
+    private void verifyRound(RoundOutcome outcome) throws AuctionValidatorException {
+        if (pipeline == null) {
+            verifier.verifyRound(outcome);
+            verifier.verifyConsistency(ownBidder.getState(), otherBidder.getState());
+        } else if (!pipeline.publish(outcome)) {
+            throw pipeline.failure();
+        }
+    }
+
+    private void verifyFinalState() throws AuctionValidatorException {
+        if (pipeline == null) {
+            verifier.verifyFinalState();
+        } else {
+            pipeline.verifyFinalState();
+        }
+    }
+
+    /**
+     * Waits for the verifier thread to catch up, so the auction state can be read
+     * and cross-checked against the bidders' own states.
+     *
+     * @return false if a round failed verification
+     */
+    private boolean awaitPipeline() {
+        if (pipeline == null) {
+            return true;
+        }
+        try {
+            pipeline.awaitVerified();
+            verifier.verifyConsistency(ownBidder.getState(), otherBidder.getState());
+            return true;
+        } catch (AuctionValidatorException e) {
+            log.error("Auction Round Verification Error: {}", e.getMessage());
+            dumpFlightRecorder();
+            return false;
+        }
+    }
+
+    /**
+     * Stops the verifier thread, further runs verify inline unless pipelined verification is enabled again.
+     */
+    private void closePipeline() {
+        if (pipeline != null) {
+            pipeline.close();
+            pipeline = null;
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.optimax.tradingbot.core;
+
+/**
+ * The result of an auction together with the bounds of the final quantities.
+ * When the auction is stopped as soon as its winner is known, the final quantities
+ * are not settled yet, so only the range they are guaranteed to end up in is reported.
+ *
+ * @param winner           the winner of the auction
+ * @param roundsPlayed     number of rounds settled before the auction stopped
+ * @param decidedEarly     true if the auction was stopped before all rounds were played
+ * @param ownQuantityMin   lower bound of the own bidder's final quantity
+ * @param ownQuantityMax   upper bound of the own bidder's final quantity
+ * @param otherQuantityMin lower bound of the other bidder's final quantity
+ * @param otherQuantityMax upper bound of the other bidder's final quantity
+ */
+public record AuctionOutcome(Winner winner,
+                             int roundsPlayed,
+                             boolean decidedEarly,
+                             int ownQuantityMin,
+                             int ownQuantityMax,
+                             int otherQuantityMin,
+                             int otherQuantityMax) {
+
+    public enum Winner {
+        OWN,
+        OTHER,
+        TIE,
+        UNDECIDED,
+    }
+}
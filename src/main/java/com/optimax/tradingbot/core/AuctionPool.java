@@ -0,0 +1,88 @@
+package com.optimax.tradingbot.core;
+
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import org.springframework.lang.NonNull;
+
+import java.util.ArrayDeque;
+
+/**
+ * Per-worker pool of reusable auctions for tournament workloads.
+ * <p>
+ * Setting up an auction allocates the bidders, the shared context, the auction state and the verifier,
+ * which for small auctions costs more than the rounds themselves. A pooled auction is only
+ * {@link Auction#reset reset} in place for the next matchup. Auctions whose settings are kept across a reset,
+ * such as the logger, the history policy or added validators, are not pooled, so every auction handed out
+ * comes with the defaults of a new one.
+ * <p>
+ * A pool is not thread-safe, each worker thread uses its own one, see {@link #local()}.
+ */
+public final class AuctionPool {
+
+    private static final int DEFAULT_MAX_POOLED = 16;
+
+    private static final ThreadLocal<AuctionPool> LOCAL = ThreadLocal.withInitial(() -> new AuctionPool(DEFAULT_MAX_POOLED));
+
+    private final ArrayDeque<Auction> free;
+    private final int maxPooled;
+
+    /**
+     * @param maxPooled maximum number of released auctions kept for reuse
+     */
+    public AuctionPool(int maxPooled) {
+        if (maxPooled <= 0) {
+            throw new IllegalArgumentException("Max pooled auctions must be > 0");
+        }
+        this.maxPooled = maxPooled;
+        this.free = new ArrayDeque<>(maxPooled);
+    }
+
+    /**
+     * @return the pool of the calling worker thread
+     */
+    public static AuctionPool local() {
+        return LOCAL.get();
+    }
+
+    /**
+     * Hands out an auction ready to be run, reusing a released one if possible.
+     * The strategies are expected to be initialized already, see {@link BidderStrategy#init}.
+     *
+     * @param totalQuantity    the total quantity available to each bidder; must be positive and even
+     * @param baseCash         the initial cash each bidder has; must be non-negative
+     * @param ownStrategy      the bidding strategy for the own bidder; must not be null
+     * @param opponentStrategy the bidding strategy for the opponent bidder; must not be null
+     * @throws IllegalArgumentException if totalQuantity is not positive even number or baseCash is negative
+     */
+    public Auction acquire(int totalQuantity, int baseCash,
+                           @NonNull BidderStrategy ownStrategy,
+                           @NonNull BidderStrategy opponentStrategy) throws IllegalArgumentException {
+        Auction auction = free.pollFirst();
+        if (auction == null) {
+            return new Auction(totalQuantity, baseCash, ownStrategy, opponentStrategy);
+        }
+        try {
+            auction.reset(totalQuantity, baseCash, ownStrategy, opponentStrategy);
+        } catch (IllegalArgumentException e) {
+            free.addFirst(auction);  // Nothing was reset, the auction can still be reused
+            throw e;
+        }
+        return auction;
+    }
+
+    /**
+     * Gives the auction back for reuse, it must not be used by the caller afterwards.
+     * The auction is dropped if the pool is full or if it was configured beyond its defaults.
+     */
+    public void release(@NonNull Auction auction) {
+        if (free.size() < maxPooled && !auction.isConfigured()) {
+            free.addFirst(auction);
+        }
+    }
+
+    /**
+     * @return number of auctions waiting for reuse
+     */
+    public int size() {
+        return free.size();
+    }
+}
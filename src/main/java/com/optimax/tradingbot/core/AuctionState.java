@@ -10,8 +10,8 @@ public class AuctionState {
     private Pair<Integer, Integer> currentCash;          // (ownBidderCash, otherBidderCash)
     private Pair<Integer, Integer> quantityWon;          // (ownBidderQuantityWon, otherBidderQuantityWon)
     private int remainingQuantity;
-    private final int totalInitialQuantity;
-    private final int initialBaseCash;
+    private int totalInitialQuantity;
+    private int initialBaseCash;
 
     public AuctionState(int totalInitialQuantity, int initialBaseCash) {
         this.totalInitialQuantity = totalInitialQuantity;
@@ -21,6 +21,17 @@ public class AuctionState {
         this.remainingQuantity = totalInitialQuantity;
     }
 
+    /**
+     * Puts the state back to the beginning of an auction, so it can be reused
+     */
+    public void reset(int totalInitialQuantity, int initialBaseCash) {
+        this.totalInitialQuantity = totalInitialQuantity;
+        this.initialBaseCash = initialBaseCash;
+        this.currentCash = new Pair<>(initialBaseCash, initialBaseCash);
+        this.quantityWon = new Pair<>(0, 0);
+        this.remainingQuantity = totalInitialQuantity;
+    }
+
     // Getters
     public int getOwnBidderCash() {
         return currentCash.getFirst();
@@ -19,16 +19,43 @@ public record AuctionStateUpdater(BidderWinEvaluator ownWinEvaluator, BidderWinE
         int ownWonQuantity = ownWinEvaluator.evaluateWonQuantity(ownBid, otherBid);
         int otherWonQuantity = otherWinEvaluator.evaluateWonQuantity(otherBid, ownBid);
 
+        applyOutcome(state, new RoundOutcome(ownBid, otherBid, ownWonQuantity, otherWonQuantity));
+    }
+
+    /**
+     * Applies an already settled round to the given auction state, without evaluating it again.
+     *
+     * @param state   The current auction state.
+     * @param outcome The settled round.
+     */
+    public static void applyOutcome(AuctionState state, RoundOutcome outcome) {
         // Update quantities won
-        state.setOwnBidderCurrentQuantityWon(state.getOwnBidderQuantityWon() + ownWonQuantity);
-        state.setOtherBidderCurrentQuantityWon(state.getOtherBidderQuantityWon() + otherWonQuantity);
+        state.setOwnBidderCurrentQuantityWon(state.getOwnBidderQuantityWon() + outcome.ownWonQuantity());
+        state.setOtherBidderCurrentQuantityWon(state.getOtherBidderQuantityWon() + outcome.otherWonQuantity());
 
         // Update remaining quantity
         // Note: Assumes that the sum of possible quantity is always the same as the auctioned amount
-        state.setRemainingQuantity(state.getRemainingQuantity() - (ownWonQuantity + otherWonQuantity));
+        state.setRemainingQuantity(state.getRemainingQuantity() - (outcome.ownWonQuantity() + outcome.otherWonQuantity()));
 
         // Update cash
-        state.setOwnBidderCurrentCash(state.getOwnBidderCash() - ownBid);
-        state.setOtherBidderCurrentCash(state.getOtherBidderCash() - otherBid);
+        state.setOwnBidderCurrentCash(state.getOwnBidderCash() - outcome.ownBid());
+        state.setOtherBidderCurrentCash(state.getOtherBidderCash() - outcome.otherBid());
+    }
+
+    /**
+     * Updates the given auction state for a series of rounds in which neither bidder bids.
+     * Every such round is a 0 vs 0 tie, so the cash stays untouched and the tie quantities
+     * are applied once for all the rounds.
+     *
+     * @param state  The current auction state.
+     * @param rounds The number of idle rounds.
+     */
+    public void updateAuctionStateIdle(AuctionState state, int rounds) {
+        int ownWonQuantity = ownWinEvaluator.evaluateWonQuantity(0, 0) * rounds;
+        int otherWonQuantity = otherWinEvaluator.evaluateWonQuantity(0, 0) * rounds;
+
+        state.setOwnBidderCurrentQuantityWon(state.getOwnBidderQuantityWon() + ownWonQuantity);
+        state.setOtherBidderCurrentQuantityWon(state.getOtherBidderQuantityWon() + otherWonQuantity);
+        state.setRemainingQuantity(state.getRemainingQuantity() - (ownWonQuantity + otherWonQuantity));
     }
 }
\ No newline at end of file
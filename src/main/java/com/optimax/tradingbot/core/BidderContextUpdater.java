@@ -1,11 +1,15 @@
 package com.optimax.tradingbot.core;
 
 import com.optimax.tradingbot.bidder.Bidder;
+import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.bidder.StrategyCapability;
 import com.optimax.tradingbot.impl.BidderContext;
 import com.optimax.tradingbot.impl.BidderHistoryUnit;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 public class BidderContextUpdater {
 
@@ -18,14 +22,104 @@ public class BidderContextUpdater {
      *           The Bidder context
      */
     public static void updateBidderContext(BidderContext ctx, Bidder ownBidder, Bidder otherBidder, int ownBid, int otherBid) {
+        updateBidderContext(ctx, ownBidder.getState(), otherBidder.getState(), ownBid, otherBid);
+    }
+
+    /**
+     * Update the parts of the bidder context read by the strategies of the auction, only the states if none is read
+     * @param ctx
+     *           The Bidder context
+     * @param consumed
+     *           The parts read by at least one strategy, see {@link BidderStrategy#capabilities()}
+     */
+    public static void updateBidderContext(BidderContext ctx, Bidder ownBidder, Bidder otherBidder, int ownBid, int otherBid,
+                                           Set<StrategyCapability> consumed) {
+        updateConsumed(ctx, ownBidder, otherBidder, ownBid, otherBid, 1, consumed);
+    }
+
+    /**
+     * Update bidder context history and states from the bidder states alone
+     * @param ctx
+     *           The Bidder context
+     */
+    public static void updateBidderContext(BidderContext ctx, BidderState ownState, BidderState otherState, int ownBid, int otherBid) {
         Map<String, Integer> map = new HashMap<>();
 
+        ctx.putState(ownState);
+        ctx.putState(otherState);
+
+        map.put(ownState.id(), ownBid);
+        map.put(otherState.id(), otherBid);
+
+        ctx.addHistoryUnit(new BidderHistoryUnit(map));
+        ctx.publish();
+    }
+
+    /**
+     * Update bidder context after a series of rounds in which neither bidder bids.
+     * The rounds are recorded as a single compressed history entry
+     * @param ctx
+     *           The Bidder context
+     * @param rounds
+     *           The number of idle rounds
+     */
+    public static void updateBidderContextIdle(BidderContext ctx, Bidder ownBidder, Bidder otherBidder, int rounds) {
+        updateBidderContextIdle(ctx, ownBidder.getState(), otherBidder.getState(), rounds);
+    }
+
+    /**
+     * Update the parts of the bidder context read by the strategies of the auction after a series of idle rounds,
+     * only the states if none is read
+     * @param ctx
+     *           The Bidder context
+     * @param rounds
+     *           The number of idle rounds
+     * @param consumed
+     *           The parts read by at least one strategy, see {@link BidderStrategy#capabilities()}
+     */
+    public static void updateBidderContextIdle(BidderContext ctx, Bidder ownBidder, Bidder otherBidder, int rounds,
+                                               Set<StrategyCapability> consumed) {
+        updateConsumed(ctx, ownBidder, otherBidder, 0, 0, rounds, consumed);
+    }
+
+    private static void updateConsumed(BidderContext ctx, Bidder ownBidder, Bidder otherBidder, int ownBid, int otherBid,
+                                       int rounds, Set<StrategyCapability> consumed) {
+        // The states are live references, so putting them costs no more than skipping them
         ctx.putState(ownBidder.getState());
         ctx.putState(otherBidder.getState());
+        // The bid queries and snapshots are maintained once enabled, whether the history is read or not
+        boolean history = consumed.contains(StrategyCapability.HISTORY);
+        if (history || ctx.hasBidQueries() || ctx.hasSnapshots()) {
+            Map<String, Integer> map = new HashMap<>();
+            map.put(ownBidder.getState().id(), ownBid);
+            map.put(otherBidder.getState().id(), otherBid);
+            BidderHistoryUnit unit = new BidderHistoryUnit(map, rounds);
+            if (history) {
+                ctx.addHistoryUnit(unit);
+            } else {
+                ctx.addUnkeptHistoryUnit(unit);
+            }
+        }
+        ctx.publish();
+    }
 
-        map.put(ownBidder.getState().id(), ownBid);
-        map.put(otherBidder.getState().id(), otherBid);
+    /**
+     * Update bidder context after a series of idle rounds from the bidder states alone
+     * @param ctx
+     *           The Bidder context
+     * @param rounds
+     *           The number of idle rounds
+     */
+    public static void updateBidderContextIdle(BidderContext ctx, BidderState ownState, BidderState otherState, int rounds) {
+        Map<String, Integer> map = new HashMap<>();
 
-        ctx.addHistoryUnit(new BidderHistoryUnit(map));
+        ctx.putState(ownState);
+        ctx.putState(otherState);
+
+        map.put(ownState.id(), 0);
+        map.put(otherState.id(), 0);
+
+        ctx.addHistoryUnit(new BidderHistoryUnit(map, rounds));
+        ctx.publish();
     }
 }
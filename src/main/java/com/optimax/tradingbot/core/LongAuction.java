@@ -0,0 +1,230 @@
+package com.optimax.tradingbot.core;
+
+import com.optimax.tradingbot.bidder.LongBidderStrategy;
+import com.optimax.tradingbot.bidder.LongBidderWinEvaluator;
+import com.optimax.tradingbot.core.validation.LongAuctionRuleValidator;
+import com.optimax.tradingbot.core.validation.rules.FinalQuantityExhaustionValidator;
+import com.optimax.tradingbot.core.validation.rules.NegativeCashValidator;
+import com.optimax.tradingbot.core.validation.rules.RemainingQuantityValidator;
+import com.optimax.tradingbot.exceptions.AuctionValidatorException;
+import com.optimax.tradingbot.exceptions.InternalStrategyException;
+import com.optimax.tradingbot.impl.DefaultLongBidderWinEvaluator;
+import com.optimax.tradingbot.impl.LongBidderStateImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+
+import java.security.InvalidParameterException;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * 64-bit counterpart of {@link Auction}, for markets whose volumes or prices in the smallest units exceed an int,
+ * so real data no longer has to be scaled down to fit.
+ * <p>
+ * All the cash and quantity arithmetic is overflow-checked: an overflow aborts the auction like an invalid bid
+ * instead of silently wrapping around. Auctions which fit into an int are better played by {@link Auction},
+ * which keeps its int fast paths.
+ */
+public class LongAuction implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(LongAuction.class);
+
+    // The rules are stateless, so all auctions share them
+    private static final List<LongAuctionRuleValidator> ROUND_VALIDATORS = List.of(
+            new NegativeCashValidator(),           // Ensure no bidder has negative cash after bidding
+            new RemainingQuantityValidator()       // Ensure bidders have remaining quantity to trade
+    );
+    private static final List<LongAuctionRuleValidator> FINAL_VALIDATORS = List.of(
+            new FinalQuantityExhaustionValidator() // Ensure all quantity is exhausted properly
+    );
+
+    private final LongBidderStrategy ownStrategy;
+    private final LongBidderStrategy otherStrategy;
+    private final LongBidderStateImpl ownState;
+    private final LongBidderStateImpl otherState;
+    private final LongBidderWinEvaluator winEvaluator;
+    private final LongAuctionState auctionState;
+    private final long maxRounds;                // Maximum rounds equal to half of total quantity
+
+    private long roundsPlayed;
+    private boolean aborted;
+
+    /**
+     * @param totalQuantity    the total quantity available to each bidder; must be positive and even
+     * @param baseCash         the initial cash each bidder has; must be non-negative
+     * @param ownStrategy      the bidding strategy for the own bidder; must not be null
+     * @param opponentStrategy the bidding strategy for the opponent bidder; must not be null
+     * @throws IllegalArgumentException if totalQuantity is not positive even number or baseCash is negative
+     */
+    public LongAuction(long totalQuantity, long baseCash,
+                       @NonNull LongBidderStrategy ownStrategy,
+                       @NonNull LongBidderStrategy opponentStrategy) throws IllegalArgumentException {
+        this(totalQuantity, baseCash, ownStrategy, opponentStrategy, DefaultLongBidderWinEvaluator.INSTANCE);
+    }
+
+    /**
+     * @param totalQuantity    the total quantity available to each bidder; must be positive and even
+     * @param baseCash         the initial cash each bidder has; must be non-negative
+     * @param ownStrategy      the bidding strategy for the own bidder; must not be null
+     * @param opponentStrategy the bidding strategy for the opponent bidder; must not be null
+     * @param winEvaluator     the evaluator deciding the won quantity of each round; must not be null
+     * @throws IllegalArgumentException if totalQuantity is not positive even number or baseCash is negative
+     */
+    public LongAuction(long totalQuantity, long baseCash,
+                       @NonNull LongBidderStrategy ownStrategy,
+                       @NonNull LongBidderStrategy opponentStrategy,
+                       @NonNull LongBidderWinEvaluator winEvaluator) throws IllegalArgumentException {
+        if (totalQuantity % 2 != 0 || totalQuantity <= 0) {
+            throw new IllegalArgumentException("Total Quantity must be evenly dividable by 2 and > 0");
+        }
+        if (baseCash < 0) {
+            throw new IllegalArgumentException("Base Cash must be >= 0");
+        }
+
+        this.ownStrategy = ownStrategy;
+        this.otherStrategy = opponentStrategy;
+        this.ownState = new LongBidderStateImpl(0, totalQuantity, baseCash, "own");
+        this.otherState = new LongBidderStateImpl(0, totalQuantity, baseCash, "other");
+        this.winEvaluator = winEvaluator;
+        this.auctionState = new LongAuctionState(totalQuantity, baseCash);
+        this.maxRounds = totalQuantity / 2;
+    }
+
+    /**
+     * Runs all the rounds and verifies the final state.
+     * Logs errors if any verification fails.
+     */
+    @Override
+    public void run() {
+        aborted = !auctionLoop();
+        if (aborted) {
+            return;
+        }
+        try {
+            validate(FINAL_VALIDATORS);
+            log.info("Winner: {}", auctionState.getOwnBidderQuantityWon() > auctionState.getOtherBidderQuantityWon() ? "Own" : "Other");
+            log.info("Stats. Own: {} Other: {}", auctionState.getOwnBidderQuantityWon(), auctionState.getOtherBidderQuantityWon());
+        } catch (AuctionValidatorException e) {
+            log.error("Auction Final State Verification Error: {}", e.getMessage());
+            aborted = true;
+        }
+    }
+
+    /**
+     * @return false if the auction was aborted
+     */
+    private boolean auctionLoop() {
+        try {
+            while (roundsPlayed < maxRounds) {
+                if (isExhausted(ownStrategy, ownState) && isExhausted(otherStrategy, otherState)) {
+                    // Nobody can bid anymore, the rest of the auction is a series of 0 vs 0 ties
+                    settleIdleRounds(maxRounds - roundsPlayed);
+                    break;
+                }
+
+                long ownBid = placeBid(ownStrategy, ownState, otherState);
+                long otherBid = placeBid(otherStrategy, otherState, ownState);
+
+                long ownWon = winEvaluator.evaluateWonQuantity(ownBid, otherBid);
+                long otherWon = winEvaluator.evaluateWonQuantity(otherBid, ownBid);
+                if (ownWon < 0 || otherWon < 0) {
+                    throw new InvalidParameterException("Won quantity must be >= 0");
+                }
+                ownState.increaseQuantity(ownWon);
+                otherState.increaseQuantity(otherWon);
+                auctionState.applyRound(ownBid, otherBid, ownWon, otherWon);
+                validateRound();
+
+                ownStrategy.finishRound(ownBid, otherBid);
+                otherStrategy.finishRound(otherBid, ownBid);
+                roundsPlayed++;
+            }
+            return true;
+        } catch (InternalStrategyException e) {
+            log.error("Caught internal strategy exception: {}", e.getMessage());
+        } catch (InvalidParameterException e) {
+            log.error("Caught invalid parameters: {}", e.getMessage());
+        } catch (ArithmeticException e) {
+            log.error("Caught arithmetic overflow: {}", e.getMessage());
+        } catch (AuctionValidatorException e) {
+            log.error("Auction Round Verification Error: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    private static boolean isExhausted(LongBidderStrategy strategy, LongBidderStateImpl state) {
+        return state.cash() <= 0 || strategy.isExhausted(state);
+    }
+
+    private static long placeBid(LongBidderStrategy strategy, LongBidderStateImpl own, LongBidderStateImpl opponent) {
+        OptionalLong bid = strategy.nextBid(own, opponent);
+        if (bid.isEmpty()) {
+            return 0;
+        }
+        long cash = bid.getAsLong();
+        if (cash < 0) {
+            throw new InvalidParameterException("Either one or both of supplied quantities are incorrect");
+        }
+        if (cash > own.cash()) {
+            throw new InternalStrategyException("Received by the strategy cash exceeds the left amount");
+        }
+        own.decreaseCash(cash);
+        return cash;
+    }
+
+    /**
+     * Settles the idle rounds in closed form, with overflow-checked multiplication of the tie quantities
+     */
+    private void settleIdleRounds(long rounds) throws AuctionValidatorException {
+        long ownWon = Math.multiplyExact(winEvaluator.evaluateWonQuantity(0, 0), rounds);
+        long otherWon = Math.multiplyExact(winEvaluator.evaluateWonQuantity(0, 0), rounds);
+        log.debug("Fast-forwarding {} idle rounds", rounds);
+
+        ownState.increaseQuantity(ownWon);
+        otherState.increaseQuantity(otherWon);
+        auctionState.applyRound(0, 0, ownWon, otherWon);
+        validateRound();
+        roundsPlayed += rounds;
+    }
+
+    /**
+     * Runs the round rules and cross-checks the auction state against the bidders' own states
+     */
+    private void validateRound() throws AuctionValidatorException {
+        validate(ROUND_VALIDATORS);
+        if (auctionState.getOwnBidderCash() != ownState.cash()
+                || auctionState.getOtherBidderCash() != otherState.cash()
+                || auctionState.getOwnBidderQuantityWon() != ownState.getQuantity()
+                || auctionState.getOtherBidderQuantityWon() != otherState.getQuantity()) {
+            throw new AuctionValidatorException("Auction state diverged from the bidder states.");
+        }
+    }
+
+    private void validate(List<LongAuctionRuleValidator> validators) throws AuctionValidatorException {
+        for (LongAuctionRuleValidator validator : validators) {
+            validator.validate(auctionState);
+        }
+    }
+
+    /**
+     * @return the state of the auction, to be read once the auction has been run
+     */
+    public LongAuctionState getAuctionState() {
+        return auctionState;
+    }
+
+    /**
+     * @return true if the run was aborted or failed the final verification
+     */
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * @return number of rounds played
+     */
+    public long getRoundsPlayed() {
+        return roundsPlayed;
+    }
+}
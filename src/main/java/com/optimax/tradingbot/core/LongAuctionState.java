@@ -0,0 +1,65 @@
+package com.optimax.tradingbot.core;
+
+/**
+ * 64-bit counterpart of {@link AuctionState}. The updates are overflow-checked
+ * and throw {@link ArithmeticException} instead of wrapping around.
+ */
+public class LongAuctionState {
+
+    private long ownBidderCash;
+    private long otherBidderCash;
+    private long ownBidderQuantityWon;
+    private long otherBidderQuantityWon;
+    private long remainingQuantity;
+    private final long totalInitialQuantity;
+    private final long initialBaseCash;
+
+    public LongAuctionState(long totalInitialQuantity, long initialBaseCash) {
+        this.totalInitialQuantity = totalInitialQuantity;
+        this.initialBaseCash = initialBaseCash;
+        this.ownBidderCash = initialBaseCash;
+        this.otherBidderCash = initialBaseCash;
+        this.remainingQuantity = totalInitialQuantity;
+    }
+
+    /**
+     * Applies a settled round, or a series of rounds with the bids and won quantities summed up
+     *
+     * @throws ArithmeticException on overflow
+     */
+    public void applyRound(long ownBid, long otherBid, long ownWonQuantity, long otherWonQuantity) {
+        ownBidderQuantityWon = Math.addExact(ownBidderQuantityWon, ownWonQuantity);
+        otherBidderQuantityWon = Math.addExact(otherBidderQuantityWon, otherWonQuantity);
+        remainingQuantity = Math.subtractExact(remainingQuantity, Math.addExact(ownWonQuantity, otherWonQuantity));
+        ownBidderCash = Math.subtractExact(ownBidderCash, ownBid);
+        otherBidderCash = Math.subtractExact(otherBidderCash, otherBid);
+    }
+
+    public long getOwnBidderCash() {
+        return ownBidderCash;
+    }
+
+    public long getOtherBidderCash() {
+        return otherBidderCash;
+    }
+
+    public long getOwnBidderQuantityWon() {
+        return ownBidderQuantityWon;
+    }
+
+    public long getOtherBidderQuantityWon() {
+        return otherBidderQuantityWon;
+    }
+
+    public long getRemainingQuantity() {
+        return remainingQuantity;
+    }
+
+    public long getTotalInitialQuantity() {
+        return totalInitialQuantity;
+    }
+
+    public long getInitialBaseCash() {
+        return initialBaseCash;
+    }
+}
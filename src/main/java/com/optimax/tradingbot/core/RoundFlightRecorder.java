@@ -0,0 +1,111 @@
+package com.optimax.tradingbot.core;
+
+/**
+ * Fixed-size ring of the last settled rounds of an auction, kept so a failing auction can tell how it got there.
+ * <p>
+ * Recording a round is a handful of stores into a preallocated array, so the recorder stays on all the time.
+ * The entries are only formatted when {@link #dump()} is called on failure.
+ * An entry may cover several rounds settled at once, e.g. idle rounds, with the bids and won quantities summed up.
+ */
+public final class RoundFlightRecorder {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private static final int FIRST_ROUND = 0;
+    private static final int ROUNDS = 1;
+    private static final int OWN_BID = 2;
+    private static final int OTHER_BID = 3;
+    private static final int OWN_WON = 4;
+    private static final int OTHER_WON = 5;
+    private static final int OWN_CASH = 6;
+    private static final int OTHER_CASH = 7;
+    private static final int STRIDE = 8;
+
+    private final int[] entries;
+    private final int capacity;
+    private int next;           // Slot of the next entry
+    private long recorded;      // Number of entries recorded since the last clear
+
+    /**
+     * @param capacity number of entries kept
+     */
+    public RoundFlightRecorder(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be > 0");
+        }
+        this.capacity = capacity;
+        this.entries = new int[capacity * STRIDE];
+    }
+
+    /**
+     * Records a settled round, overwriting the oldest entry once full
+     *
+     * @param firstRound index of the (first) round, starting at 0
+     * @param rounds     number of rounds covered by the entry
+     * @param ownCash    cash of the own bidder after the settlement
+     * @param otherCash  cash of the other bidder after the settlement
+     */
+    public void record(int firstRound, int rounds, int ownBid, int otherBid, int ownWon, int otherWon, int ownCash, int otherCash) {
+        int base = next * STRIDE;
+        entries[base + FIRST_ROUND] = firstRound;
+        entries[base + ROUNDS] = rounds;
+        entries[base + OWN_BID] = ownBid;
+        entries[base + OTHER_BID] = otherBid;
+        entries[base + OWN_WON] = ownWon;
+        entries[base + OTHER_WON] = otherWon;
+        entries[base + OWN_CASH] = ownCash;
+        entries[base + OTHER_CASH] = otherCash;
+        next = next + 1 == capacity ? 0 : next + 1;
+        recorded++;
+    }
+
+    public void clear() {
+        next = 0;
+        recorded = 0;
+    }
+
+    /**
+     * @return number of entries currently held
+     */
+    public int size() {
+        return (int) Math.min(recorded, capacity);
+    }
+
+    /**
+     * @param index entry index, 0 being the oldest one held
+     * @return copy of the entry: first round, rounds, own bid, other bid, own won, other won, own cash, other cash
+     */
+    public int[] entry(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int base = (int) ((recorded - size() + index) % capacity) * STRIDE;
+        int[] entry = new int[STRIDE];
+        System.arraycopy(entries, base, entry, 0, STRIDE);
+        return entry;
+    }
+
+    /**
+     * @return the held entries from the oldest to the newest, one line each
+     */
+    public String dump() {
+        int size = size();
+        StringBuilder sb = new StringBuilder(64 + size * 48);
+        sb.append("Last ").append(size).append(" of ").append(recorded).append(" recorded settlements")
+                .append(System.lineSeparator())
+                .append("round(s) | bids own/other | won own/other | cash own/other");
+        for (int i = 0; i < size; i++) {
+            int base = (int) ((recorded - size + i) % capacity) * STRIDE;
+            int first = entries[base + FIRST_ROUND];
+            int rounds = entries[base + ROUNDS];
+            sb.append(System.lineSeparator()).append(first + 1);
+            if (rounds > 1) {
+                sb.append('-').append(first + rounds);
+            }
+            sb.append(" | ").append(entries[base + OWN_BID]).append('/').append(entries[base + OTHER_BID])
+                    .append(" | ").append(entries[base + OWN_WON]).append('/').append(entries[base + OTHER_WON])
+                    .append(" | ").append(entries[base + OWN_CASH]).append('/').append(entries[base + OTHER_CASH]);
+        }
+        return sb.toString();
+    }
+}
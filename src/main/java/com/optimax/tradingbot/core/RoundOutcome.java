@@ -0,0 +1,12 @@
+package com.optimax.tradingbot.core;
+
+/**
+ * The settled result of a single round, shared by the bidders and the auction state.
+ *
+ * @param ownBid            the bid placed by the "own" bidder
+ * @param otherBid          the bid placed by the "other" bidder
+ * @param ownWonQuantity    the quantity won by the "own" bidder
+ * @param otherWonQuantity  the quantity won by the "other" bidder
+ */
+public record RoundOutcome(int ownBid, int otherBid, int ownWonQuantity, int otherWonQuantity) {
+}
@@ -0,0 +1,27 @@
+package com.optimax.tradingbot.core;
+
+import com.optimax.tradingbot.bidder.BidderWinEvaluator;
+
+import java.security.InvalidParameterException;
+
+/**
+ * Settles a round exactly once: evaluates the won quantity of each side
+ * and hands the resulting {@link RoundOutcome} to everyone who keeps track of it.
+ */
+public record RoundSettlement(BidderWinEvaluator ownWinEvaluator, BidderWinEvaluator otherWinEvaluator) {
+
+    /**
+     * @param ownBid   The bid placed by the "own" bidder.
+     * @param otherBid The bid placed by the "other" bidder.
+     * @return the outcome of the round
+     * @throws InvalidParameterException if the evaluators reject the bids
+     */
+    public RoundOutcome settle(int ownBid, int otherBid) throws InvalidParameterException {
+        return new RoundOutcome(
+                ownBid,
+                otherBid,
+                ownWinEvaluator.evaluateWonQuantity(ownBid, otherBid),
+                otherWinEvaluator.evaluateWonQuantity(otherBid, ownBid)
+        );
+    }
+}
@@ -0,0 +1,160 @@
+package com.optimax.tradingbot.core.batch;
+
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.core.AuctionState;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.springframework.lang.NonNull;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Runs thousands of auctions with the default win rule in lockstep, one lane per auction,
+ * e.g. for parameter sweeps. All the lanes share the total quantity and thus the number of rounds,
+ * the base cash may differ per lane.
+ * <p>
+ * Strategies implementing {@link BatchBidderStrategy} compute the bids of all lanes at once, and a round
+ * is settled for all lanes with one SIMD pass. Strategies without a batched implementation go through
+ * {@link #runScalar}, which plays a regular {@link Auction} per lane. Both produce identical results.
+ */
+public final class BatchAuctionSimulator {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    private final int totalQuantity;
+    private final int[] baseCash;
+
+    /**
+     * @param totalQuantity the total quantity of each auction; must be positive and even
+     * @param baseCash      the initial cash of both bidders per lane; must be non-negative
+     * @throws IllegalArgumentException if totalQuantity is not positive even number or any base cash is negative
+     */
+    public BatchAuctionSimulator(int totalQuantity, @NonNull int[] baseCash) throws IllegalArgumentException {
+        if (totalQuantity % 2 != 0 || totalQuantity <= 0) {
+            throw new IllegalArgumentException("Total Quantity must be evenly dividable by 2 and > 0");
+        }
+        for (int cash : baseCash) {
+            if (cash < 0) {
+                throw new IllegalArgumentException("Base Cash must be >= 0");
+            }
+        }
+        this.totalQuantity = totalQuantity;
+        this.baseCash = baseCash.clone();
+    }
+
+    public int lanes() {
+        return baseCash.length;
+    }
+
+    /**
+     * Plays all the lanes in lockstep. A lane is aborted, keeping its state from before the round,
+     * if any of the bidders bids more than its cash or a negative amount.
+     *
+     * @param own   the batched strategy of the own bidders
+     * @param other the batched strategy of the other bidders
+     * @return the final state of every lane
+     */
+    public BatchResult run(@NonNull BatchBidderStrategy own, @NonNull BatchBidderStrategy other) {
+        int lanes = baseCash.length;
+        if (own.lanes() != lanes || other.lanes() != lanes) {
+            throw new IllegalArgumentException("Strategies must be set up for " + lanes + " lanes");
+        }
+
+        int[] ownCash = baseCash.clone();
+        int[] otherCash = baseCash.clone();
+        int[] ownQuantity = new int[lanes];
+        int[] otherQuantity = new int[lanes];
+        int[] ownBids = new int[lanes];
+        int[] otherBids = new int[lanes];
+        boolean[] alive = new boolean[lanes];
+        Arrays.fill(alive, true);
+
+        int maxRounds = totalQuantity / 2;
+        int upperBound = INTS.loopBound(lanes);
+
+        for (int round = 1; round <= maxRounds; round++) {
+            own.nextBids(round, totalQuantity, ownCash, ownQuantity, ownBids);
+            other.nextBids(round, totalQuantity, otherCash, otherQuantity, otherBids);
+
+            int lane = 0;
+            for (; lane < upperBound; lane += INTS.length()) {
+                IntVector oc = IntVector.fromArray(INTS, ownCash, lane);
+                IntVector xc = IntVector.fromArray(INTS, otherCash, lane);
+                IntVector ob = IntVector.fromArray(INTS, ownBids, lane);
+                IntVector xb = IntVector.fromArray(INTS, otherBids, lane);
+
+                VectorMask<Integer> valid = VectorMask.fromArray(INTS, alive, lane)
+                        .and(ob.compare(VectorOperators.GE, 0))
+                        .and(ob.compare(VectorOperators.LE, oc))
+                        .and(xb.compare(VectorOperators.GE, 0))
+                        .and(xb.compare(VectorOperators.LE, xc));
+                valid.intoArray(alive, lane);
+
+                // DefaultBidderWinEvaluator: 2 for the higher bid, 1 each on a tie
+                VectorMask<Integer> ownHigher = ob.compare(VectorOperators.GT, xb);
+                VectorMask<Integer> otherHigher = xb.compare(VectorOperators.GT, ob);
+                VectorMask<Integer> tie = ob.compare(VectorOperators.EQ, xb);
+                IntVector zero = IntVector.zero(INTS);
+                IntVector ownWon = zero.blend(1, tie).blend(2, ownHigher);
+                IntVector otherWon = zero.blend(1, tie).blend(2, otherHigher);
+
+                oc.sub(ob, valid).intoArray(ownCash, lane);
+                xc.sub(xb, valid).intoArray(otherCash, lane);
+                IntVector.fromArray(INTS, ownQuantity, lane).add(ownWon, valid).intoArray(ownQuantity, lane);
+                IntVector.fromArray(INTS, otherQuantity, lane).add(otherWon, valid).intoArray(otherQuantity, lane);
+            }
+
+            for (; lane < lanes; lane++) {
+                int ob = ownBids[lane];
+                int xb = otherBids[lane];
+                if (!alive[lane] || ob < 0 || ob > ownCash[lane] || xb < 0 || xb > otherCash[lane]) {
+                    alive[lane] = false;
+                    continue;
+                }
+                ownCash[lane] -= ob;
+                otherCash[lane] -= xb;
+                ownQuantity[lane] += ob > xb ? 2 : ob == xb ? 1 : 0;
+                otherQuantity[lane] += xb > ob ? 2 : ob == xb ? 1 : 0;
+            }
+        }
+
+        boolean[] aborted = new boolean[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            aborted[lane] = !alive[lane];
+        }
+        return new BatchResult(ownCash, otherCash, ownQuantity, otherQuantity, aborted);
+    }
+
+    /**
+     * Scalar fallback for strategies without a batched implementation: plays a regular {@link Auction} per lane.
+     *
+     * @param own   creates the strategy of the own bidder for a lane
+     * @param other creates the strategy of the other bidder for a lane
+     * @return the final state of every lane
+     */
+    public BatchResult runScalar(@NonNull IntFunction<BidderStrategy> own, @NonNull IntFunction<BidderStrategy> other) {
+        int lanes = baseCash.length;
+        int[] ownCash = new int[lanes];
+        int[] otherCash = new int[lanes];
+        int[] ownQuantity = new int[lanes];
+        int[] otherQuantity = new int[lanes];
+        boolean[] aborted = new boolean[lanes];
+
+        for (int lane = 0; lane < lanes; lane++) {
+            Auction auction = new Auction(totalQuantity, baseCash[lane], own.apply(lane), other.apply(lane));
+            auction.run();
+
+            AuctionState state = auction.getAuctionState();
+            ownCash[lane] = state.getOwnBidderCash();
+            otherCash[lane] = state.getOtherBidderCash();
+            ownQuantity[lane] = state.getOwnBidderQuantityWon();
+            otherQuantity[lane] = state.getOtherBidderQuantityWon();
+            aborted[lane] = auction.isAborted();
+        }
+        return new BatchResult(ownCash, otherCash, ownQuantity, otherQuantity, aborted);
+    }
+}
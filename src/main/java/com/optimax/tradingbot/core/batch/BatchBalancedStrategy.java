@@ -0,0 +1,107 @@
+package com.optimax.tradingbot.core.batch;
+
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.utils.Pair;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+import org.springframework.lang.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * {@link BalancedBidderStrategy} over many lanes, each with its own parameters.
+ * The bids are computed with the Vector API and are bit-identical to the scalar strategy:
+ * the double arithmetic is evaluated in the same order, and {@link Math#round(double)}
+ * followed by the narrowing cast to int is reproduced exactly.
+ */
+public final class BatchBalancedStrategy implements BatchBidderStrategy {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = VectorSpecies.of(long.class, DOUBLES.vectorShape());
+    private static final VectorSpecies<Integer> INTS = VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLES.length() * Integer.SIZE));
+
+    private final BidderStrategyParameters[] params;
+    private final double[] greedMultiplier;
+    private final double[] ratioFactor;
+    private final int[] maxRounds;       // Lanes which never bid are encoded as 0
+
+    /**
+     * @param params the parameters per lane
+     */
+    public BatchBalancedStrategy(@NonNull BidderStrategyParameters[] params) {
+        int lanes = params.length;
+        this.params = params.clone();
+        this.greedMultiplier = new double[lanes];
+        this.ratioFactor = new double[lanes];
+        this.maxRounds = new int[lanes];
+
+        for (int lane = 0; lane < lanes; lane++) {
+            Pair<Integer, Integer> riskRewardRatio = params[lane].riskRewardRatio();
+            int riskRatio = riskRewardRatio.getFirst();
+            int rewardRatio = riskRewardRatio.getSecond();
+
+            greedMultiplier[lane] = BalancedBidderStrategy.greedMultiplier(params[lane].greediness());
+            if (riskRatio + rewardRatio == 0) {
+                maxRounds[lane] = 0;
+            } else {
+                ratioFactor[lane] = (double) rewardRatio / (riskRatio + rewardRatio);
+                maxRounds[lane] = params[lane].maxRounds().orElse(Integer.MAX_VALUE);
+            }
+        }
+    }
+
+    /**
+     * @return a strategy using the same parameters for all the lanes
+     */
+    public static BatchBalancedStrategy of(@NonNull BidderStrategyParameters params, int lanes) {
+        BidderStrategyParameters[] all = new BidderStrategyParameters[lanes];
+        Arrays.fill(all, params);
+        return new BatchBalancedStrategy(all);
+    }
+
+    @Override
+    public void nextBids(int round, int totalQuantity, int[] cash, int[] quantity, int[] bids) {
+        int lanes = params.length;
+        int upperBound = INTS.loopBound(lanes);
+        int halfQtyLimit = (int) (totalQuantity * 0.5);
+
+        int lane = 0;
+        for (; lane < upperBound; lane += INTS.length()) {
+            IntVector ownCash = IntVector.fromArray(INTS, cash, lane);
+
+            // ownCash * greedMultiplier * ratioFactor, in the same order as the scalar strategy
+            DoubleVector bidEstimate = ((DoubleVector) ownCash.convertShape(VectorOperators.I2D, DOUBLES, 0))
+                    .mul(DoubleVector.fromArray(DOUBLES, greedMultiplier, lane))
+                    .mul(DoubleVector.fromArray(DOUBLES, ratioFactor, lane));
+
+            // Math.round: truncate, then round up if the exact fraction is at least a half
+            LongVector truncated = (LongVector) bidEstimate.convertShape(VectorOperators.D2L, LONGS, 0);
+            DoubleVector fraction = bidEstimate.sub((DoubleVector) truncated.convertShape(VectorOperators.L2D, DOUBLES, 0));
+            LongVector rounded = truncated.add(1L, fraction.compare(VectorOperators.GE, 0.5).cast(LONGS));
+
+            IntVector bid = ((IntVector) rounded.convertShape(VectorOperators.L2I, INTS, 0))
+                    .min(halfQtyLimit - 1)
+                    .max(1)
+                    .min(ownCash);
+
+            VectorMask<Integer> noBid = ownCash.compare(VectorOperators.LE, 0)
+                    .or(IntVector.fromArray(INTS, maxRounds, lane).compare(VectorOperators.LT, round));
+            bid.blend(0, noBid).intoArray(bids, lane);
+        }
+
+        for (; lane < lanes; lane++) {
+            bids[lane] = round > maxRounds[lane] ? 0 : BalancedBidderStrategy.computeBid(params[lane], cash[lane], totalQuantity);
+        }
+    }
+
+    @Override
+    public int lanes() {
+        return params.length;
+    }
+}
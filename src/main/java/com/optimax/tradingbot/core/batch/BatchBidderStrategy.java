@@ -0,0 +1,24 @@
+package com.optimax.tradingbot.core.batch;
+
+/**
+ * Bidding strategy playing many auctions in lockstep for the {@link BatchAuctionSimulator}.
+ * Each auction is a lane, the state of all the lanes is passed in as parallel arrays.
+ */
+public interface BatchBidderStrategy {
+
+    /**
+     * Computes the bids of all the lanes for the round.
+     *
+     * @param round         The current round, starting with 1
+     * @param totalQuantity The total quantity of the auctions
+     * @param cash          The cash left per lane
+     * @param quantity      The quantity won so far per lane
+     * @param bids          Receives the bid per lane, 0 if no bid is possible
+     */
+    void nextBids(int round, int totalQuantity, int[] cash, int[] quantity, int[] bids);
+
+    /**
+     * @return number of lanes the strategy was set up for
+     */
+    int lanes();
+}
@@ -0,0 +1,89 @@
+package com.optimax.tradingbot.core.batch;
+
+import com.optimax.tradingbot.strategies.RandomBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import org.springframework.lang.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * {@link RandomBidderStrategy} over many lanes. Each lane draws from its own generator,
+ * which is the linear congruential generator of {@link java.util.Random} kept in a primitive array,
+ * so a lane bids exactly like the scalar strategy created with {@code new Random(seed)}.
+ * <p>
+ * The rejection loop of {@link java.util.Random#nextInt(int)} does not vectorize,
+ * so the lanes are processed one by one.
+ */
+public final class BatchRandomStrategy implements BatchBidderStrategy {
+
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private final long[] seeds;
+    private final int[] maxRounds;
+
+    /**
+     * @param params the parameters per lane
+     * @param seeds  the seeds per lane, as passed to {@link java.util.Random#Random(long)}
+     */
+    public BatchRandomStrategy(@NonNull BidderStrategyParameters[] params, @NonNull long[] seeds) {
+        if (params.length != seeds.length) {
+            throw new IllegalArgumentException("Parameters and seeds must have the same number of lanes");
+        }
+        this.seeds = new long[seeds.length];
+        this.maxRounds = new int[seeds.length];
+        for (int lane = 0; lane < seeds.length; lane++) {
+            this.seeds[lane] = (seeds[lane] ^ MULTIPLIER) & MASK;  // Initial scramble of java.util.Random
+            this.maxRounds[lane] = params[lane].maxRounds().orElse(Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * @return a strategy using the same parameters for all the lanes
+     */
+    public static BatchRandomStrategy of(@NonNull BidderStrategyParameters params, @NonNull long[] seeds) {
+        BidderStrategyParameters[] all = new BidderStrategyParameters[seeds.length];
+        Arrays.fill(all, params);
+        return new BatchRandomStrategy(all, seeds);
+    }
+
+    @Override
+    public void nextBids(int round, int totalQuantity, int[] cash, int[] quantity, int[] bids) {
+        int halfQtyLimit = Math.max(1, (int) (totalQuantity * 0.5) - 1);
+        for (int lane = 0; lane < seeds.length; lane++) {
+            int ownCash = cash[lane];
+            if (round > maxRounds[lane] || ownCash <= 0) {
+                bids[lane] = 0;
+                continue;
+            }
+            bids[lane] = nextInt(lane, Math.min(ownCash, halfQtyLimit)) + 1;
+        }
+    }
+
+    @Override
+    public int lanes() {
+        return seeds.length;
+    }
+
+    /**
+     * {@link java.util.Random#nextInt(int)}
+     */
+    private int nextInt(int lane, int bound) {
+        int r = next31(lane);
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return (int) ((bound * (long) r) >> 31);
+        }
+        for (int u = r; u - (r = u % bound) + m < 0; u = next31(lane)) {
+            // Reject values from the incomplete last interval
+        }
+        return r;
+    }
+
+    private int next31(int lane) {
+        long seed = (seeds[lane] * MULTIPLIER + ADDEND) & MASK;
+        seeds[lane] = seed;
+        return (int) (seed >>> (48 - 31));
+    }
+}
@@ -0,0 +1,35 @@
+package com.optimax.tradingbot.core.batch;
+
+import com.optimax.tradingbot.core.AuctionOutcome;
+
+/**
+ * Final state of a batch of auctions, one lane per auction.
+ *
+ * @param ownCash       cash left of the own bidder per lane
+ * @param otherCash     cash left of the other bidder per lane
+ * @param ownQuantity   quantity won by the own bidder per lane
+ * @param otherQuantity quantity won by the other bidder per lane
+ * @param aborted       true for the lanes which were aborted on an invalid bid
+ */
+public record BatchResult(int[] ownCash, int[] otherCash, int[] ownQuantity, int[] otherQuantity, boolean[] aborted) {
+
+    public int lanes() {
+        return ownCash.length;
+    }
+
+    /**
+     * @return the winner of the lane, {@link AuctionOutcome.Winner#UNDECIDED} if it was aborted
+     */
+    public AuctionOutcome.Winner winner(int lane) {
+        if (aborted[lane]) {
+            return AuctionOutcome.Winner.UNDECIDED;
+        }
+        if (ownQuantity[lane] > otherQuantity[lane]) {
+            return AuctionOutcome.Winner.OWN;
+        }
+        if (otherQuantity[lane] > ownQuantity[lane]) {
+            return AuctionOutcome.Winner.OTHER;
+        }
+        return AuctionOutcome.Winner.TIE;
+    }
+}
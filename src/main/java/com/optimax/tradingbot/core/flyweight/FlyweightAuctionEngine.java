@@ -0,0 +1,455 @@
+package com.optimax.tradingbot.core.flyweight;
+
+import com.optimax.tradingbot.bidder.BidderWinEvaluator;
+import com.optimax.tradingbot.core.AuctionOutcome;
+import com.optimax.tradingbot.core.AuctionState;
+import com.optimax.tradingbot.core.validation.CompositeAuctionValidator;
+import com.optimax.tradingbot.core.validation.rules.FinalQuantityExhaustionValidator;
+import com.optimax.tradingbot.core.validation.rules.NegativeCashValidator;
+import com.optimax.tradingbot.core.validation.rules.RemainingQuantityValidator;
+import com.optimax.tradingbot.exceptions.AuctionValidatorException;
+import com.optimax.tradingbot.impl.DefaultBidderWinEvaluator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Holds a large number of live two-bidder auctions at once, e.g. for market-wide what-if analysis.
+ * <p>
+ * Instead of an object graph per auction, all auction and bidder state lives in parallel primitive
+ * arrays indexed by the auction id. Strategies are kept in a small palette and referenced by a byte index,
+ * and see the bidders through {@link FlyweightBidderView}s which are repositioned from auction to auction.
+ * Only the last bids are kept as history. Each bidder has its own random generator state,
+ * see {@link FlyweightBidderView#random()}. An auction takes {@link #BYTES_PER_AUCTION} bytes.
+ * <p>
+ * The rules of {@link com.optimax.tradingbot.core.Auction} apply: a bid may not exceed the cash left,
+ * the round and final validators of the auction run on each auction, and the auction is aborted on an invalid bid,
+ * a violated rule or a failing strategy.
+ * The engine is not thread-safe.
+ */
+public final class FlyweightAuctionEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(FlyweightAuctionEngine.class);
+
+    /**
+     * Size of the per-auction state: 8 ints, 2 longs and 3 bytes
+     */
+    public static final int BYTES_PER_AUCTION = 8 * Integer.BYTES + 2 * Long.BYTES + 3;
+
+    private static final int MAX_STRATEGIES = 256;
+
+    // Same rules as Auction, checked on a probe state loaded from the arrays
+    private static final CompositeAuctionValidator ROUND_VALIDATORS = new CompositeAuctionValidator(List.of(
+            new NegativeCashValidator(),
+            new RemainingQuantityValidator()
+    ));
+    private static final CompositeAuctionValidator FINAL_VALIDATORS = new CompositeAuctionValidator(List.of(
+            new FinalQuantityExhaustionValidator()
+    ));
+
+    public enum Status {
+        RUNNING,
+        FINISHED,
+        ABORTED,
+    }
+
+    private static final Status[] STATUSES = Status.values();
+
+    private final BidderWinEvaluator winEvaluator;
+    private final FlyweightStrategy[] palette = new FlyweightStrategy[MAX_STRATEGIES];
+    private int strategies;
+
+    // Per-auction state, indexed by the auction id
+    private final int[] totalQuantity;
+    private final int[] ownCash;
+    private final int[] otherCash;
+    private final int[] ownQuantity;
+    private final int[] otherQuantity;
+    private final int[] roundsPlayed;
+    private final int[] lastOwnBid;
+    private final int[] lastOtherBid;
+    private final long[] ownRandom;
+    private final long[] otherRandom;
+    private final byte[] ownStrategy;
+    private final byte[] otherStrategy;
+    private final byte[] status;
+    private int size;
+
+    private final FlyweightBidderView ownView = new FlyweightBidderView(this, true);
+    private final FlyweightBidderView otherView = new FlyweightBidderView(this, false);
+    private final ProbeState probe = new ProbeState();
+
+    /**
+     * @param capacity maximum number of auctions held at once
+     */
+    public FlyweightAuctionEngine(int capacity) {
+        this(capacity, DefaultBidderWinEvaluator.INSTANCE);
+    }
+
+    /**
+     * @param capacity     maximum number of auctions held at once
+     * @param winEvaluator the evaluator deciding the won quantity of each round; must be stateless
+     */
+    public FlyweightAuctionEngine(int capacity, @NonNull BidderWinEvaluator winEvaluator) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be > 0");
+        }
+        this.winEvaluator = winEvaluator;
+        this.totalQuantity = new int[capacity];
+        this.ownCash = new int[capacity];
+        this.otherCash = new int[capacity];
+        this.ownQuantity = new int[capacity];
+        this.otherQuantity = new int[capacity];
+        this.roundsPlayed = new int[capacity];
+        this.lastOwnBid = new int[capacity];
+        this.lastOtherBid = new int[capacity];
+        this.ownRandom = new long[capacity];
+        this.otherRandom = new long[capacity];
+        this.ownStrategy = new byte[capacity];
+        this.otherStrategy = new byte[capacity];
+        this.status = new byte[capacity];
+    }
+
+    /**
+     * Adds a strategy to the palette.
+     *
+     * @return the palette index to pass to {@link #add}
+     * @throws IllegalStateException if the palette is full
+     */
+    public int registerStrategy(@NonNull FlyweightStrategy strategy) {
+        if (strategies == MAX_STRATEGIES) {
+            throw new IllegalStateException("No more than " + MAX_STRATEGIES + " strategies can be registered");
+        }
+        palette[strategies] = strategy;
+        return strategies++;
+    }
+
+    /**
+     * Adds a new auction with randomly seeded generators.
+     *
+     * @param totalQuantity the total quantity available to each bidder; must be positive and even
+     * @param baseCash      the initial cash each bidder has; must be non-negative
+     * @param ownStrategy   palette index of the own bidder's strategy
+     * @param otherStrategy palette index of the other bidder's strategy
+     * @return the id of the auction
+     * @throws IllegalArgumentException if the parameters are invalid
+     * @throws IllegalStateException    if the engine is full
+     */
+    public int add(int totalQuantity, int baseCash, int ownStrategy, int otherStrategy) throws IllegalArgumentException {
+        ThreadLocalRandom seeds = ThreadLocalRandom.current();
+        return add(totalQuantity, baseCash, ownStrategy, otherStrategy, seeds.nextLong(), seeds.nextLong());
+    }
+
+    /**
+     * Adds a new auction whose bidders draw the numbers of {@code new Random(ownSeed)} and {@code new Random(otherSeed)}.
+     *
+     * @param totalQuantity the total quantity available to each bidder; must be positive and even
+     * @param baseCash      the initial cash each bidder has; must be non-negative
+     * @param ownStrategy   palette index of the own bidder's strategy
+     * @param otherStrategy palette index of the other bidder's strategy
+     * @param ownSeed       seed of the own bidder's generator
+     * @param otherSeed     seed of the other bidder's generator
+     * @return the id of the auction
+     * @throws IllegalArgumentException if the parameters are invalid
+     * @throws IllegalStateException    if the engine is full
+     */
+    public int add(int totalQuantity, int baseCash, int ownStrategy, int otherStrategy,
+                   long ownSeed, long otherSeed) throws IllegalArgumentException {
+        if (totalQuantity % 2 != 0 || totalQuantity <= 0) {
+            throw new IllegalArgumentException("Total Quantity must be evenly dividable by 2 and > 0");
+        }
+        if (baseCash < 0) {
+            throw new IllegalArgumentException("Base Cash must be >= 0");
+        }
+        if (ownStrategy < 0 || ownStrategy >= strategies || otherStrategy < 0 || otherStrategy >= strategies) {
+            throw new IllegalArgumentException("Unknown strategy index");
+        }
+        if (size == this.totalQuantity.length) {
+            throw new IllegalStateException("Engine is full");
+        }
+
+        int id = size++;
+        this.totalQuantity[id] = totalQuantity;
+        this.ownCash[id] = baseCash;
+        this.otherCash[id] = baseCash;
+        this.ownQuantity[id] = 0;
+        this.otherQuantity[id] = 0;
+        this.roundsPlayed[id] = 0;
+        this.lastOwnBid[id] = 0;
+        this.lastOtherBid[id] = 0;
+        this.ownRandom[id] = FlyweightRandom.initialState(ownSeed);
+        this.otherRandom[id] = FlyweightRandom.initialState(otherSeed);
+        this.ownStrategy[id] = (byte) ownStrategy;
+        this.otherStrategy[id] = (byte) otherStrategy;
+        this.status[id] = (byte) Status.RUNNING.ordinal();
+        return id;
+    }
+
+    /**
+     * Plays the next round of every running auction.
+     *
+     * @return number of auctions still running
+     */
+    public int playRound() {
+        int running = 0;
+        for (int id = 0; id < size; id++) {
+            if (status[id] == Status.RUNNING.ordinal() && playRound(id)) {
+                running++;
+            }
+        }
+        return running;
+    }
+
+    /**
+     * Plays rounds until no auction is running anymore.
+     */
+    public void runAll() {
+        while (playRound() > 0) {
+            // Keep going
+        }
+    }
+
+    /**
+     * Plays the next round of a single auction.
+     *
+     * @return true if the auction is still running afterwards
+     */
+    public boolean playRound(int id) {
+        if (status[id] != Status.RUNNING.ordinal()) {
+            return false;
+        }
+        int round = roundsPlayed[id] + 1;
+
+        int ownBid;
+        int otherBid;
+        int ownWon;
+        int otherWon;
+        try {
+            ownBid = palette[ownStrategy[id] & 0xFF].nextBid(ownView.at(id), otherView.at(id), round);
+            otherBid = palette[otherStrategy[id] & 0xFF].nextBid(otherView, ownView, round);
+            if (ownBid < 0 || ownBid > ownCash[id] || otherBid < 0 || otherBid > otherCash[id]) {
+                log.debug("Auction {} aborted: invalid bids {} against {}", id, ownBid, otherBid);
+                status[id] = (byte) Status.ABORTED.ordinal();
+                return false;
+            }
+            ownWon = winEvaluator.evaluateWonQuantity(ownBid, otherBid);
+            otherWon = winEvaluator.evaluateWonQuantity(otherBid, ownBid);
+        } catch (RuntimeException e) {
+            log.debug("Auction {} aborted: {}", id, e.getMessage());
+            status[id] = (byte) Status.ABORTED.ordinal();
+            return false;
+        }
+
+        ownCash[id] -= ownBid;
+        otherCash[id] -= otherBid;
+        ownQuantity[id] += ownWon;
+        otherQuantity[id] += otherWon;
+        lastOwnBid[id] = ownBid;
+        lastOtherBid[id] = otherBid;
+        roundsPlayed[id] = round;
+
+        boolean last = round == totalQuantity[id] / 2;
+        try {
+            loadProbe(id);
+            ROUND_VALIDATORS.validate(probe);
+            if (last) {
+                FINAL_VALIDATORS.validate(probe);
+            }
+        } catch (AuctionValidatorException e) {
+            log.debug("Auction {} aborted in round {}: {}", id, round, e.getMessage());
+            status[id] = (byte) Status.ABORTED.ordinal();
+            return false;
+        }
+
+        if (last) {
+            status[id] = (byte) Status.FINISHED.ordinal();
+            return false;
+        }
+        return true;
+    }
+
+    private void loadProbe(int id) {
+        probe.load(totalQuantity[id], ownCash[id], otherCash[id], ownQuantity[id], otherQuantity[id], remainingQuantity(id));
+    }
+
+    /**
+     * Drops all the auctions, keeping the strategy palette.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return totalQuantity.length;
+    }
+
+    public Status status(int id) {
+        return STATUSES[status[id]];
+    }
+
+    /**
+     * @return the winner of a finished auction, {@link AuctionOutcome.Winner#UNDECIDED} otherwise
+     */
+    public AuctionOutcome.Winner winner(int id) {
+        if (status[id] != Status.FINISHED.ordinal()) {
+            return AuctionOutcome.Winner.UNDECIDED;
+        }
+        if (ownQuantity[id] > otherQuantity[id]) {
+            return AuctionOutcome.Winner.OWN;
+        }
+        if (otherQuantity[id] > ownQuantity[id]) {
+            return AuctionOutcome.Winner.OTHER;
+        }
+        return AuctionOutcome.Winner.TIE;
+    }
+
+    public int totalQuantity(int id) {
+        return totalQuantity[id];
+    }
+
+    public int ownCash(int id) {
+        return ownCash[id];
+    }
+
+    public int otherCash(int id) {
+        return otherCash[id];
+    }
+
+    public int ownQuantity(int id) {
+        return ownQuantity[id];
+    }
+
+    public int otherQuantity(int id) {
+        return otherQuantity[id];
+    }
+
+    public int remainingQuantity(int id) {
+        return totalQuantity[id] - ownQuantity[id] - otherQuantity[id];
+    }
+
+    public int roundsPlayed(int id) {
+        return roundsPlayed[id];
+    }
+
+    public int lastOwnBid(int id) {
+        return lastOwnBid[id];
+    }
+
+    public int lastOtherBid(int id) {
+        return lastOtherBid[id];
+    }
+
+    long randomState(int id, boolean own) {
+        return own ? ownRandom[id] : otherRandom[id];
+    }
+
+    void setRandomState(int id, boolean own, long state) {
+        if (own) {
+            ownRandom[id] = state;
+        } else {
+            otherRandom[id] = state;
+        }
+    }
+
+    /**
+     * Auction state held in plain int fields, so loading it every round allocates nothing,
+     * unlike the setters of {@link AuctionState} which box the values into new pairs
+     */
+    private static final class ProbeState extends AuctionState {
+
+        private int totalInitialQuantity;
+        private int initialBaseCash;            // Not kept by the engine, and not read by the built-in rules
+        private int ownBidderCash;
+        private int otherBidderCash;
+        private int ownBidderQuantityWon;
+        private int otherBidderQuantityWon;
+        private int remainingQuantity;
+
+        ProbeState() {
+            super(0, 0);
+        }
+
+        void load(int totalInitialQuantity, int ownBidderCash, int otherBidderCash,
+                  int ownBidderQuantityWon, int otherBidderQuantityWon, int remainingQuantity) {
+            this.totalInitialQuantity = totalInitialQuantity;
+            this.ownBidderCash = ownBidderCash;
+            this.otherBidderCash = otherBidderCash;
+            this.ownBidderQuantityWon = ownBidderQuantityWon;
+            this.otherBidderQuantityWon = otherBidderQuantityWon;
+            this.remainingQuantity = remainingQuantity;
+        }
+
+        @Override
+        public int getOwnBidderCash() {
+            return ownBidderCash;
+        }
+
+        @Override
+        public int getOtherBidderCash() {
+            return otherBidderCash;
+        }
+
+        @Override
+        public int getOwnBidderQuantityWon() {
+            return ownBidderQuantityWon;
+        }
+
+        @Override
+        public int getOtherBidderQuantityWon() {
+            return otherBidderQuantityWon;
+        }
+
+        @Override
+        public int getRemainingQuantity() {
+            return remainingQuantity;
+        }
+
+        @Override
+        public int getTotalInitialQuantity() {
+            return totalInitialQuantity;
+        }
+
+        @Override
+        public int getInitialBaseCash() {
+            return initialBaseCash;
+        }
+
+        @Override
+        public void reset(int totalInitialQuantity, int initialBaseCash) {
+            this.initialBaseCash = initialBaseCash;
+            load(totalInitialQuantity, initialBaseCash, initialBaseCash, 0, 0, totalInitialQuantity);
+        }
+
+        @Override
+        public void setOwnBidderCurrentCash(int cash) {
+            ownBidderCash = cash;
+        }
+
+        @Override
+        public void setOtherBidderCurrentCash(int cash) {
+            otherBidderCash = cash;
+        }
+
+        @Override
+        public void setOwnBidderCurrentQuantityWon(int quantity) {
+            ownBidderQuantityWon = quantity;
+        }
+
+        @Override
+        public void setOtherBidderCurrentQuantityWon(int quantity) {
+            otherBidderQuantityWon = quantity;
+        }
+
+        @Override
+        public void setRemainingQuantity(int remainingQuantity) {
+            this.remainingQuantity = remainingQuantity;
+        }
+    }
+}
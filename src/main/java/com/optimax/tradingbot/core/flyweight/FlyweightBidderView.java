@@ -0,0 +1,81 @@
+package com.optimax.tradingbot.core.flyweight;
+
+import com.optimax.tradingbot.bidder.BidderState;
+
+import java.util.Random;
+
+/**
+ * {@link BidderState} view over one side of an auction stored in a {@link FlyweightAuctionEngine}.
+ * The view is repositioned from auction to auction by the engine, so it must not be retained.
+ */
+public final class FlyweightBidderView implements BidderState {
+
+    private final FlyweightAuctionEngine engine;
+    private final boolean own;
+    private final String id;
+    private final FlyweightRandom random = new FlyweightRandom(this);
+    private int auction;
+
+    FlyweightBidderView(FlyweightAuctionEngine engine, boolean own) {
+        this.engine = engine;
+        this.own = own;
+        this.id = own ? "own" : "other";
+    }
+
+    FlyweightBidderView at(int auction) {
+        this.auction = auction;
+        return this;
+    }
+
+    @Override
+    public int getQuantity() {
+        return own ? engine.ownQuantity(auction) : engine.otherQuantity(auction);
+    }
+
+    @Override
+    public int cash() {
+        return own ? engine.ownCash(auction) : engine.otherCash(auction);
+    }
+
+    /**
+     * @return "own" or "other", the side of the auction this view is on
+     */
+    @Override
+    public String id() {
+        return id;
+    }
+
+    @Override
+    public int totalQuantity() {
+        return engine.totalQuantity(auction);
+    }
+
+    /**
+     * @return the bid of this bidder in the last round, 0 before the first round
+     */
+    public int lastBid() {
+        return own ? engine.lastOwnBid(auction) : engine.lastOtherBid(auction);
+    }
+
+    /**
+     * @return the random generator of this bidder in the current auction, only valid during the call
+     */
+    public Random random() {
+        return random;
+    }
+
+    long randomState() {
+        return engine.randomState(auction, own);
+    }
+
+    void setRandomState(long state) {
+        engine.setRandomState(auction, own, state);
+    }
+
+    /**
+     * @return the id of the auction the view currently points to
+     */
+    public int auction() {
+        return auction;
+    }
+}
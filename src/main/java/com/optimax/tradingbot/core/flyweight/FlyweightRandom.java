@@ -0,0 +1,36 @@
+package com.optimax.tradingbot.core.flyweight;
+
+import java.util.Random;
+
+/**
+ * {@link Random} view over the generator state of one bidder of an auction stored in a {@link FlyweightAuctionEngine}.
+ * The state is the 48-bit seed of {@link Random}, kept in the engine per auction and side, so an auction added with
+ * a seed draws exactly the numbers of {@code new Random(seed)}. Repositioned along with its {@link FlyweightBidderView},
+ * so it must not be retained either. {@link #nextGaussian()} keeps its spare value in the view, not per auction.
+ */
+final class FlyweightRandom extends Random {
+
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private final transient FlyweightBidderView view;
+
+    FlyweightRandom(FlyweightBidderView view) {
+        this.view = view;
+    }
+
+    /**
+     * @return the generator state of {@code new Random(seed)}
+     */
+    static long initialState(long seed) {
+        return (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    protected int next(int bits) {
+        long state = (view.randomState() * MULTIPLIER + ADDEND) & MASK;
+        view.setRandomState(state);
+        return (int) (state >>> (48 - bits));
+    }
+}
@@ -0,0 +1,44 @@
+package com.optimax.tradingbot.core.flyweight;
+
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.GodlikeBidderStrategy;
+import com.optimax.tradingbot.strategies.RandomBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import org.springframework.lang.NonNull;
+
+import java.util.OptionalInt;
+
+/**
+ * Flyweight versions of the built-in strategies, bidding exactly like their
+ * {@link com.optimax.tradingbot.bidder.BidderStrategy} counterparts.
+ * The random ones draw from the generator of their bidder, so an auction added with a seed bids like the strategy
+ * built with {@code new Random(seed)}.
+ */
+public final class FlyweightStrategies {
+
+    private FlyweightStrategies() {
+    }
+
+    public static FlyweightStrategy balanced(@NonNull BidderStrategyParameters params) {
+        return (own, opponent, round) -> isOver(params, round)
+                ? 0
+                : BalancedBidderStrategy.computeBid(params, own.cash(), own.totalQuantity());
+    }
+
+    public static FlyweightStrategy random(@NonNull BidderStrategyParameters params) {
+        return (own, opponent, round) -> isOver(params, round)
+                ? 0
+                : RandomBidderStrategy.computeBid(own.random(), own.cash(), own.totalQuantity());
+    }
+
+    public static FlyweightStrategy godlike(@NonNull BidderStrategyParameters params) {
+        return (own, opponent, round) -> isOver(params, round)
+                ? 0
+                : GodlikeBidderStrategy.computeBid(own.random(), own.cash(), own.totalQuantity(), opponent.lastBid());
+    }
+
+    private static boolean isOver(BidderStrategyParameters params, int round) {
+        OptionalInt maxRounds = params.maxRounds();
+        return maxRounds.isPresent() && round > maxRounds.getAsInt();
+    }
+}
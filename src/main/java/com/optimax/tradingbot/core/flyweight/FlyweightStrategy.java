@@ -0,0 +1,20 @@
+package com.optimax.tradingbot.core.flyweight;
+
+/**
+ * Bidding strategy for the {@link FlyweightAuctionEngine}.
+ * <p>
+ * A single instance serves every auction it is assigned to, so it must not keep any per-auction state:
+ * everything it may need is passed in through the flyweight views and the round number.
+ */
+@FunctionalInterface
+public interface FlyweightStrategy {
+
+    /**
+     * @param own      The POV bidder, only valid during the call
+     * @param opponent The opposing bidder, only valid during the call
+     * @param round    The current round, starting with 1
+     * @return
+     *          the bid, 0 if no bid is possible
+     */
+    int nextBid(FlyweightBidderView own, FlyweightBidderView opponent, int round);
+}
@@ -0,0 +1,179 @@
+package com.optimax.tradingbot.core.scheduling;
+
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.utils.HashedTimerWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Paces the rounds of many auctions on the wall clock with a handful of threads instead of one sleeping thread per auction.
+ * <p>
+ * Round openings and bid deadlines of all auctions are kept in a {@link HashedTimerWheel} advanced by a single timer thread.
+ * The events expiring in a tick are split into one batch per worker thread, which plays the rounds,
+ * so the hand-over costs one task per worker and tick rather than one per event.
+ */
+public class AuctionScheduler implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AuctionScheduler.class);
+
+    private final HashedTimerWheel wheel;
+    private final ExecutorService workers;     // null when the events run on the timer thread
+    private final AuctionSchedulerListener listener;
+    private final int workerThreads;
+    private final List<ScheduledAuction> expired = new ArrayList<>();  // Events of the current tick, timer thread only
+    private final Set<ScheduledAuction> live = ConcurrentHashMap.newKeySet();  // Scheduled and not completed yet
+    private final Thread timer;
+    private volatile boolean running = true;
+
+    /**
+     * @param workerThreads number of threads playing the rounds, 0 to play them on the timer thread
+     * @param tick          resolution of the timer
+     * @param wheelSize     number of timer buckets, ideally covering the longest round period in ticks
+     * @param listener      hook into the round lifecycle
+     */
+    public AuctionScheduler(int workerThreads, @NonNull Duration tick, int wheelSize, @NonNull AuctionSchedulerListener listener) {
+        if (workerThreads < 0) {
+            throw new IllegalArgumentException("Worker threads must be >= 0");
+        }
+        this.wheel = new HashedTimerWheel(tick.toNanos(), wheelSize, System.nanoTime());
+        this.listener = listener;
+        this.workerThreads = workerThreads;
+
+        AtomicInteger workerIndex = new AtomicInteger();
+        this.workers = workerThreads == 0 ? null : Executors.newFixedThreadPool(workerThreads, r -> {
+            Thread thread = new Thread(r, "auction-scheduler-worker-" + workerIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.timer = new Thread(this::drive, "auction-scheduler-timer");
+        this.timer.setDaemon(true);
+        this.timer.start();
+    }
+
+    /**
+     * Schedules the auction with its first round opening right away
+     */
+    public ScheduledAuction schedule(@NonNull Auction auction, @NonNull RoundCadence cadence) {
+        return schedule(auction, cadence, Duration.ZERO);
+    }
+
+    /**
+     * Schedules the auction. It must not be run by anyone else until its completion.
+     *
+     * @param auction      auction to be played round by round
+     * @param cadence      pacing of the rounds
+     * @param initialDelay time until the first round opens
+     * @return handle to await or cancel the auction with
+     */
+    public ScheduledAuction schedule(@NonNull Auction auction, @NonNull RoundCadence cadence, @NonNull Duration initialDelay) {
+        if (!running) {
+            throw new IllegalStateException("Scheduler is closed");
+        }
+        ScheduledAuction scheduled = new ScheduledAuction(this, auction, cadence, System.nanoTime() + initialDelay.toNanos());
+        live.add(scheduled);
+        scheduled.completion().whenComplete((result, failure) -> live.remove(scheduled));
+        scheduled.start();
+        return scheduled;
+    }
+
+    /**
+     * Stops the timer and waits for the workers to finish their events. Auctions still scheduled are not played further,
+     * they are concluded as far as they have been played and their {@link ScheduledAuction#completion()} is cancelled.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(timer);
+        try {
+            timer.join();
+            if (workers != null) {
+                workers.shutdownNow();
+                while (!workers.awaitTermination(1, TimeUnit.SECONDS)) {
+                    log.warn("Waiting for the scheduler workers to finish their events");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // No event runs any more, the auctions are only touched by this thread
+        for (ScheduledAuction scheduled : live) {
+            scheduled.abandon();
+        }
+    }
+
+    AuctionSchedulerListener listener() {
+        return listener;
+    }
+
+    /**
+     * Schedules the next event of an auction
+     */
+    HashedTimerWheel.Timeout schedule(Runnable expire, long deadlineNanos) {
+        return wheel.schedule(expire, deadlineNanos);
+    }
+
+    /**
+     * Collects an expired event, on the timer thread
+     */
+    void expired(ScheduledAuction auction) {
+        expired.add(auction);
+    }
+
+    private void drive() {
+        while (running) {
+            try {
+                wheel.advanceTo(System.nanoTime());
+            } catch (RuntimeException e) {
+                log.error("Scheduled auction event failed: {}", e.getMessage());
+            }
+            if (!expired.isEmpty()) {
+                dispatch();
+            }
+            LockSupport.parkNanos(wheel.nanosUntilNextTick(System.nanoTime()));
+        }
+    }
+
+    private void dispatch() {
+        if (workers == null) {
+            fire(expired);
+            expired.clear();
+            return;
+        }
+        int batches = Math.min(workerThreads, expired.size());
+        int batchSize = (expired.size() + batches - 1) / batches;
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            List<ScheduledAuction> batch = List.copyOf(expired.subList(from, Math.min(from + batchSize, expired.size())));
+            try {
+                workers.execute(() -> fire(batch));
+            } catch (RejectedExecutionException e) {
+                log.debug("Dropping auction events, scheduler is closed");
+            }
+        }
+        expired.clear();
+    }
+
+    private void fire(List<ScheduledAuction> batch) {
+        for (ScheduledAuction auction : batch) {
+            listener.onEventFired(System.nanoTime() - auction.deadlineNanos());
+            try {
+                auction.fire();
+            } catch (RuntimeException e) {
+                log.error("Scheduled auction event failed: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.optimax.tradingbot.core.scheduling;
+
+import com.optimax.tradingbot.core.Auction;
+
+/**
+ * Hooks into the round lifecycle of scheduled auctions. Called from the scheduler's worker threads,
+ * so implementations have to be thread-safe and should return quickly.
+ */
+public interface AuctionSchedulerListener {
+
+    AuctionSchedulerListener NONE = new AuctionSchedulerListener() {
+    };
+
+    /**
+     * Fired when a round opens for bidding
+     *
+     * @param auction the auction
+     * @param round   index of the round, starting at 0
+     */
+    default void onRoundOpened(Auction auction, int round) {
+    }
+
+    /**
+     * Fired for every scheduled event once it runs
+     *
+     * @param latenessNanos time between the deadline of the event and the moment it actually ran
+     */
+    default void onEventFired(long latenessNanos) {
+    }
+}
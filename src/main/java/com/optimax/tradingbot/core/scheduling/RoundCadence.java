@@ -0,0 +1,26 @@
+package com.optimax.tradingbot.core.scheduling;
+
+import java.time.Duration;
+
+/**
+ * Wall-clock pacing of the rounds of a scheduled auction.
+ * A round opens every {@code period} and its bids are due {@code bidWindow} after it opened,
+ * when they are collected and the round is settled.
+ *
+ * @param period    time between the openings of two rounds
+ * @param bidWindow time the bidders have to bid after a round opened, at most the period
+ */
+public record RoundCadence(Duration period, Duration bidWindow) {
+
+    public RoundCadence {
+        if (period == null || bidWindow == null) {
+            throw new IllegalArgumentException("Period and bid window must not be null");
+        }
+        if (period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Period must be > 0");
+        }
+        if (bidWindow.isNegative() || bidWindow.compareTo(period) > 0) {
+            throw new IllegalArgumentException("Bid window must be in range [0, period]");
+        }
+    }
+}
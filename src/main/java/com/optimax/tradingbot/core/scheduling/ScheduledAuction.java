@@ -0,0 +1,157 @@
+package com.optimax.tradingbot.core.scheduling;
+
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.utils.HashedTimerWheel;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An auction whose rounds are driven by an {@link AuctionScheduler}.
+ * <p>
+ * Each round is a chain of two events: the round opens, and at the bid deadline the bids are collected
+ * and the round is settled, which schedules the opening of the next round. Only one event of an auction
+ * is pending at a time, so the auction is never touched by two threads at once.
+ */
+public final class ScheduledAuction {
+
+    private final AuctionScheduler scheduler;
+    private final Auction auction;
+    private final RoundCadence cadence;
+    private final long startNanos;
+    private final CompletableFuture<Auction> completion = new CompletableFuture<>();
+
+    private final Runnable expire = this::expire;   // Allocated once, each event only allocates its timeout
+
+    private volatile HashedTimerWheel.Timeout pending;
+    private volatile boolean cancelled;
+    private boolean open;                           // The pending event is the bid deadline of the current round
+    private int round;
+
+    ScheduledAuction(AuctionScheduler scheduler, Auction auction, RoundCadence cadence, long startNanos) {
+        this.scheduler = scheduler;
+        this.auction = auction;
+        this.cadence = cadence;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * @return completes with the auction once it is finished, check {@link Auction#isAborted()} for the result
+     */
+    public CompletableFuture<Auction> completion() {
+        return completion;
+    }
+
+    public Auction auction() {
+        return auction;
+    }
+
+    /**
+     * Stops the auction before its next event. The auction is concluded as far as it has been played
+     * and {@link #completion()} is cancelled.
+     *
+     * @return false if the auction was already finished or cancelled
+     */
+    public boolean cancel() {
+        if (cancelled || completion.isDone()) {
+            return false;
+        }
+        cancelled = true;
+        HashedTimerWheel.Timeout timeout = pending;
+        if (timeout != null && timeout.cancel()) {
+            conclude(true);
+        }
+        // Otherwise the running event sees the flag and concludes the auction
+        return true;
+    }
+
+    /**
+     * Concludes the auction as if cancelled, once its scheduler is closed and no event of it runs any more
+     */
+    void abandon() {
+        if (completion.isDone()) {
+            return;
+        }
+        cancelled = true;
+        conclude(true);
+    }
+
+    void start() {
+        schedule(roundOpening());
+    }
+
+    /**
+     * @return deadline of the pending event in {@link System#nanoTime()} terms
+     */
+    long deadlineNanos() {
+        return pending.deadlineNanos();
+    }
+
+    /**
+     * Runs the pending event, on a worker thread
+     */
+    void fire() {
+        if (open) {
+            settleRound();
+        } else {
+            openRound();
+        }
+    }
+
+    private void expire() {
+        scheduler.expired(this);
+    }
+
+    private long roundOpening() {
+        return startNanos + round * cadence.period().toNanos();
+    }
+
+    private void openRound() {
+        if (cancelled) {
+            conclude(true);
+            return;
+        }
+        scheduler.listener().onRoundOpened(auction, round);
+        open = true;
+        schedule(roundOpening() + cadence.bidWindow().toNanos());
+    }
+
+    private void settleRound() {
+        if (cancelled) {
+            conclude(true);
+            return;
+        }
+        boolean roundsLeft;
+        try {
+            roundsLeft = auction.playNextRound();
+        } catch (RuntimeException e) {
+            auction.finish();
+            completion.completeExceptionally(e);
+            return;
+        }
+        if (!roundsLeft) {
+            conclude(false);
+            return;
+        }
+        round++;
+        open = false;
+        schedule(roundOpening());
+    }
+
+    private void schedule(long deadlineNanos) {
+        HashedTimerWheel.Timeout timeout = scheduler.schedule(expire, deadlineNanos);
+        pending = timeout;
+        // A cancel racing with the event which scheduled this one may have missed the new timeout
+        if (cancelled && timeout.cancel()) {
+            conclude(true);
+        }
+    }
+
+    private void conclude(boolean cancel) {
+        auction.finish();
+        if (cancel) {
+            completion.cancel(false);
+        } else {
+            completion.complete(auction);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.optimax.tradingbot.core.shadow;
+
+import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.bidder.BidderWinEvaluator;
+import com.optimax.tradingbot.core.BidderContextUpdater;
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.impl.BidderStateImpl;
+import com.optimax.tradingbot.utils.SpscLongRingBuffer;
+import org.springframework.lang.NonNull;
+
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs a candidate strategy next to the live own bidder of an auction without letting it bid.
+ * <p>
+ * The live path only publishes the settled bids of each round, packed into a single long, into a bounded ring.
+ * A shadow thread replays them into a replica of both bidder states and of the context, asks the shadow strategy
+ * for its bid on the replica before applying each round, and records how it compares in {@link ShadowMetrics}.
+ * The shadow strategy therefore never reads the live objects, which keep changing under it.
+ * <p>
+ * Shadow work is shed rather than slowing the live path down: once the ring is full or the executor rejects the work,
+ * the replica can no longer follow the auction and the shadow stops for the rest of it.
+ */
+public final class ShadowBidder {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int IDLE = -1;     // Marks a series of idle rounds instead of the own bid
+
+    private final BidderStrategy strategy;
+    private final BidderWinEvaluator winEvaluator;
+    private final ShadowExecutor executor;
+    private final ShadowMetrics metrics;
+
+    private final SpscLongRingBuffer rounds;
+    private final AtomicBoolean scheduled = new AtomicBoolean();   // A drain is queued or running
+    private final Runnable drain = this::drain;
+    private boolean dropped;                                         // Live thread only
+
+    // Replica of the auction, shadow thread only
+    private final BidderContext context = new BidderContext();
+    private int replayedRounds;             // Rounds replayed, numbering the rounds reported to the shadow strategy
+    private final BidderStateImpl ownState;
+    private final BidderStateImpl otherState;
+
+    /**
+     * Copies the live states, so it has to be created before the first round is played.
+     *
+     * @param strategy     initialized shadow strategy, not shared with any live bidder
+     * @param liveOwn      state of the live bidder being shadowed
+     * @param liveOther    state of its opponent
+     * @param winEvaluator evaluator of the auction
+     * @param executor     pool running the shadow work
+     * @param metrics      metrics to record into
+     * @param capacity     number of rounds the shadow may lag behind the live auction
+     */
+    public ShadowBidder(@NonNull BidderStrategy strategy,
+                        @NonNull BidderState liveOwn,
+                        @NonNull BidderState liveOther,
+                        @NonNull BidderWinEvaluator winEvaluator,
+                        @NonNull ShadowExecutor executor,
+                        @NonNull ShadowMetrics metrics,
+                        int capacity) {
+        this.strategy = strategy;
+        this.winEvaluator = winEvaluator;
+        this.executor = executor;
+        this.metrics = metrics;
+        this.rounds = new SpscLongRingBuffer(capacity);
+        this.ownState = copy(liveOwn);
+        this.otherState = copy(liveOther);
+        context.putState(ownState);
+        context.putState(otherState);
+    }
+
+    /**
+     * Maintains the bid queries on the replica context like on the live one. Must be called before the first round.
+     *
+     * @param window number of the last history units covered by the window queries
+     */
+    public void enableBidQueries(int window) {
+        context.enableBidQueries(window);
+    }
+
+    private static BidderStateImpl copy(BidderState state) {
+        return new BidderStateImpl(state.getQuantity(), state.totalQuantity(), state.cash(), state.id());
+    }
+
+    /**
+     * Live side. Publishes a settled round.
+     */
+    public void onRound(int ownBid, int otherBid) {
+        publish(((long) ownBid << 32) | (otherBid & 0xFFFFFFFFL), 1);
+    }
+
+    /**
+     * Live side. Publishes a series of idle rounds settled at once.
+     */
+    public void onIdleRounds(int idleRounds) {
+        publish(((long) IDLE << 32) | idleRounds, idleRounds);
+    }
+
+    /**
+     * @return true once the shadow has been dropped for this auction
+     */
+    public boolean isDropped() {
+        return dropped;
+    }
+
+    private void publish(long round, int roundCount) {
+        if (dropped) {
+            metrics.dropped(roundCount);
+            return;
+        }
+        if (!rounds.offer(round)) {
+            drop(roundCount);
+            return;
+        }
+        if (!scheduled.get() && scheduled.compareAndSet(false, true) && !executor.trySubmit(drain)) {
+            // Nobody is going to drain the ring anymore, so the rounds in it are lost as well
+            drop(rounds.size());
+        }
+    }
+
+    private void drop(int roundCount) {
+        dropped = true;
+        metrics.dropped(roundCount);
+    }
+
+    private void drain() {
+        do {
+            while (!rounds.isEmpty()) {
+                replay(rounds.poll());
+            }
+            scheduled.set(false);
+            // Only reads the ring, a drain scheduled in the meantime may already be consuming it
+        } while (rounds.size() > 0 && scheduled.compareAndSet(false, true));
+    }
+
+    private void replay(long round) {
+        int high = (int) (round >>> 32);
+        int low = (int) round;
+
+        if (high == IDLE) {
+            int tie = winEvaluator.evaluateWonQuantity(0, 0) * low;
+            ownState.increaseQuantity(tie);
+            otherState.increaseQuantity(tie);
+            BidderContextUpdater.updateBidderContextIdle(context, ownState, otherState, low);
+            replayedRounds += low;
+            return;
+        }
+
+        int liveBid = high;
+        int otherBid = low;
+        int liveWon = winEvaluator.evaluateWonQuantity(liveBid, otherBid);
+        int shadowBid = shadowBid();
+        if (shadowBid >= 0) {
+            metrics.evaluated(liveBid, shadowBid, liveWon, winEvaluator.evaluateWonQuantity(shadowBid, otherBid));
+        }
+
+        // The replica follows the live auction, whatever the shadow would have bid
+        ownState.decreaseCash(liveBid);
+        otherState.decreaseCash(otherBid);
+        ownState.increaseQuantity(liveWon);
+        otherState.increaseQuantity(winEvaluator.evaluateWonQuantity(otherBid, liveBid));
+        strategy.onRoundResult(++replayedRounds, liveBid, otherBid, liveWon);
+        strategy.finishRound();
+        BidderContextUpdater.updateBidderContext(context, ownState, otherState, liveBid, otherBid);
+    }
+
+    /**
+     * @return the shadow bid on the replica, -1 if the shadow strategy failed
+     */
+    private int shadowBid() {
+        try {
+            OptionalInt bid = strategy.nextBid(ownState, context);
+            int shadowBid = bid.orElse(0);
+            if (shadowBid < 0 || shadowBid > ownState.cash()) {
+                metrics.failed();
+                return -1;
+            }
+            return shadowBid;
+        } catch (RuntimeException e) {
+            metrics.failed();
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.optimax.tradingbot.core.shadow;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Divergence and counterfactual outcome of a shadow strategy against the live one.
+ * May be shared by the shadows of many auctions to aggregate over all of them.
+ * <p>
+ * The counterfactual quantity is what the shadow bid would have won against the live opponent bid of the same round,
+ * round by round: the opponent would likely have reacted differently, so it does not add up to an alternative auction.
+ */
+public final class ShadowMetrics {
+
+    private final LongAdder roundsEvaluated = new LongAdder();
+    private final LongAdder roundsDropped = new LongAdder();
+    private final LongAdder divergentRounds = new LongAdder();
+    private final LongAdder absoluteBidDelta = new LongAdder();
+    private final LongAdder liveCashSpent = new LongAdder();
+    private final LongAdder shadowCashSpent = new LongAdder();
+    private final LongAdder liveQuantityWon = new LongAdder();
+    private final LongAdder shadowQuantityWon = new LongAdder();
+    private final LongAdder shadowFailures = new LongAdder();
+
+    void evaluated(int liveBid, int shadowBid, int liveWon, int shadowWon) {
+        roundsEvaluated.increment();
+        if (liveBid != shadowBid) {
+            divergentRounds.increment();
+            absoluteBidDelta.add(Math.abs((long) liveBid - shadowBid));
+        }
+        liveCashSpent.add(liveBid);
+        shadowCashSpent.add(shadowBid);
+        liveQuantityWon.add(liveWon);
+        shadowQuantityWon.add(shadowWon);
+    }
+
+    void dropped(long rounds) {
+        roundsDropped.add(rounds);
+    }
+
+    void failed() {
+        shadowFailures.increment();
+    }
+
+    /**
+     * @return rounds for which the shadow strategy was asked for a bid
+     */
+    public long roundsEvaluated() {
+        return roundsEvaluated.sum();
+    }
+
+    /**
+     * @return rounds not evaluated because the shadow work was shed under load
+     */
+    public long roundsDropped() {
+        return roundsDropped.sum();
+    }
+
+    /**
+     * @return evaluated rounds in which the shadow bid differs from the live bid
+     */
+    public long divergentRounds() {
+        return divergentRounds.sum();
+    }
+
+    /**
+     * @return sum of the absolute differences between shadow and live bids
+     */
+    public long absoluteBidDelta() {
+        return absoluteBidDelta.sum();
+    }
+
+    public long liveCashSpent() {
+        return liveCashSpent.sum();
+    }
+
+    public long shadowCashSpent() {
+        return shadowCashSpent.sum();
+    }
+
+    public long liveQuantityWon() {
+        return liveQuantityWon.sum();
+    }
+
+    /**
+     * @return quantity the shadow bids would have won against the live opponent bids
+     */
+    public long shadowQuantityWon() {
+        return shadowQuantityWon.sum();
+    }
+
+    /**
+     * @return rounds in which the shadow strategy threw or bid more than the cash left
+     */
+    public long shadowFailures() {
+        return shadowFailures.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ShadowMetrics{evaluated=" + roundsEvaluated() + ", dropped=" + roundsDropped()
+                + ", divergent=" + divergentRounds() + ", bidDelta=" + absoluteBidDelta()
+                + ", spent=" + liveCashSpent() + "/" + shadowCashSpent()
+                + ", won=" + liveQuantityWon() + "/" + shadowQuantityWon()
+                + ", failures=" + shadowFailures() + "}";
+    }
+}
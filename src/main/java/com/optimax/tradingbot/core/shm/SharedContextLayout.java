@@ -0,0 +1,89 @@
+package com.optimax.tradingbot.core.shm;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixed binary layout of the file shared by {@link SharedMemoryStrategy} and {@link SharedMemoryStrategyHost},
+ * in the native byte order since both sides run on the same host.
+ * <p>
+ * Each side writes its own cache lines only: the engine the header, the request and the ids, the host the response.
+ * The sequences are written with release and read with acquire semantics, which publishes the plain fields
+ * written before them, across processes as well since both map the same pages.
+ * <pre>
+ *   0  header    magic, history capacity, epoch (bumped by each init), closed flag
+ *  64  request   sequence, own and other quantity, cash and total quantity, history count, rounds settled at once
+ * 128  response  sequence answered, bid or {@link #NO_BID}
+ * 192  ids       own and other id, length prefixed
+ * 256  history   ring of units: round, own bid, other bid, own won quantity
+ * </pre>
+ */
+final class SharedContextLayout {
+
+    static final int MAGIC = 0x42494452;
+    static final int NO_BID = -1;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int CAPACITY_OFFSET = 4;
+    static final int EPOCH_OFFSET = 8;
+    static final int CLOSED_OFFSET = 16;
+
+    static final int REQUEST_OFFSET = 64;
+    static final int OWN_QUANTITY_OFFSET = 72;
+    static final int OWN_CASH_OFFSET = 76;
+    static final int OWN_TOTAL_OFFSET = 80;
+    static final int OTHER_QUANTITY_OFFSET = 84;
+    static final int OTHER_CASH_OFFSET = 88;
+    static final int OTHER_TOTAL_OFFSET = 92;
+    static final int HISTORY_COUNT_OFFSET = 96;
+    static final int BULK_ROUNDS_OFFSET = 104;
+
+    static final int RESPONSE_OFFSET = 128;
+    static final int BID_OFFSET = 136;
+
+    static final int OWN_ID_OFFSET = 192;
+    static final int OTHER_ID_OFFSET = 224;
+    static final int MAX_ID_BYTES = 28;
+
+    static final int HISTORY_OFFSET = 256;
+    static final int UNIT_BYTES = 16;
+
+    static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private SharedContextLayout() {
+    }
+
+    static long fileSize(int historyCapacity) {
+        return HISTORY_OFFSET + (long) historyCapacity * UNIT_BYTES;
+    }
+
+    static int unitOffset(long index, int historyCapacity) {
+        return HISTORY_OFFSET + (int) (index % historyCapacity) * UNIT_BYTES;
+    }
+
+    static long getAcquire(MappedByteBuffer buffer, int offset) {
+        return (long) LONGS.getAcquire(buffer, offset);
+    }
+
+    static void setRelease(MappedByteBuffer buffer, int offset, long value) {
+        LONGS.setRelease(buffer, offset, value);
+    }
+
+    static void putId(MappedByteBuffer buffer, int offset, String id) {
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_ID_BYTES) {
+            throw new IllegalArgumentException("Bidder id longer than " + MAX_ID_BYTES + " bytes: " + id);
+        }
+        buffer.putInt(offset, bytes.length);
+        buffer.put(offset + 4, bytes);
+    }
+
+    static String getId(MappedByteBuffer buffer, int offset) {
+        byte[] bytes = new byte[buffer.getInt(offset)];
+        buffer.get(offset + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,162 @@
+package com.optimax.tradingbot.core.shm;
+
+import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.bidder.StrategyCapability;
+import com.optimax.tradingbot.exceptions.InternalStrategyException;
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import org.springframework.lang.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.optimax.tradingbot.core.shm.SharedContextLayout.*;
+
+/**
+ * Engine side of a strategy running in another process on the same host, e.g. a sidecar JVM.
+ * <p>
+ * Lays out the bidder states and the rounds played in a memory-mapped file, see {@link SharedContextLayout},
+ * which a {@link SharedMemoryStrategyHost} maps as well. Each bid is a request written into the file and answered
+ * by the host in a single slot next to it, so a bid exchange takes two cache line transfers and no system call,
+ * socket nor serialization. The engine spins for the answer, so the host should have a core of its own.
+ * <p>
+ * Only the rounds played one by one are written into the history, the rounds settled at once are counted.
+ */
+public final class SharedMemoryStrategy implements BidderStrategy, Closeable {
+
+    public static final int DEFAULT_HISTORY_CAPACITY = 4096;
+
+    private static final int SPINS_BEFORE_PARK = 10_000;
+    private static final long PARK_NANOS = 50_000;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int historyCapacity;
+    private final long timeoutNanos;
+
+    private long epoch;
+    private boolean idsWritten;         // The host reads the ids on the first request of an epoch only
+    private long requests;
+    private long historyCount;
+    private long bulkRounds;
+
+    /**
+     * Creates or overwrites the shared file
+     *
+     * @param file            file to share, best on a memory backed file system such as /dev/shm
+     * @param historyCapacity number of the last rounds kept readable by the host
+     * @param timeout         time given to the host to answer a bid request
+     */
+    public SharedMemoryStrategy(@NonNull Path file, int historyCapacity, @NonNull Duration timeout) throws IOException {
+        if (historyCapacity <= 0) {
+            throw new IllegalArgumentException("History capacity must be > 0");
+        }
+        this.historyCapacity = historyCapacity;
+        this.timeoutNanos = timeout.toNanos();
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(historyCapacity));
+        buffer.order(ByteOrder.nativeOrder());
+        buffer.putInt(CAPACITY_OFFSET, historyCapacity);
+        setRelease(buffer, EPOCH_OFFSET, 0);
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+    }
+
+    /**
+     * Starts a new epoch, on which the host initializes its strategy with its own parameters
+     */
+    @Override
+    public void init(@NonNull BidderStrategyParameters params) {
+        historyCount = 0;
+        bulkRounds = 0;
+        idsWritten = false;
+        setRelease(buffer, HISTORY_COUNT_OFFSET, 0);
+        setRelease(buffer, BULK_ROUNDS_OFFSET, 0);
+        setRelease(buffer, EPOCH_OFFSET, ++epoch);
+    }
+
+    /**
+     * Writes the states, and the ids on the first request of the epoch, publishes the request and spins until the host answers it
+     *
+     * @throws InternalStrategyException if the host does not answer in time
+     */
+    @Override
+    public OptionalInt nextBid(BidderState own, BidderContext ctx) {
+        List<BidderState> others = ctx.getFilteredStates(own.id());
+        buffer.putInt(OWN_QUANTITY_OFFSET, own.getQuantity());
+        buffer.putInt(OWN_CASH_OFFSET, own.cash());
+        buffer.putInt(OWN_TOTAL_OFFSET, own.totalQuantity());
+        if (!others.isEmpty()) {
+            BidderState other = others.getFirst();
+            buffer.putInt(OTHER_QUANTITY_OFFSET, other.getQuantity());
+            buffer.putInt(OTHER_CASH_OFFSET, other.cash());
+            buffer.putInt(OTHER_TOTAL_OFFSET, other.totalQuantity());
+        }
+        if (!idsWritten) {
+            putId(buffer, OWN_ID_OFFSET, own.id());
+            putId(buffer, OTHER_ID_OFFSET, others.isEmpty() ? "" : others.getFirst().id());
+            idsWritten = true;
+        }
+        long request = ++requests;
+        setRelease(buffer, REQUEST_OFFSET, request);
+
+        long deadline = System.nanoTime() + timeoutNanos;
+        int spins = 0;
+        while (getAcquire(buffer, RESPONSE_OFFSET) != request) {
+            if (++spins < SPINS_BEFORE_PARK) {
+                Thread.onSpinWait();
+            } else if (System.nanoTime() - deadline > 0) {
+                throw new InternalStrategyException("Shared memory strategy host did not answer bid request " + request);
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+        int bid = buffer.getInt(BID_OFFSET);
+        return bid == NO_BID ? OptionalInt.empty() : OptionalInt.of(bid);
+    }
+
+    @Override
+    public Set<StrategyCapability> capabilities() {
+        return StrategyCapability.NONE;
+    }
+
+    /**
+     * Appends the round to the shared history, read by the host along with the next request
+     */
+    @Override
+    public void onRoundResult(int round, int ownBid, int opponentBid, int wonQuantity) {
+        int offset = unitOffset(historyCount, historyCapacity);
+        buffer.putInt(offset, round);
+        buffer.putInt(offset + 4, ownBid);
+        buffer.putInt(offset + 8, opponentBid);
+        buffer.putInt(offset + 12, wonQuantity);
+        setRelease(buffer, HISTORY_COUNT_OFFSET, ++historyCount);
+    }
+
+    @Override
+    public void finishRounds(int rounds) {
+        bulkRounds += rounds;
+        setRelease(buffer, BULK_ROUNDS_OFFSET, bulkRounds);
+    }
+
+    /**
+     * Tells the host to stop and releases the file
+     */
+    @Override
+    public void close() throws IOException {
+        setRelease(buffer, CLOSED_OFFSET, 1);
+        buffer.force();
+        channel.close();
+    }
+}
@@ -0,0 +1,239 @@
+package com.optimax.tradingbot.core.shm;
+
+import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.impl.BidderHistoryUnit;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import org.springframework.lang.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.optimax.tradingbot.core.shm.SharedContextLayout.*;
+
+/**
+ * Sidecar side of a {@link SharedMemoryStrategy}, answering its bid requests with a local strategy.
+ * <p>
+ * The strategy reads the shared file in place: the states handed to it are flyweight views over the request fields,
+ * and its context holds these views and a history list reading the units of the shared ring, i.e. the last
+ * rounds up to the capacity of the file. The rounds played since the previous request are reported through
+ * {@link BidderStrategy#onRoundResult} and {@link BidderStrategy#finishRound()} before the strategy is asked for its bid,
+ * except the ones already overwritten in the ring, which only happens if more rounds than its capacity go without a request.
+ * <p>
+ * Single threaded: {@link #run()} serves the requests until the engine closes the file.
+ */
+public final class SharedMemoryStrategyHost implements Runnable, Closeable {
+
+    private static final int SPINS_BEFORE_PARK = 10_000;
+    private static final long PARK_NANOS = 50_000;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int historyCapacity;
+    private final BidderStrategy strategy;
+    private final BidderStrategyParameters params;
+
+    private final SharedBidderState ownState = new SharedBidderState(OWN_QUANTITY_OFFSET);
+    private final SharedBidderState otherState = new SharedBidderState(OTHER_QUANTITY_OFFSET);
+    private final SharedHistory history;
+    private BidderContext context;
+
+    private long epoch;
+    private long request;
+    private long historyCount;          // Units reported to the strategy
+    private long bulkRounds;            // Rounds settled at once reported to the strategy
+
+    /**
+     * @param file     file created by the {@link SharedMemoryStrategy}
+     * @param strategy strategy answering the bids, initialized with the parameters on each new epoch
+     * @param params   parameters of the strategy
+     * @throws IOException if the file cannot be mapped
+     */
+    public SharedMemoryStrategyHost(@NonNull Path file, @NonNull BidderStrategy strategy,
+                                    @NonNull BidderStrategyParameters params) throws IOException {
+        this.strategy = strategy;
+        this.params = params;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HISTORY_OFFSET);
+        header.order(ByteOrder.nativeOrder());
+        if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+            channel.close();
+            throw new IOException("Not a shared strategy file: " + file);
+        }
+        this.historyCapacity = header.getInt(CAPACITY_OFFSET);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(historyCapacity));
+        buffer.order(ByteOrder.nativeOrder());
+        this.history = new SharedHistory();
+    }
+
+    /**
+     * Serves the bid requests until the engine closes the file
+     */
+    @Override
+    public void run() {
+        int spins = 0;
+        while (getAcquire(buffer, CLOSED_OFFSET) == 0) {
+            if (serve()) {
+                spins = 0;
+            } else if (++spins < SPINS_BEFORE_PARK) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Answers the pending request, if any
+     *
+     * @return false if there was no request to answer
+     */
+    public boolean serve() {
+        long pending = getAcquire(buffer, REQUEST_OFFSET);
+        if (pending == request) {
+            return false;
+        }
+        request = pending;
+
+        long currentEpoch = getAcquire(buffer, EPOCH_OFFSET);
+        if (currentEpoch != epoch || context == null) {
+            startEpoch(currentEpoch);
+        }
+        reportRounds();
+
+        OptionalInt bid = strategy.nextBid(ownState, context);
+        buffer.putInt(BID_OFFSET, bid.isPresent() ? bid.getAsInt() : NO_BID);
+        setRelease(buffer, RESPONSE_OFFSET, pending);
+        return true;
+    }
+
+    private void startEpoch(long currentEpoch) {
+        epoch = currentEpoch;
+        historyCount = 0;
+        bulkRounds = 0;
+        ownState.id = getId(buffer, OWN_ID_OFFSET);
+        otherState.id = getId(buffer, OTHER_ID_OFFSET);
+        history.clear();
+        context = new BidderContext(() -> history);
+        context.putState(ownState);
+        if (!otherState.id.isEmpty()) {
+            context.putState(otherState);
+        }
+        strategy.init(params);
+    }
+
+    private void reportRounds() {
+        long count = getAcquire(buffer, HISTORY_COUNT_OFFSET);
+        for (long index = Math.max(historyCount, count - historyCapacity); index < count; index++) {
+            int offset = unitOffset(index, historyCapacity);
+            strategy.onRoundResult(buffer.getInt(offset), buffer.getInt(offset + 4), buffer.getInt(offset + 8),
+                    buffer.getInt(offset + 12));
+            strategy.finishRound();
+        }
+        historyCount = count;
+        history.count = count;
+        history.size = (int) Math.min(count, historyCapacity);
+
+        long bulk = getAcquire(buffer, BULK_ROUNDS_OFFSET);
+        if (bulk > bulkRounds) {
+            strategy.finishRounds((int) (bulk - bulkRounds));
+            bulkRounds = bulk;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * {@link BidderState} reading one side of the request in place
+     */
+    private final class SharedBidderState implements BidderState {
+
+        private final int offset;
+        private String id = "";                 // Read once per epoch, the ids do not change within an auction
+
+        SharedBidderState(int offset) {
+            this.offset = offset;
+        }
+
+        @Override
+        public int getQuantity() {
+            return buffer.getInt(offset);
+        }
+
+        @Override
+        public int cash() {
+            return buffer.getInt(offset + 4);
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public int totalQuantity() {
+            return buffer.getInt(offset + 8);
+        }
+    }
+
+    /**
+     * Last units of the shared ring, as of the request being answered.
+     * Each unit is decoded on its first access and kept until its slot of the ring is reused,
+     * so strategies reading the history every round allocate one unit per round, not one per read.
+     */
+    private final class SharedHistory extends AbstractList<BidderHistoryUnit> implements RandomAccess {
+
+        private final BidderHistoryUnit[] units = new BidderHistoryUnit[historyCapacity];
+        private final long[] unitIndexes = new long[historyCapacity];    // Ring index of the unit decoded into each slot
+        private long count;
+        private int size;
+
+        SharedHistory() {
+            Arrays.fill(unitIndexes, -1);
+        }
+
+        /**
+         * Drops the units of the previous epoch, which carry its bidder ids
+         */
+        @Override
+        public void clear() {
+            size = 0;
+            Arrays.fill(units, null);
+            Arrays.fill(unitIndexes, -1);
+        }
+
+        @Override
+        public BidderHistoryUnit get(int index) {
+            Objects.checkIndex(index, size);
+            long ringIndex = count - size + index;
+            int slot = (int) (ringIndex % historyCapacity);
+            if (unitIndexes[slot] != ringIndex) {
+                int offset = unitOffset(ringIndex, historyCapacity);
+                units[slot] = new BidderHistoryUnit(Map.of(ownState.id, buffer.getInt(offset + 4), otherState.id, buffer.getInt(offset + 8)));
+                unitIndexes[slot] = ringIndex;
+            }
+            return units[slot];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.optimax.tradingbot.core.validation;
 
+import com.optimax.tradingbot.bidder.BidderState;
 import com.optimax.tradingbot.bidder.BidderWinEvaluator;
 import com.optimax.tradingbot.core.AuctionState;
 import com.optimax.tradingbot.core.AuctionStateUpdater;
+import com.optimax.tradingbot.core.RoundOutcome;
 import com.optimax.tradingbot.exceptions.AuctionValidatorException;
 import com.optimax.tradingbot.impl.DefaultBidderWinEvaluator;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Verifies the bid data from the rounds
  */
@@ -34,7 +39,7 @@ public class AuctionVerifier {
                            CompositeAuctionValidator roundValidators,
                            CompositeAuctionValidator finalValidators) {
         init(state, roundValidators, finalValidators);
-        this.stateUpdater = new AuctionStateUpdater(new DefaultBidderWinEvaluator(), new DefaultBidderWinEvaluator());
+        this.stateUpdater = new AuctionStateUpdater(DefaultBidderWinEvaluator.INSTANCE, DefaultBidderWinEvaluator.INSTANCE);
     }
 
     /**
@@ -49,6 +54,28 @@ public class AuctionVerifier {
         this.stateUpdater = new AuctionStateUpdater(ownWinEvaluator, otherWinEvaluator);
     }
 
+    /**
+     * Adds a rule checked after every round. Not to be called while another thread verifies the rounds.
+     * @param validator The rule to add after the existing ones.
+     */
+    public void addRoundValidator(AuctionRuleValidator validator) {
+        roundValidators = with(roundValidators, validator);
+    }
+
+    /**
+     * Adds a rule checked on the final state.
+     * @param validator The rule to add after the existing ones.
+     */
+    public void addFinalValidator(AuctionRuleValidator validator) {
+        finalValidators = with(finalValidators, validator);
+    }
+
+    private static CompositeAuctionValidator with(CompositeAuctionValidator composite, AuctionRuleValidator validator) {
+        List<AuctionRuleValidator> validators = new ArrayList<>(composite.validators());
+        validators.add(validator);
+        return new CompositeAuctionValidator(validators);
+    }
+
     /**
      * Processes and validates a single round of bids.
      * @param ownBid The bid of the "own" bidder.
@@ -60,6 +87,42 @@ public class AuctionVerifier {
         roundValidators.validate(auctionState);
     }
 
+    /**
+     * Applies an already settled round and validates it, without evaluating the bids again.
+     * @param outcome The settled round.
+     * @throws AuctionValidatorException if any round rule is violated.
+     */
+    public void verifyRound(RoundOutcome outcome) throws AuctionValidatorException {
+        AuctionStateUpdater.applyOutcome(auctionState, outcome);
+        roundValidators.validate(auctionState);
+    }
+
+    /**
+     * Cross-checks the auction state against the states kept by the bidders themselves.
+     * Both copies are fed from the same round outcomes, so any difference means one of them was corrupted.
+     * @param own The state of the "own" bidder.
+     * @param other The state of the "other" bidder.
+     * @throws AuctionValidatorException if the copies differ.
+     */
+    public void verifyConsistency(BidderState own, BidderState other) throws AuctionValidatorException {
+        if (own.cash() != auctionState.getOwnBidderCash() || own.getQuantity() != auctionState.getOwnBidderQuantityWon()) {
+            throw new AuctionValidatorException("Own bidder's state diverged from the auction state.");
+        }
+        if (other.cash() != auctionState.getOtherBidderCash() || other.getQuantity() != auctionState.getOtherBidderQuantityWon()) {
+            throw new AuctionValidatorException("Other bidder's state diverged from the auction state.");
+        }
+    }
+
+    /**
+     * Processes and validates a series of rounds in which neither bidder bids.
+     * @param rounds The number of idle rounds.
+     * @throws AuctionValidatorException if any round rule is violated.
+     */
+    public void verifyIdleRounds(int rounds) throws AuctionValidatorException {
+        stateUpdater.updateAuctionStateIdle(auctionState, rounds);
+        roundValidators.validate(auctionState);
+    }
+
     /**
      * Validates the final state of the auction.
      * @throws AuctionValidatorException if any final rule is violated.
@@ -3,7 +3,6 @@ package com.optimax.tradingbot.core.validation;
 import com.optimax.tradingbot.core.AuctionState;
 import com.optimax.tradingbot.exceptions.AuctionValidatorException;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -12,7 +11,7 @@ import java.util.List;
 public record CompositeAuctionValidator(List<AuctionRuleValidator> validators) implements AuctionRuleValidator {
 
     public CompositeAuctionValidator(List<AuctionRuleValidator> validators) {
-        this.validators = new ArrayList<>(validators); // Defensive copy to avoid outer reference modifications
+        this.validators = List.copyOf(validators); // Defensive copy, free for lists which are already immutable
     }
 
     @Override
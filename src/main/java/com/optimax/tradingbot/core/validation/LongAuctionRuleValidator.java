@@ -0,0 +1,18 @@
+package com.optimax.tradingbot.core.validation;
+
+import com.optimax.tradingbot.core.LongAuctionState;
+import com.optimax.tradingbot.exceptions.AuctionValidatorException;
+
+/**
+ * Interface for validating a specific rule within a 64-bit auction, see {@link AuctionRuleValidator}
+ */
+@FunctionalInterface
+public interface LongAuctionRuleValidator {
+
+    /**
+     * Validates a specific rule against the current auction state.
+     * @param state The current auction state.
+     * @throws AuctionValidatorException if the rule is violated.
+     */
+    void validate(LongAuctionState state) throws AuctionValidatorException;
+}
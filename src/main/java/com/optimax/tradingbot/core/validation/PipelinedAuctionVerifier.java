@@ -0,0 +1,299 @@
+package com.optimax.tradingbot.core.validation;
+
+import com.optimax.tradingbot.core.RoundOutcome;
+import com.optimax.tradingbot.exceptions.AuctionValidatorException;
+import com.optimax.tradingbot.exceptions.RoundVerificationException;
+import com.optimax.tradingbot.utils.SpscLongRingBuffer;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs an {@link AuctionVerifier} on a dedicated thread behind the auction loop.
+ * <p>
+ * The auction thread publishes the outcome of each round into a single-producer/single-consumer
+ * ring buffer and goes on with the next round, while the verifier thread applies the
+ * outcome to the auction state and runs the round validators. Violations are reported back with the
+ * offending round number through {@link RoundVerificationListener} and {@link #failure()}.
+ * <p>
+ * The auction state of the wrapped verifier is owned by the verifier thread,
+ * so it may only be read after {@link #awaitVerified()}.
+ * <p>
+ * The verifier threads come from a shared pool and go back to it once the pipeline is closed, so batches of
+ * auctions reuse them. The auction thread never waits for the verifier longer than the stall timeout:
+ * a verifier which died or stopped making progress fails the pipeline like a violated rule.
+ */
+public class PipelinedAuctionVerifier implements AutoCloseable {
+
+    private static final int SPINS_BEFORE_PARK = 1_000;
+    private static final long PARK_NANOS = 50_000;
+    private static final int SPINS_PER_CLOCK_CHECK = 1_024;
+
+    /**
+     * Time the auction thread waits for a verifier which makes no progress before failing the pipeline
+     */
+    public static final Duration DEFAULT_STALL_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final ExecutorService VERIFIER_THREADS = Executors.newCachedThreadPool(
+            Thread.ofPlatform().daemon().name("auction-verifier-", 0).factory());
+
+    private final AuctionVerifier delegate;
+    private final RoundVerificationListener listener;
+    private final SpscLongRingBuffer ring;
+    private final long stallTimeoutNanos;
+    private volatile Thread verifierThread;                // Null until the verifier has started
+
+    private int publishedRounds;                           // Written by the auction thread only
+    private volatile int verifiedRounds;                   // Written by the verifier thread, or the auction thread while drained
+    private volatile RoundVerificationException failure;
+    private volatile boolean sleeping;
+    private volatile boolean running = true;
+    private volatile boolean stopped;                      // Set once the verifier has left its loop
+
+    private PipelinedAuctionVerifier(AuctionVerifier delegate, int capacity, RoundVerificationListener listener, Duration stallTimeout) {
+        this.delegate = delegate;
+        this.listener = listener;
+        this.ring = new SpscLongRingBuffer(capacity * 2);  // Two slots per round: bids and won quantities
+        this.stallTimeoutNanos = stallTimeout.toNanos();
+    }
+
+    /**
+     * Starts verifying on a thread of the shared verifier pool.
+     *
+     * @param delegate verifier applying the state updates and the validators
+     * @param capacity number of rounds the verification may lag behind the auction
+     * @param listener hook fired when verification fails or falls behind
+     */
+    public static PipelinedAuctionVerifier start(@NonNull AuctionVerifier delegate, int capacity, @NonNull RoundVerificationListener listener) {
+        return start(delegate, capacity, listener, VERIFIER_THREADS, DEFAULT_STALL_TIMEOUT);
+    }
+
+    /**
+     * Starts verifying on a thread of the given executor, which has to run the verifier right away.
+     *
+     * @param delegate     verifier applying the state updates and the validators
+     * @param capacity     number of rounds the verification may lag behind the auction
+     * @param listener     hook fired when verification fails or falls behind
+     * @param executor     runs the verifier loop until the pipeline is closed
+     * @param stallTimeout time the auction thread waits for a verifier making no progress
+     */
+    public static PipelinedAuctionVerifier start(@NonNull AuctionVerifier delegate, int capacity, @NonNull RoundVerificationListener listener,
+                                                 @NonNull Executor executor, @NonNull Duration stallTimeout) {
+        PipelinedAuctionVerifier pipeline = new PipelinedAuctionVerifier(delegate, capacity, listener, stallTimeout);
+        try {
+            executor.execute(pipeline::verifyLoop);
+        } catch (RejectedExecutionException e) {
+            pipeline.fail(1, new AuctionValidatorException("Verifier could not be started: " + e.getMessage()));
+            pipeline.stopped = true;
+        }
+        return pipeline;
+    }
+
+    /**
+     * Publishes the settled next round for verification.
+     * Waits for the verifier if the pipeline is full.
+     *
+     * @param outcome The settled round.
+     * @return false if a previous round has failed verification, the round is not published then
+     */
+    public boolean publish(RoundOutcome outcome) {
+        if (failure != null) {
+            return false;
+        }
+        int round = publishedRounds + 1;
+        long bids = pack(outcome.ownBid(), outcome.otherBid());
+        long wonQuantities = pack(outcome.ownWonQuantity(), outcome.otherWonQuantity());
+
+        if (!ring.offer(bids, wonQuantities)) {
+            listener.onVerificationLagging(round, ring.size() / 2);
+            wakeVerifier();
+            long deadline = System.nanoTime() + stallTimeoutNanos;
+            for (int spins = 1; !ring.offer(bids, wonQuantities); spins++) {
+                if (failure != null || !verifierAlive(spins, deadline)) {
+                    return false;
+                }
+                Thread.onSpinWait();
+            }
+        }
+        publishedRounds = round;
+        if (sleeping) {
+            wakeVerifier();
+        }
+        return true;
+    }
+
+    /**
+     * Waits until all the published rounds are verified.
+     *
+     * @throws RoundVerificationException if any of the rounds failed verification
+     */
+    public void awaitVerified() throws RoundVerificationException {
+        if (verifiedRounds < publishedRounds) {
+            wakeVerifier();
+        }
+        long deadline = System.nanoTime() + stallTimeoutNanos;
+        int lastVerified = verifiedRounds;
+        for (int spins = 1; verifiedRounds < publishedRounds && failure == null; spins++) {
+            if (verifiedRounds != lastVerified) {
+                lastVerified = verifiedRounds;      // Still making progress
+                deadline = System.nanoTime() + stallTimeoutNanos;
+            }
+            if (!verifierAlive(spins, deadline)) {
+                break;
+            }
+            Thread.onSpinWait();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Verifies a series of idle rounds in place, once all published rounds are verified.
+     *
+     * @param rounds The number of idle rounds.
+     * @throws AuctionValidatorException if any round rule is violated.
+     */
+    public void verifyIdleRounds(int rounds) throws AuctionValidatorException {
+        awaitVerified();
+        try {
+            delegate.verifyIdleRounds(rounds);
+        } catch (AuctionValidatorException e) {
+            fail(publishedRounds + rounds, e);
+            throw failure;
+        }
+        publishedRounds += rounds;
+        verifiedRounds = publishedRounds;
+    }
+
+    /**
+     * Validates the final state of the auction, once all published rounds are verified.
+     *
+     * @throws AuctionValidatorException if any final rule is violated.
+     */
+    public void verifyFinalState() throws AuctionValidatorException {
+        awaitVerified();
+        delegate.verifyFinalState();
+    }
+
+    /**
+     * @return the first verification failure, null if there is none so far
+     */
+    public RoundVerificationException failure() {
+        return failure;
+    }
+
+    /**
+     * Stops the verifier thread and waits until it has left its loop, so the auction state
+     * may be touched again once this returns. Rounds not verified yet are dropped,
+     * the round being verified is completed.
+     *
+     * @throws IllegalStateException if the verifier does not stop within the stall timeout
+     */
+    @Override
+    public void close() {
+        running = false;
+        wakeVerifier();
+        long deadline = System.nanoTime() + stallTimeoutNanos;
+        for (int spins = 1; !stopped; spins++) {
+            if (spins % SPINS_PER_CLOCK_CHECK == 0 && System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("Verifier did not stop within " + Duration.ofNanos(stallTimeoutNanos));
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private void verifyLoop() {
+        verifierThread = Thread.currentThread();
+        try {
+            verifyRounds();
+        } catch (Throwable e) {
+            // Errors included, the auction thread must not wait for a verifier which is gone
+            fail(verifiedRounds + 1, new AuctionValidatorException("Verifier died: " + e));
+        } finally {
+            stopped = true;
+            verifierThread = null;
+        }
+    }
+
+    private void verifyRounds() {
+        int idleSpins = 0;
+        while (running) {
+            if (ring.isEmpty()) {
+                if (++idleSpins < SPINS_BEFORE_PARK) {
+                    Thread.onSpinWait();
+                } else {
+                    sleeping = true;
+                    if (ring.isEmpty() && running) {
+                        LockSupport.parkNanos(this, PARK_NANOS);
+                    }
+                    sleeping = false;
+                }
+                continue;
+            }
+            idleSpins = 0;
+
+            long bids = ring.poll();
+            long wonQuantities = ring.poll();
+            int round = verifiedRounds + 1;
+            try {
+                delegate.verifyRound(new RoundOutcome(high(bids), low(bids), high(wonQuantities), low(wonQuantities)));
+            } catch (AuctionValidatorException e) {
+                fail(round, e);
+                return;
+            } catch (RuntimeException e) {
+                fail(round, new AuctionValidatorException(e.getMessage()));
+                return;
+            }
+            verifiedRounds = round;
+        }
+    }
+
+    private synchronized void fail(int round, AuctionValidatorException e) {
+        if (failure != null) {
+            return;
+        }
+        failure = new RoundVerificationException(round, e);
+        listener.onVerificationFailed(round, e);
+    }
+
+    /**
+     * Checked while the auction thread waits: the verifier must still run and make progress before the deadline.
+     * Fails the pipeline otherwise.
+     */
+    private boolean verifierAlive(int spins, long deadline) {
+        if (stopped && failure == null) {
+            fail(verifiedRounds + 1, new AuctionValidatorException("Verifier stopped"));
+            return false;
+        }
+        if (spins % SPINS_PER_CLOCK_CHECK == 0 && System.nanoTime() - deadline > 0) {
+            fail(verifiedRounds + 1, new AuctionValidatorException("Verifier stalled for " + Duration.ofNanos(stallTimeoutNanos)));
+            return false;
+        }
+        return failure == null;
+    }
+
+    private void wakeVerifier() {
+        Thread thread = verifierThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private static long pack(int high, int low) {
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    private static int high(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    private static int low(long packed) {
+        return (int) packed;
+    }
+}
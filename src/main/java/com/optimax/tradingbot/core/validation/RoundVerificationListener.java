@@ -0,0 +1,26 @@
+package com.optimax.tradingbot.core.validation;
+
+import com.optimax.tradingbot.exceptions.AuctionValidatorException;
+
+/**
+ * Hook for the pipelined verification, fired from the verifier side.
+ * Gives the owner of the auction a chance to roll back or abort whatever depends on the unverified rounds.
+ */
+public interface RoundVerificationListener {
+
+    /**
+     * Called once, when a round violates an auction rule. The auction is aborted afterwards.
+     * @param round the 1-based number of the offending round
+     * @param e     the violation
+     */
+    void onVerificationFailed(int round, AuctionValidatorException e);
+
+    /**
+     * Called when the auction is about to publish a round while all the pipeline slots
+     * are still waiting for verification. The auction waits for the verifier afterwards.
+     * @param round   the 1-based number of the round which could not be published
+     * @param pending number of published rounds not verified yet
+     */
+    default void onVerificationLagging(int round, int pending) {
+    }
+}
@@ -1,13 +1,15 @@
 package com.optimax.tradingbot.core.validation.rules;
 
 import com.optimax.tradingbot.core.AuctionState;
+import com.optimax.tradingbot.core.LongAuctionState;
 import com.optimax.tradingbot.core.validation.AuctionRuleValidator;
+import com.optimax.tradingbot.core.validation.LongAuctionRuleValidator;
 import com.optimax.tradingbot.exceptions.AuctionValidatorException;
 
 /**
  * Validates the final state of the auction, ensuring all quantity has been auctioned.
  */
-public class FinalQuantityExhaustionValidator implements AuctionRuleValidator {
+public class FinalQuantityExhaustionValidator implements AuctionRuleValidator, LongAuctionRuleValidator {
 
     @Override
     public void validate(AuctionState state) throws AuctionValidatorException  {
@@ -20,4 +22,21 @@ public class FinalQuantityExhaustionValidator implements AuctionRuleValidator {
             throw new AuctionValidatorException("Total quantity won by bidders does not match initial total quantity.");
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public void validate(LongAuctionState state) throws AuctionValidatorException {
+        if (state.getRemainingQuantity() != 0) {
+            throw new AuctionValidatorException("Auction did not fully auction all quantity. Remaining: " + state.getRemainingQuantity());
+        }
+        // The sum of the won quantities must not wrap around into a false match
+        long won;
+        try {
+            won = Math.addExact(state.getOwnBidderQuantityWon(), state.getOtherBidderQuantityWon());
+        } catch (ArithmeticException e) {
+            throw new AuctionValidatorException("Total quantity won by bidders overflows.");
+        }
+        if (won != state.getTotalInitialQuantity()) {
+            throw new AuctionValidatorException("Total quantity won by bidders does not match initial total quantity.");
+        }
+    }
+}
@@ -1,13 +1,15 @@
 package com.optimax.tradingbot.core.validation.rules;
 
 import com.optimax.tradingbot.core.AuctionState;
+import com.optimax.tradingbot.core.LongAuctionState;
 import com.optimax.tradingbot.core.validation.AuctionRuleValidator;
+import com.optimax.tradingbot.core.validation.LongAuctionRuleValidator;
 import com.optimax.tradingbot.exceptions.AuctionValidatorException;
 
 /**
  * Validates that no bidder's cash goes below zero.
  */
-public class NegativeCashValidator implements AuctionRuleValidator {
+public class NegativeCashValidator implements AuctionRuleValidator, LongAuctionRuleValidator {
 
     @Override
     public void validate(AuctionState state) throws AuctionValidatorException  {
@@ -18,4 +20,14 @@ public class NegativeCashValidator implements AuctionRuleValidator {
             throw new AuctionValidatorException("Other bidder's cash went below zero.");
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public void validate(LongAuctionState state) throws AuctionValidatorException {
+        if (state.getOwnBidderCash() < 0) {
+            throw new AuctionValidatorException("Own bidder's cash went below zero.");
+        }
+        if (state.getOtherBidderCash() < 0) {
+            throw new AuctionValidatorException("Other bidder's cash went below zero.");
+        }
+    }
+}
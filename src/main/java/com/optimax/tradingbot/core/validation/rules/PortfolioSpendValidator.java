@@ -0,0 +1,52 @@
+package com.optimax.tradingbot.core.validation.rules;
+
+import com.optimax.tradingbot.core.AuctionState;
+import com.optimax.tradingbot.core.validation.AuctionRuleValidator;
+import com.optimax.tradingbot.exceptions.AuctionValidatorException;
+import com.optimax.tradingbot.impl.budget.PortfolioStrategy;
+import org.springframework.lang.NonNull;
+
+/**
+ * Validates that a bidder playing a {@link PortfolioStrategy} has spent exactly what the strategy committed
+ * to its shared budget, and holds no reservation any more. The budget never lets the commits of all the auctions
+ * exceed it, so an auction passing this check kept the portfolio within the budget.
+ * <p>
+ * Only the strategy of this auction is read, never the budget shared with the others. The spend matches the commits
+ * once a round is settled, so the check belongs with the final validators, see
+ * {@link com.optimax.tradingbot.core.Auction#addFinalValidator}.
+ */
+public class PortfolioSpendValidator implements AuctionRuleValidator {
+
+    private final PortfolioStrategy strategy;
+    private final boolean ownBidder;
+
+    private PortfolioSpendValidator(PortfolioStrategy strategy, boolean ownBidder) {
+        this.strategy = strategy;
+        this.ownBidder = ownBidder;
+    }
+
+    /**
+     * @param strategy the strategy of the own bidder
+     */
+    public static PortfolioSpendValidator ofOwn(@NonNull PortfolioStrategy strategy) {
+        return new PortfolioSpendValidator(strategy, true);
+    }
+
+    /**
+     * @param strategy the strategy of the other bidder
+     */
+    public static PortfolioSpendValidator ofOther(@NonNull PortfolioStrategy strategy) {
+        return new PortfolioSpendValidator(strategy, false);
+    }
+
+    @Override
+    public void validate(AuctionState state) throws AuctionValidatorException {
+        int cash = ownBidder ? state.getOwnBidderCash() : state.getOtherBidderCash();
+        if (state.getInitialBaseCash() - cash != strategy.committed()) {
+            throw new AuctionValidatorException("Portfolio bidder spent other than it committed to its budget.");
+        }
+        if (strategy.reserved() != 0) {
+            throw new AuctionValidatorException("Portfolio bidder still holds a reservation.");
+        }
+    }
+}
@@ -1,13 +1,15 @@
 package com.optimax.tradingbot.core.validation.rules;
 
 import com.optimax.tradingbot.core.AuctionState;
+import com.optimax.tradingbot.core.LongAuctionState;
 import com.optimax.tradingbot.core.validation.AuctionRuleValidator;
+import com.optimax.tradingbot.core.validation.LongAuctionRuleValidator;
 import com.optimax.tradingbot.exceptions.AuctionValidatorException;
 
 /**
  * Validates that the remaining quantity does not go below zero during a round.
  */
-public class RemainingQuantityValidator implements AuctionRuleValidator {
+public class RemainingQuantityValidator implements AuctionRuleValidator, LongAuctionRuleValidator {
 
     @Override
     public void validate(AuctionState state) throws AuctionValidatorException {
@@ -15,4 +17,11 @@ public class RemainingQuantityValidator implements AuctionRuleValidator {
             throw new AuctionValidatorException("Remaining quantity went below zero, indicating over-allocation.");
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public void validate(LongAuctionState state) throws AuctionValidatorException {
+        if (state.getRemainingQuantity() < 0) {
+            throw new AuctionValidatorException("Remaining quantity went below zero, indicating over-allocation.");
+        }
+    }
+}
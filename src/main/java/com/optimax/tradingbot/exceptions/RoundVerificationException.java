@@ -0,0 +1,22 @@
+package com.optimax.tradingbot.exceptions;
+
+/**
+ * Auction verification failure bound to the round it happened in
+ */
+public class RoundVerificationException extends AuctionValidatorException {
+
+    private final int round;
+
+    public RoundVerificationException(int round, AuctionValidatorException cause) {
+        super("Round " + round + ": " + cause.getMessage());
+        initCause(cause);
+        this.round = round;
+    }
+
+    /**
+     * @return the 1-based number of the offending round
+     */
+    public int getRound() {
+        return round;
+    }
+}
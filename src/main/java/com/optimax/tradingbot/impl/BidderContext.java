@@ -1,44 +1,240 @@
 package com.optimax.tradingbot.impl;
 
 import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.impl.history.BidQueries;
+import com.optimax.tradingbot.impl.history.HistoryPolicy;
 import org.springframework.lang.NonNull;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 
 /**
  * Shared state representing available for all bidders info
  * Contains the all party states and history.
+ * <p>
+ * Only the auction thread may use the context itself. Other threads read it through {@link #snapshot()}
+ * once {@link #enableSnapshots()} was called.
  */
 public final class BidderContext {
 
     private final Map<String, BidderState> states;
-    private final List<BidderHistoryUnit> history;
+    private List<BidderHistoryUnit> history;
+    private HistoryPolicy historyPolicy;
+    private int clears;
+    private BidQueries bidQueries;              // Only maintained once enabled
+
+    // Views of the states, rebuilt on the first call after the states changed
+    private List<BidderState> allStates;
+    private List<String> allIds;
+    private final Map<String, List<BidderState>> opponents = new HashMap<>();
+
+    // Only maintained once snapshots are enabled, the log holding the history units seen by the snapshots
+    private UnitLog unitLog;
+    private volatile ContextSnapshot snapshot;
 
     public BidderContext() {
+        this(HistoryPolicy.UNBOUNDED);
+    }
+
+    /**
+     * @param historyPolicy decides how the history is kept
+     */
+    public BidderContext(@NonNull HistoryPolicy historyPolicy) {
         this.states = new HashMap<>();
-        this.history = new LinkedList<>();
+        this.historyPolicy = historyPolicy;
+        this.history = historyPolicy.newHistory();
+    }
+
+    /**
+     * Switches to a history kept by the given policy, closing the current one if it holds resources.
+     * The snapshots, if enabled, start over with a log bounded by the new policy.
+     *
+     * @throws IllegalStateException if the history is not empty
+     */
+    public void setHistoryPolicy(@NonNull HistoryPolicy historyPolicy) {
+        if (!history.isEmpty()) {
+            throw new IllegalStateException("History policy can only be changed while the history is empty");
+        }
+        if (history instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        this.historyPolicy = historyPolicy;
+        history = historyPolicy.newHistory();
+        if (unitLog != null) {
+            unitLog = new UnitLog(historyPolicy.heapUnits());   // The published snapshots keep the previous log
+        }
     }
 
+    /**
+     * Drops all the states and the history, so the context can be reused for another auction
+     */
+    public void clear() {
+        clears++;
+        states.clear();
+        invalidateViews();
+        history.clear();
+        if (bidQueries != null) {
+            bidQueries.clear();
+        }
+        if (unitLog != null) {
+            unitLog = new UnitLog(historyPolicy.heapUnits());   // The published snapshots keep the previous log
+            publish();
+        }
+    }
+
+    /**
+     * @return number of {@link #clear()} calls so far, telling a cleared context from one which only changed
+     */
+    public int clears() {
+        return clears;
+    }
+
+    /**
+     * Puts the state of a bidder. Putting the state already held for its bidder, as done every round, keeps the views.
+     */
     public void putState(@NonNull BidderState state) {
-        states.put(state.id(), state);
+        if (states.put(state.id(), state) != state) {
+            invalidateViews();
+            if (unitLog != null) {
+                publish();
+            }
+        }
+    }
+
+    private void invalidateViews() {
+        allStates = null;
+        allIds = null;
+        opponents.clear();
     }
 
     public void addHistoryUnit(@NonNull BidderHistoryUnit unit) {
         history.add(unit);
+        if (bidQueries != null) {
+            bidQueries.append(unit);
+        }
+        if (unitLog != null) {
+            unitLog.append(unit);
+        }
+    }
+
+    /**
+     * Feeds a unit to the bid queries and the snapshots, if enabled, without keeping it in the history.
+     * Used when no strategy reads the history.
+     */
+    public void addUnkeptHistoryUnit(@NonNull BidderHistoryUnit unit) {
+        if (bidQueries != null) {
+            bidQueries.append(unit);
+        }
+        if (unitLog != null) {
+            unitLog.append(unit);
+        }
+    }
+
+    /**
+     * Starts publishing {@link ContextSnapshot}s for the readers on other threads, with the history added so far.
+     * The snapshots keep as many of the most recent units on the heap as the {@link HistoryPolicy#heapUnits()}
+     * of the history policy. Kept across {@link #clear()}.
+     */
+    public void enableSnapshots() {
+        if (unitLog != null) {
+            return;
+        }
+        unitLog = new UnitLog(historyPolicy.heapUnits());
+        for (BidderHistoryUnit unit : history) {
+            unitLog.append(unit);
+        }
+        publish();
+    }
+
+    public boolean hasSnapshots() {
+        return unitLog != null;
+    }
+
+    /**
+     * Publishes the current states and history as the next version of the {@link #snapshot()}, done after each
+     * settled round by the auction. A no-op unless snapshots are enabled.
+     * <p>
+     * Takes a copy of the states and no lock, so the cost does not depend on the number of readers.
+     */
+    public void publish() {
+        if (unitLog == null) {
+            return;
+        }
+        List<BidderState> copies = new ArrayList<>(states.size());
+        for (BidderState state : states.values()) {
+            copies.add(ContextSnapshot.FrozenState.of(state));
+        }
+        ContextSnapshot last = snapshot;
+        snapshot = new ContextSnapshot(last == null ? 0 : last.version() + 1, List.copyOf(copies), unitLog.view(),
+                unitLog.dropped());
+    }
+
+    /**
+     * Safe to call from any thread
+     *
+     * @return the last published version of the context
+     * @throws IllegalStateException if the snapshots were not enabled
+     */
+    public ContextSnapshot snapshot() {
+        ContextSnapshot last = snapshot;
+        if (last == null) {
+            throw new IllegalStateException("Snapshots are not enabled");
+        }
+        return last;
+    }
+
+    /**
+     * Starts maintaining the {@link BidQueries} over the history, indexing the units added so far.
+     * Kept across {@link #clear()}.
+     *
+     * @param window number of the last units covered by the window queries
+     */
+    public void enableBidQueries(int window) {
+        bidQueries = new BidQueries(window);
+        for (BidderHistoryUnit unit : history) {
+            bidQueries.append(unit);
+        }
+    }
+
+    public boolean hasBidQueries() {
+        return bidQueries != null;
+    }
+
+    /**
+     * @return the queries over the bids of the history
+     * @throws IllegalStateException if the queries were not enabled
+     */
+    public BidQueries getBidQueries() {
+        if (bidQueries == null) {
+            throw new IllegalStateException("Bid queries are not enabled");
+        }
+        return bidQueries;
     }
 
     /**
-     * @return The list of {@link BidderState} which doesn't include own BidderState
+     * @return The unmodifiable list of all {@link BidderState}s, shared between the calls until the states change
      */
     public List<BidderState> getAllStates() {
-        return states.values().stream().toList();
+        if (allStates == null) {
+            allStates = List.copyOf(states.values());
+        }
+        return allStates;
     }
 
     /***
-     * @return The list of all {@link String}s in the states
+     * @return The unmodifiable list of all {@link String}s in the states, shared between the calls until the states change
      */
     public List<String> getAllIds() {
-        return states.keySet().stream().toList();
+        if (allIds == null) {
+            allIds = List.copyOf(states.keySet());
+        }
+        return allIds;
     }
 
     public List<BidderHistoryUnit> getHistory() {
@@ -48,14 +244,22 @@ public final class BidderContext {
     /**
      *
      * @param ownId id you want to exclude
-     * @return all states except the id provided
+     * @return all states except the id provided, as an unmodifiable list shared between the calls until the states change
      */
     public List<BidderState> getFilteredStates(@NonNull String ownId) {
-        return states
-                .entrySet()
-                .stream()
-                .filter(v -> !v.getKey().equals(ownId))
-                .map(Map.Entry::getValue)
-                .toList();
+        if (!states.containsKey(ownId)) {
+            return getAllStates();
+        }
+        List<BidderState> filtered = opponents.get(ownId);
+        if (filtered == null) {
+            filtered = states
+                    .entrySet()
+                    .stream()
+                    .filter(v -> !v.getKey().equals(ownId))
+                    .map(Map.Entry::getValue)
+                    .toList();
+            opponents.put(ownId, filtered);
+        }
+        return filtered;
     }
 }
@@ -5,7 +5,18 @@ import org.springframework.lang.NonNull;
 import java.util.Map;
 import java.util.Optional;
 
-public record BidderHistoryUnit(Map<String, Integer> bids) {
+/**
+ * The bids of a single round, or of several identical rounds compressed into one entry
+ * @param bids
+ *            bids by bidder id
+ * @param rounds
+ *            number of rounds this entry stands for, 1 for a regular round
+ */
+public record BidderHistoryUnit(Map<String, Integer> bids, int rounds) {
+
+    public BidderHistoryUnit(Map<String, Integer> bids) {
+        this(bids, 1);
+    }
 
     /**
      * Find appropriate bid by associated id
@@ -1,6 +1,7 @@
 package com.optimax.tradingbot.impl;
 
 import java.security.InvalidParameterException;
+import java.util.Optional;
 
 import com.optimax.tradingbot.bidder.BidderState;
 import com.optimax.tradingbot.utils.RandomStringGenerator;
@@ -9,20 +10,22 @@ import com.optimax.tradingbot.bidder.Bidder;
 import com.optimax.tradingbot.bidder.BidderWinEvaluator;
 import com.optimax.tradingbot.exceptions.InternalStrategyException;
 import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.bidder.PlanningBidder;
 
 /**
  * Default implementation of the {@link Bidder} interface.
  * Represents a bidder in the auction who places bids using a specified strategy,
  * maintains its current state, and evaluates winning quantities.
  */
-public class BidderImpl implements Bidder {
+public class BidderImpl implements PlanningBidder {
 
-    private final BidderStrategy strategy;
+    private BidderStrategy strategy;
     private final BidderWinEvaluator winnerEvaluator;
     private String ownId;
 
     private BidderStateImpl ownState;
     private final BidderContext context;
+    private int round;                  // Rounds settled since the last init
 
     /**
      * Constructs a new bidder with the specified initial quantity, cash, strategy, and context.
@@ -66,12 +69,27 @@ public class BidderImpl implements Bidder {
         if (quantity < 0 || cash < 0) {
             throw new InvalidParameterException("Incorrect quantity or cash supplied");
         }
-        // Reset the bidder's internal state with new values but keep the same ID
-        this.ownState = new BidderStateImpl(0, quantity, cash, ownId);
+        // Reset the bidder's internal state in place with new values but keep the same ID
+        this.ownState.reset(quantity, cash);
+        this.round = 0;
         // Update context to reflect reset state
         this.context.putState(ownState);
     }
 
+    /**
+     * Resets the bidder state and swaps the bidding strategy, so the bidder can be reused
+     * for another auction. The strategy is expected to be initialized already.
+     *
+     * @param quantity new quantity to reset to (must be non-negative)
+     * @param cash     new cash to reset to (must be non-negative)
+     * @param strategy the bidding strategy to use from now on
+     * @throws InvalidParameterException if quantity or cash is negative
+     */
+    public void init(int quantity, int cash, @NonNull BidderStrategy strategy) throws InvalidParameterException {
+        init(quantity, cash);
+        this.strategy = strategy;
+    }
+
     /**
      * Requests the next bid amount from the bidding strategy.
      * Decreases the bidder's cash by the bid amount after validation.
@@ -110,35 +128,120 @@ public class BidderImpl implements Bidder {
         if (own < 0 || other < 0) {
             throw new InvalidParameterException("Either one or both of supplied quantities are incorrect");
         }
-        // Evaluate and update quantity won based on bid comparison
-        updateOwnState(own, other);
+        // Evaluate quantity won based on bid comparison
+        bids(own, other, winnerEvaluator.evaluateWonQuantity(own, other));
+    }
+
+    /**
+     * Updates the bidder's state after a round which was already settled by the auction.
+     * Increases the quantity won and signals the strategy to advance to the next round.
+     *
+     * @param own         the bid amount placed by this bidder
+     * @param other       the bid amount placed by the opponent
+     * @param wonQuantity the quantity won in the round
+     * @throws InvalidParameterException if either bid or the won quantity is negative
+     */
+    @Override
+    public void bids(int own, int other, int wonQuantity) throws InvalidParameterException {
+        if (own < 0 || other < 0) {
+            throw new InvalidParameterException("Either one or both of supplied quantities are incorrect");
+        }
+        if (wonQuantity < 0) {
+            throw new InvalidParameterException("Won quantity must be >= 0");
+        }
+        // Increase the quantity won accordingly in the bidder's state
+        ownState.increaseQuantity(wonQuantity);
 
         // Notify the strategy that the round is finished (for internal state updates)
+        strategy.onRoundResult(nextRound(), own, other, wonQuantity);
         strategy.finishRound();
     }
 
     /**
-     * Returns the current state of this bidder, including remaining cash, quantity,
-     * and total quantity won.
+     * A bidder is exhausted once it has no cash left or its strategy has stopped bidding.
      *
-     * @return the current bidder state
+     * @return true if all further bids of this bidder are zero
      */
     @Override
-    public BidderState getState() {
-        return this.ownState;
+    public boolean isExhausted() {
+        return ownState.cash() <= 0 || strategy.isExhausted(ownState);
     }
 
     /**
-     * Internal helper method to update bidder's quantity based on the outcome of the round.
-     * The winner evaluator determines how many items were won in this bidding round.
+     * Settles the idle rounds in closed form: each round is a 0 vs 0 tie,
+     * so the tie quantity is evaluated once and multiplied by the number of rounds.
+     * The strategy is not notified per round, since it no longer bids.
      *
-     * @param own   bid amount placed by this bidder
-     * @param other bid amount placed by the opponent
+     * @param rounds the number of idle rounds
+     * @throws InvalidParameterException if rounds is negative
      */
-    private void updateOwnState(int own, int other) {
-        // Calculate how many items were won this round based on bids
-        var wonAmount = winnerEvaluator.evaluateWonQuantity(own, other);
-        // Increase the quantity won accordingly in the bidder's state
-        ownState.increaseQuantity(wonAmount);
+    @Override
+    public void settleIdleRounds(int rounds) throws InvalidParameterException {
+        if (rounds < 0) {
+            throw new InvalidParameterException("Number of idle rounds must be >= 0");
+        }
+        ownState.increaseQuantity(winnerEvaluator.evaluateWonQuantity(0, 0) * rounds);
+        round += rounds;
+    }
+
+    /**
+     * Delegates to the strategy's bid plan.
+     *
+     * @param remainingRounds the number of rounds left in the auction
+     * @return empty if the strategy cannot plan, otherwise the planned bids
+     */
+    @Override
+    public Optional<int[]> bidPlan(int remainingRounds) {
+        return strategy.bidPlan(ownState, remainingRounds);
+    }
+
+    /**
+     * Delegates to the strategy's plan check.
+     */
+    @Override
+    public boolean isPlanValid(int round, int own, int other) {
+        return strategy.isPlanValid(round, own, other);
+    }
+
+    /**
+     * Applies the planned rounds to the bidder's state in one step and lets the strategy advance past them.
+     *
+     * @param rounds      the number of rounds settled from the plan
+     * @param cashSpent   the sum of the planned bids in these rounds
+     * @param wonQuantity the quantity won in these rounds
+     * @throws InvalidParameterException if any of the values is negative or more cash is spent than left
+     */
+    @Override
+    public void settlePlannedRounds(int rounds, int cashSpent, int wonQuantity) throws InvalidParameterException {
+        if (rounds < 0 || cashSpent < 0 || wonQuantity < 0) {
+            throw new InvalidParameterException("Planned rounds, spent cash and won quantity must be >= 0");
+        }
+        if (cashSpent > ownState.cash()) {
+            throw new InvalidParameterException("Planned bids exceed the left amount of cash");
+        }
+        ownState.decreaseCash(cashSpent);
+        ownState.increaseQuantity(wonQuantity);
+        round += rounds;
+        strategy.finishRounds(rounds);
+    }
+
+    /**
+     * Counts a round settled one by one, to number the rounds reported to the strategy.
+     *
+     * @return the number of the round, starting at 1
+     */
+    private int nextRound() {
+        return ++round;
+    }
+
+    /**
+     * Returns the current state of this bidder, including remaining cash, quantity,
+     * and total quantity won.
+     *
+     * @return the current bidder state
+     */
+    @Override
+    public BidderState getState() {
+        return this.ownState;
     }
 }
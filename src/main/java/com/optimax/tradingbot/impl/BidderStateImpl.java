@@ -9,7 +9,7 @@ import java.security.InvalidParameterException;
  */
 public class BidderStateImpl implements BidderState {
 
-    private final int totalQuantity;
+    private int totalQuantity;
 
     private int quantity;
     private int cash;
@@ -32,6 +32,20 @@ public class BidderStateImpl implements BidderState {
         quantity = initialQty;
     }
 
+    /**
+     * Puts the state back to its initial values in place, keeping the id.
+     * @param totalQuantity The new total Quantity
+     * @param initialCash   The new initial cash
+     */
+    public void reset(int totalQuantity, int initialCash) throws InvalidParameterException {
+        if (totalQuantity < 0 || initialCash < 0) {
+            throw new InvalidParameterException("Invalid initial Quantity or Cash provided");
+        }
+        this.totalQuantity = totalQuantity;
+        cash = initialCash;
+        quantity = 0;
+    }
+
     /**
      * @param ownBid the amount of cash needed to be decreased
      */
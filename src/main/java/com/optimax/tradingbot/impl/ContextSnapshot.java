@@ -0,0 +1,60 @@
+package com.optimax.tradingbot.impl;
+
+import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.impl.history.HistoryPolicy;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable view of a {@link BidderContext} as of one of its published versions, safe to read from any thread.
+ * <p>
+ * The states are copied at publication. The history is a view of the units appended up to the publication,
+ * sharing the append-only storage of the context, so taking a snapshot does not copy it. With a history policy
+ * bounding the units kept on the heap, only the most recent ones are kept, at least {@link HistoryPolicy#heapUnits()}.
+ *
+ * @param version      incremented by each publication, 0 for the context as enabled
+ * @param states       states of all the bidders
+ * @param history      units appended up to the publication and still kept
+ * @param droppedUnits number of the oldest units no longer kept, the history starting right after them
+ */
+public record ContextSnapshot(long version, List<BidderState> states, List<BidderHistoryUnit> history, int droppedUnits) {
+
+    /**
+     * @return the state of the bidder, empty if it was not in the context
+     */
+    public Optional<BidderState> getState(@NonNull String id) {
+        for (BidderState state : states) {
+            if (state.id().equals(id)) {
+                return Optional.of(state);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param ownId id you want to exclude
+     * @return all states except the id provided
+     */
+    public List<BidderState> getFilteredStates(@NonNull String ownId) {
+        return states.stream()
+                .filter(state -> !state.id().equals(ownId))
+                .toList();
+    }
+
+    /**
+     * Copy of a bidder state, not changed by the rounds settled after it was taken
+     */
+    record FrozenState(String id, int quantity, int cash, int totalQuantity) implements BidderState {
+
+        static FrozenState of(BidderState state) {
+            return new FrozenState(state.id(), state.getQuantity(), state.cash(), state.totalQuantity());
+        }
+
+        @Override
+        public int getQuantity() {
+            return quantity;
+        }
+    }
+}
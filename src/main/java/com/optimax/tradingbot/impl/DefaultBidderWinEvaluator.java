@@ -6,6 +6,11 @@ import java.security.InvalidParameterException;
 
 public class DefaultBidderWinEvaluator implements BidderWinEvaluator {
 
+    /**
+     * The evaluator is stateless, so a single instance can be shared by all auctions
+     */
+    public static final DefaultBidderWinEvaluator INSTANCE = new DefaultBidderWinEvaluator();
+
     /**
      * Desired default win algorithm
      * If own bid more MU than other, own won more 2 QU
@@ -24,4 +29,12 @@ public class DefaultBidderWinEvaluator implements BidderWinEvaluator {
         }
         return 0;
     }
+
+    /**
+     * A bidder wins at most 2 QU per round
+     */
+    @Override
+    public int maxRemainingGain(int remainingQuantity, int remainingRounds) {
+        return (int) Math.min(remainingQuantity, 2L * remainingRounds);
+    }
 }
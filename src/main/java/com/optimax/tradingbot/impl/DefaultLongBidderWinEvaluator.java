@@ -0,0 +1,34 @@
+package com.optimax.tradingbot.impl;
+
+import com.optimax.tradingbot.bidder.LongBidderWinEvaluator;
+
+import java.security.InvalidParameterException;
+
+/**
+ * The rules of {@link DefaultBidderWinEvaluator} on 64-bit bids
+ */
+public class DefaultLongBidderWinEvaluator implements LongBidderWinEvaluator {
+
+    /**
+     * The evaluator is stateless, so a single instance can be shared by all auctions
+     */
+    public static final DefaultLongBidderWinEvaluator INSTANCE = new DefaultLongBidderWinEvaluator();
+
+    /**
+     * If own bid more MU than other, own won more 2 QU
+     * In a tie own gets 1
+     */
+    @Override
+    public long evaluateWonQuantity(long own, long other) throws InvalidParameterException {
+        if (own < 0 || other < 0) {
+            throw new InvalidParameterException("Invalid own or opponent parameters provided");
+        }
+
+        if (own > other) {
+            return 2;
+        } else if (own == other) {
+            return 1;
+        }
+        return 0;
+    }
+}
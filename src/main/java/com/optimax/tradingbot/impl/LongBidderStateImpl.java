@@ -0,0 +1,70 @@
+package com.optimax.tradingbot.impl;
+
+import com.optimax.tradingbot.bidder.LongBidderState;
+
+import java.security.InvalidParameterException;
+
+/**
+ * 64-bit counterpart of {@link BidderStateImpl}. Every update is overflow-checked
+ * and throws {@link ArithmeticException} instead of wrapping around.
+ */
+public class LongBidderStateImpl implements LongBidderState {
+
+    private final long totalQuantity;
+    private long quantity;
+    private long cash;
+    private final String id;
+
+    /**
+     * @param initialQty  The initial Quantity of product provided by default
+     * @param initialCash The initial cash provided
+     */
+    public LongBidderStateImpl(long initialQty, long totalQuantity, long initialCash, String id) throws InvalidParameterException {
+        if (initialQty < 0 || initialCash < 0) {
+            throw new InvalidParameterException("Invalid initial Quantity or Cash provided");
+        }
+        if (id == null || id.isEmpty()) {
+            throw new InvalidParameterException("Invalid id provided");
+        }
+        this.id = id;
+        this.totalQuantity = totalQuantity;
+        this.cash = initialCash;
+        this.quantity = initialQty;
+    }
+
+    /**
+     * @param ownBid the amount of cash needed to be decreased
+     * @throws ArithmeticException on overflow
+     */
+    public void decreaseCash(long ownBid) {
+        cash = Math.subtractExact(cash, ownBid);
+    }
+
+    /**
+     * @param qty the amount of quantity needed to be increased
+     * @throws ArithmeticException on overflow
+     */
+    public void increaseQuantity(long qty) {
+        quantity = Math.addExact(quantity, qty);
+    }
+
+    @Override
+    public String id() {
+        return id;
+    }
+
+    @Override
+    public long getQuantity() {
+        return quantity;
+    }
+
+    @Override
+    public long totalQuantity() {
+        return totalQuantity;
+    }
+
+    @Override
+    public long cash() {
+        return cash;
+    }
+}
@@ -0,0 +1,102 @@
+package com.optimax.tradingbot.impl;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Append-only storage of the most recent history units for the {@link ContextSnapshot}s, written by a single thread.
+ * <p>
+ * Units are kept in fixed size chunks which are never moved nor overwritten, only the directory of the chunks
+ * is copied when it changes. A view taken at some size therefore keeps reading the same units whatever is appended
+ * after it, and the writer never waits for the readers. Views must be handed over to the readers through a
+ * volatile write, which makes the units below their size visible.
+ * <p>
+ * Once more than the retained units are appended, the oldest chunk is dropped from the directory, so the log
+ * holds the retained units and less than two chunks more. Views taken before keep the dropped chunk
+ * until they are collected.
+ */
+final class UnitLog {
+
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_UNITS = 1 << CHUNK_SHIFT;
+
+    private final int retainedUnits;
+    private BidderHistoryUnit[][] chunks = new BidderHistoryUnit[4][];
+    private int dropped;                        // Units of the chunks dropped from the directory
+    private int size;                           // Units appended, dropped included
+
+    /**
+     * @param retainedUnits number of the most recent units kept at least; must be positive
+     */
+    UnitLog(int retainedUnits) {
+        if (retainedUnits <= 0) {
+            throw new IllegalArgumentException("Retained units must be > 0");
+        }
+        this.retainedUnits = retainedUnits;
+    }
+
+    void append(BidderHistoryUnit unit) {
+        int offset = size - dropped;
+        if ((offset & (CHUNK_UNITS - 1)) == 0 && offset - CHUNK_UNITS >= retainedUnits) {
+            // The oldest chunk only holds units beyond the retained ones
+            chunks = Arrays.copyOfRange(chunks, 1, chunks.length + 1);
+            dropped += CHUNK_UNITS;
+            offset -= CHUNK_UNITS;
+        }
+        int chunk = offset >>> CHUNK_SHIFT;
+        if (chunk == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new BidderHistoryUnit[CHUNK_UNITS];
+        }
+        chunks[chunk][offset & (CHUNK_UNITS - 1)] = unit;
+        size++;
+    }
+
+    /**
+     * @return number of the units appended, dropped ones included
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return number of the oldest units no longer kept
+     */
+    int dropped() {
+        return dropped;
+    }
+
+    /**
+     * @return an unmodifiable view of the units appended so far and still kept
+     */
+    List<BidderHistoryUnit> view() {
+        return new View(chunks, size - dropped);
+    }
+
+    private static final class View extends AbstractList<BidderHistoryUnit> implements RandomAccess {
+
+        private final BidderHistoryUnit[][] chunks;
+        private final int size;
+
+        View(BidderHistoryUnit[][] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        @Override
+        public BidderHistoryUnit get(int index) {
+            Objects.checkIndex(index, size);
+            return chunks[index >>> CHUNK_SHIFT][index & (CHUNK_UNITS - 1)];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.optimax.tradingbot.impl.budget;
+
+import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.bidder.StrategyCapability;
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import org.springframework.lang.NonNull;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+/**
+ * Lets a strategy bid in one of many concurrent auctions while drawing on a single {@link SharedBudget}.
+ * <p>
+ * Each bid of the delegate is reserved from the budget before it is placed, and lowered to what could be reserved
+ * when the budget runs short. Once the round is settled the bid is committed, so the auctions of a portfolio never
+ * spend more than the budget together, whatever their own base cash. Bid plans are not offered, every bid has to go
+ * through the budget one round at a time.
+ * <p>
+ * An instance serves a single auction at a time, like any {@link BidderStrategy}, and holds the stripe of the budget
+ * it reserves from. It is initialized before each auction, which starts its {@link #committed()} cash over.
+ */
+public final class PortfolioStrategy implements BidderStrategy {
+
+    private final SharedBudget budget;
+    private final BidderStrategy delegate;
+    private final int stripe;
+    private long reservation;       // Reserved for the bid placed in the current round
+    private long committed;         // Committed since the last init, i.e. spent in the current auction
+
+    public PortfolioStrategy(@NonNull SharedBudget budget, @NonNull BidderStrategy delegate) {
+        this.budget = budget;
+        this.delegate = delegate;
+        this.stripe = budget.assignStripe();
+    }
+
+    @Override
+    public void init(@NonNull BidderStrategyParameters params) {
+        release();
+        committed = 0;
+        delegate.init(params);
+    }
+
+    @Override
+    public OptionalInt nextBid(BidderState own, BidderContext ctx) {
+        release();      // A round without a result, e.g. an aborted one, must not hold on to its cash
+        OptionalInt bid = delegate.nextBid(own, ctx);
+        if (bid.isEmpty() || bid.getAsInt() <= 0) {
+            return bid;
+        }
+        reservation = budget.reserveUpTo(stripe, bid.getAsInt());
+        return reservation == 0 ? OptionalInt.empty() : OptionalInt.of((int) reservation);
+    }
+
+    @Override
+    public boolean isExhausted(BidderState own) {
+        return delegate.isExhausted(own);
+    }
+
+    @Override
+    public Set<StrategyCapability> capabilities() {
+        return delegate.capabilities();
+    }
+
+    @Override
+    public void onRoundResult(int round, int ownBid, int opponentBid, int wonQuantity) {
+        long spent = Math.min(ownBid, reservation);
+        if (spent > 0) {
+            budget.commit(spent);
+            committed += spent;
+            reservation -= spent;
+        }
+        release();
+        delegate.onRoundResult(round, ownBid, opponentBid, wonQuantity);
+    }
+
+    @Override
+    public void finishRound() {
+        delegate.finishRound();
+    }
+
+    @Override
+    public void finishRounds(int rounds) {
+        delegate.finishRounds(rounds);
+    }
+
+    /**
+     * Gives the cash reserved for a bid which was never settled back to the budget, e.g. after an aborted auction
+     */
+    public void release() {
+        if (reservation > 0) {
+            budget.release(stripe, reservation);
+            reservation = 0;
+        }
+    }
+
+    /**
+     * @return the cash committed to the budget since the strategy was last initialized
+     */
+    public long committed() {
+        return committed;
+    }
+
+    /**
+     * @return the cash reserved for the bid of the current round, 0 once it is settled or released
+     */
+    public long reserved() {
+        return reservation;
+    }
+
+    /**
+     * @return the stripe of the budget this strategy reserves from
+     */
+    public int stripe() {
+        return stripe;
+    }
+}
@@ -0,0 +1,185 @@
+package com.optimax.tradingbot.impl.budget;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cash account shared by the bidders of many concurrent auctions, see {@link PortfolioStrategy}.
+ * <p>
+ * The cash is split into stripes, each on a cache line of its own, and every auction reserves from the stripe
+ * it was assigned. Auctions on different stripes never write the same memory, so the cost of a reservation
+ * does not grow with the number of auctions as long as there are about as many stripes as auction threads.
+ * A stripe running short pulls cash from the others, which only touches them when the budget gets unevenly spent.
+ * <p>
+ * A reservation takes the cash out of the stripes at once. It is then either committed, once the bid is settled,
+ * or released back. The cash of the account is therefore always the available plus the reserved plus the committed
+ * cash, and no stripe ever goes below zero.
+ */
+public final class SharedBudget {
+
+    private static final int STRIDE = 8;            // Longs per cache line, keeping the stripes apart
+
+    private final long initialCash;
+    private final AtomicLongArray stripes;
+    private final int mask;
+    private final AtomicInteger nextStripe = new AtomicInteger();
+    private final LongAdder reserved = new LongAdder();
+    private final LongAdder committed = new LongAdder();
+
+    /**
+     * Stripes the budget for the processors of the machine
+     */
+    public SharedBudget(long cash) {
+        this(cash, 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param cash    the cash of the account, spread evenly over the stripes
+     * @param stripes number of stripes, rounded up to a power of two
+     */
+    public SharedBudget(long cash, int stripes) {
+        if (cash < 0) {
+            throw new IllegalArgumentException("Cash must be >= 0");
+        }
+        if (stripes <= 0 || stripes > (1 << 16)) {
+            throw new IllegalArgumentException("Stripes must be in range (0, 2^16]");
+        }
+        int count = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.initialCash = cash;
+        this.stripes = new AtomicLongArray(count * STRIDE);
+        this.mask = count - 1;
+        for (int i = 0; i < count; i++) {
+            this.stripes.set(i * STRIDE, cash / count + (i < cash % count ? 1 : 0));
+        }
+    }
+
+    /**
+     * @return the stripe of a new auction, assigned round-robin
+     */
+    public int assignStripe() {
+        return nextStripe.getAndIncrement() & mask;
+    }
+
+    /**
+     * Reserves as much of the amount as the budget holds
+     *
+     * @param stripe stripe of the calling auction
+     * @return the cash reserved, less than the amount if the budget ran short
+     */
+    public long reserveUpTo(int stripe, long amount) {
+        if (amount <= 0) {
+            return 0;
+        }
+        int own = (stripe & mask) * STRIDE;
+        if (tryTake(own, amount)) {
+            reserved.add(amount);
+            return amount;
+        }
+        // Pull from the other stripes until there is enough, or take what is left
+        for (int i = 1; i <= mask; i++) {
+            int other = ((stripe + i) & mask) * STRIDE;
+            long available = stripes.get(other);
+            if (available <= 0) {
+                continue;
+            }
+            long missing = amount - stripes.get(own);
+            long pulled = takeUpTo(other, Math.max(missing, available / 2));
+            stripes.getAndAdd(own, pulled);
+            if (tryTake(own, amount)) {
+                reserved.add(amount);
+                return amount;
+            }
+        }
+        long taken = takeUpTo(own, amount);
+        reserved.add(taken);
+        return taken;
+    }
+
+    /**
+     * Turns reserved cash into spent cash
+     */
+    public void commit(long amount) {
+        reserved.add(-amount);
+        committed.add(amount);
+    }
+
+    /**
+     * Gives reserved cash back to the budget
+     *
+     * @param stripe stripe of the calling auction
+     */
+    public void release(int stripe, long amount) {
+        reserved.add(-amount);
+        stripes.getAndAdd((stripe & mask) * STRIDE, amount);
+    }
+
+    /**
+     * @return the cash neither reserved nor spent, exact once the auctions are done
+     */
+    public long available() {
+        long available = 0;
+        for (int i = 0; i <= mask; i++) {
+            available += stripes.get(i * STRIDE);
+        }
+        return available;
+    }
+
+    /**
+     * @return the cash reserved by bids not settled yet, exact once the auctions are done
+     */
+    public long reserved() {
+        return reserved.sum();
+    }
+
+    /**
+     * @return the cash spent by settled bids, exact once the auctions are done
+     */
+    public long committed() {
+        return committed.sum();
+    }
+
+    public long initialCash() {
+        return initialCash;
+    }
+
+    /**
+     * @return the lowest cash of a stripe, never negative unless the account is corrupted
+     */
+    public long lowestStripe() {
+        long lowest = Long.MAX_VALUE;
+        for (int i = 0; i <= mask; i++) {
+            lowest = Math.min(lowest, stripes.get(i * STRIDE));
+        }
+        return lowest;
+    }
+
+    public int stripes() {
+        return mask + 1;
+    }
+
+    private boolean tryTake(int index, long amount) {
+        long cash = stripes.get(index);
+        while (cash >= amount) {
+            long witness = stripes.compareAndExchange(index, cash, cash - amount);
+            if (witness == cash) {
+                return true;
+            }
+            cash = witness;
+        }
+        return false;
+    }
+
+    private long takeUpTo(int index, long amount) {
+        long cash = stripes.get(index);
+        while (cash > 0) {
+            long taken = Math.min(cash, amount);
+            long witness = stripes.compareAndExchange(index, cash, cash - taken);
+            if (witness == cash) {
+                return taken;
+            }
+            cash = witness;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,290 @@
+package com.optimax.tradingbot.impl.codec;
+
+import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.impl.BidderHistoryUnit;
+import org.springframework.lang.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads the frames written by a {@link ContextEncoder}.
+ * <p>
+ * The frame is read in place: {@link #state(int)} and {@link #unit(int)} return flyweights over the frame buffer,
+ * which are repositioned by each call, so they must not be retained, and the buffer must not be reused
+ * while the frame is being read. Only new bidder ids and the unit offsets of larger frames than seen so far allocate.
+ * {@link #applyTo(BidderContext)} materializes the frame into a replica of the encoded context instead.
+ */
+public final class ContextDecoder {
+
+    private static final int STATE_BYTES = 14;
+    private static final int BID_BYTES = 6;
+
+    private String[] ids = new String[8];
+    private int idCount;
+    private int nextSequence = -1;      // Of the next delta, -1 until a snapshot is read
+
+    private ByteBuffer frame;
+    private byte type;
+    private int statesOffset;
+    private int stateCount;
+    private int[] unitOffsets = new int[16];
+    private int unitCount;
+
+    private final StateFlyweight stateFlyweight = new StateFlyweight();
+    private final UnitFlyweight unitFlyweight = new UnitFlyweight();
+    private ReplicaState[] replicas = new ReplicaState[8];
+
+    /**
+     * Reads the frame at the position of the buffer and moves the position past it.
+     * The buffer is switched to big endian, the order of the frames.
+     *
+     * @throws IllegalStateException if the frame is a delta not following the previous frame, e.g. one was lost
+     */
+    public void read(@NonNull ByteBuffer frame) {
+        frame.order(ByteOrder.BIG_ENDIAN);
+        int position = frame.position();
+        byte frameType = frame.get(position);
+        int sequence = frame.getInt(position + 1);
+        if (frameType == ContextEncoder.SNAPSHOT) {
+            idCount = 0;
+        } else if (frameType != ContextEncoder.DELTA) {
+            throw new IllegalStateException("Unknown frame type " + frameType);
+        } else if (sequence != nextSequence) {
+            throw new IllegalStateException("Expected delta " + nextSequence + " but got " + sequence + ", a snapshot is due");
+        }
+        position += 5;
+
+        int newIds = frame.getShort(position);
+        position += 2;
+        for (int i = 0; i < newIds; i++) {
+            byte[] bytes = new byte[frame.getShort(position)];
+            frame.get(position + 2, bytes);
+            position += 2 + bytes.length;
+            if (idCount == ids.length) {
+                ids = Arrays.copyOf(ids, idCount * 2);
+            }
+            ids[idCount++] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        stateCount = frame.getShort(position);
+        statesOffset = position + 2;
+        position = statesOffset + stateCount * STATE_BYTES;
+
+        unitCount = frame.getInt(position);
+        position += 4;
+        if (unitCount > unitOffsets.length) {
+            unitOffsets = new int[Math.max(unitCount, unitOffsets.length * 2)];
+        }
+        for (int i = 0; i < unitCount; i++) {
+            unitOffsets[i] = position;
+            position += 6 + frame.getShort(position + 4) * BID_BYTES;
+        }
+
+        this.frame = frame;
+        this.type = frameType;
+        nextSequence = sequence + 1;
+        frame.position(position);
+    }
+
+    /**
+     * @return true if the last frame read is a snapshot of the whole context
+     */
+    public boolean isSnapshot() {
+        return type == ContextEncoder.SNAPSHOT;
+    }
+
+    /**
+     * @return number of states in the frame, all of them for a snapshot and the changed ones for a delta
+     */
+    public int stateCount() {
+        return stateCount;
+    }
+
+    /**
+     * @return a flyweight over the state, valid until the next call
+     */
+    public BidderState state(int index) {
+        return stateFlyweight.at(checkIndex(index, stateCount, statesOffset + index * STATE_BYTES));
+    }
+
+    public int unitCount() {
+        return unitCount;
+    }
+
+    /**
+     * @return a flyweight over the history unit, valid until the next call
+     */
+    public UnitFlyweight unit(int index) {
+        return unitFlyweight.at(checkIndex(index, unitCount, index < unitCount ? unitOffsets[index] : 0));
+    }
+
+    /**
+     * Applies the last frame read to a replica of the encoded context: a snapshot replaces its content,
+     * a delta updates its states and adds its units
+     */
+    public void applyTo(@NonNull BidderContext ctx) {
+        if (isSnapshot()) {
+            ctx.clear();
+            Arrays.fill(replicas, null);
+        }
+        if (idCount > replicas.length) {
+            replicas = Arrays.copyOf(replicas, ids.length);
+        }
+        for (int i = 0; i < stateCount; i++) {
+            int offset = statesOffset + i * STATE_BYTES;
+            int index = frame.getShort(offset);
+            ReplicaState replica = replicas[index];
+            if (replica == null) {
+                replica = new ReplicaState(ids[index]);
+                replicas[index] = replica;
+            }
+            replica.quantity = frame.getInt(offset + 2);
+            replica.cash = frame.getInt(offset + 6);
+            replica.totalQuantity = frame.getInt(offset + 10);
+            ctx.putState(replica);
+        }
+        for (int i = 0; i < unitCount; i++) {
+            ctx.addHistoryUnit(unit(i).toUnit());
+        }
+    }
+
+    private static int checkIndex(int index, int count, int offset) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + count);
+        }
+        return offset;
+    }
+
+    private final class StateFlyweight implements BidderState {
+
+        private int offset;
+
+        StateFlyweight at(int offset) {
+            this.offset = offset;
+            return this;
+        }
+
+        @Override
+        public String id() {
+            return ids[frame.getShort(offset)];
+        }
+
+        @Override
+        public int getQuantity() {
+            return frame.getInt(offset + 2);
+        }
+
+        @Override
+        public int cash() {
+            return frame.getInt(offset + 6);
+        }
+
+        @Override
+        public int totalQuantity() {
+            return frame.getInt(offset + 10);
+        }
+    }
+
+    /**
+     * View of a {@link BidderHistoryUnit} in the frame
+     */
+    public final class UnitFlyweight {
+
+        private int offset;
+
+        UnitFlyweight at(int offset) {
+            this.offset = offset;
+            return this;
+        }
+
+        /**
+         * @return number of rounds the unit stands for
+         */
+        public int rounds() {
+            return frame.getInt(offset);
+        }
+
+        /**
+         * @return number of bids in the unit
+         */
+        public int size() {
+            return frame.getShort(offset + 4);
+        }
+
+        public String id(int bid) {
+            return ids[frame.getShort(bidOffset(bid))];
+        }
+
+        public int bid(int bid) {
+            return frame.getInt(bidOffset(bid) + 2);
+        }
+
+        /**
+         * @return the bid of the bidder, or the given default if the bidder is not in the unit
+         */
+        public int bidOrDefault(@NonNull String id, int defaultBid) {
+            for (int i = 0; i < size(); i++) {
+                if (id(i).equals(id)) {
+                    return bid(i);
+                }
+            }
+            return defaultBid;
+        }
+
+        /**
+         * @return a unit holding the same bids, allocated
+         */
+        public BidderHistoryUnit toUnit() {
+            Map<String, Integer> bids = new HashMap<>();
+            for (int i = 0; i < size(); i++) {
+                bids.put(id(i), bid(i));
+            }
+            return new BidderHistoryUnit(bids, rounds());
+        }
+
+        private int bidOffset(int bid) {
+            return checkIndex(bid, size(), offset + 6 + bid * BID_BYTES);
+        }
+    }
+
+    /**
+     * State of a bidder of the replica, updated in place so the context keeps its views
+     */
+    private static final class ReplicaState implements BidderState {
+
+        private final String id;
+        private int quantity;
+        private int cash;
+        private int totalQuantity;
+
+        ReplicaState(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public int getQuantity() {
+            return quantity;
+        }
+
+        @Override
+        public int cash() {
+            return cash;
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public int totalQuantity() {
+            return totalQuantity;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.optimax.tradingbot.impl.codec;
+
+import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.impl.BidderHistoryUnit;
+import org.springframework.lang.NonNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+/**
+ * Encodes a {@link BidderContext} for one remote participant, read back by a {@link ContextDecoder}.
+ * <p>
+ * The first frame is a snapshot of the whole context. Each delta frame after it only holds what changed since
+ * the previous frame: the states whose values changed and the history units added, usually a single round.
+ * Bidder ids are sent once and then referred to by their index. A context cleared since the previous frame,
+ * as told by {@link BidderContext#clears()}, is sent as a snapshot again.
+ * <p>
+ * The units are taken from {@link BidderContext#getHistory()}, so only the history the context keeps is sent:
+ * in an auction where no strategy declares {@link com.optimax.tradingbot.bidder.StrategyCapability#HISTORY}
+ * the frames carry the states only.
+ * <p>
+ * Frame layout, in big endian whatever the order of the buffer, which is switched to big endian:
+ * <pre>
+ * byte  type          {@link #SNAPSHOT} or {@link #DELTA}
+ * int   sequence      0 for a snapshot, then incremented by each delta
+ * short new ids       each: short length, UTF-8 bytes
+ * short states        each: short id index, int quantity, int cash, int total quantity
+ * int   units         each: int rounds, short bids, each bid: short id index, int bid
+ * </pre>
+ * Single threaded, like the context it encodes.
+ */
+public final class ContextEncoder {
+
+    public static final byte SNAPSHOT = 1;
+    public static final byte DELTA = 2;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private int idsSent;
+    private String[] idOrder = new String[8];
+
+    // Values last sent for each id index
+    private int[] quantities = new int[8];
+    private int[] cashes = new int[8];
+    private int[] totals = new int[8];
+
+    private int sequence = -1;          // Of the last frame, -1 until a snapshot is written
+    private int unitsSent;
+    private int clearsSent;             // Of the context when the last snapshot was written
+
+    /**
+     * Writes the whole context, after which deltas can be written
+     *
+     * @throws BufferOverflowException if the frame does not fit, nothing is written then
+     */
+    public void writeSnapshot(@NonNull BidderContext ctx, @NonNull ByteBuffer out) {
+        ids.clear();
+        idsSent = 0;
+        unitsSent = 0;
+        sequence = 0;
+        clearsSent = ctx.clears();
+        write(ctx, out, SNAPSHOT, true);
+    }
+
+    /**
+     * Writes the states changed and the units added since the previous frame,
+     * or a snapshot if the context was cleared since
+     *
+     * @throws IllegalStateException   if no snapshot was written, or the last frame overflowed, a snapshot is due then
+     * @throws BufferOverflowException if the frame does not fit, nothing is written and a snapshot is due then
+     */
+    public void writeDelta(@NonNull BidderContext ctx, @NonNull ByteBuffer out) {
+        if (sequence < 0) {
+            throw new IllegalStateException("A snapshot must be written before the deltas");
+        }
+        if (ctx.clears() != clearsSent) {
+            writeSnapshot(ctx, out);
+            return;
+        }
+        sequence++;
+        write(ctx, out, DELTA, false);
+    }
+
+    private void write(BidderContext ctx, ByteBuffer out, byte type, boolean allStates) {
+        int start = out.position();
+        out.order(ByteOrder.BIG_ENDIAN);
+        try {
+            List<BidderState> states = ctx.getAllStates();
+            for (BidderState state : states) {
+                index(state.id());
+            }
+            List<BidderHistoryUnit> history = ctx.getHistory();
+            // Bidders only found in the history, e.g. gone from the states, need their ids as well
+            ListIterator<BidderHistoryUnit> units = history.listIterator(unitsSent);
+            while (units.hasNext()) {
+                for (String id : units.next().bids().keySet()) {
+                    index(id);
+                }
+            }
+
+            out.put(type);
+            out.putInt(sequence);
+            out.putShort((short) (ids.size() - idsSent));
+            for (int i = idsSent; i < ids.size(); i++) {
+                byte[] bytes = idOrder[i].getBytes(StandardCharsets.UTF_8);
+                out.putShort((short) bytes.length);
+                out.put(bytes);
+            }
+
+            int countPosition = out.position();
+            out.putShort((short) 0);
+            short changed = 0;
+            for (BidderState state : states) {
+                int index = ids.get(state.id());
+                if (allStates || index >= idsSent || quantities[index] != state.getQuantity()
+                        || cashes[index] != state.cash() || totals[index] != state.totalQuantity()) {
+                    out.putShort((short) index);
+                    out.putInt(state.getQuantity());
+                    out.putInt(state.cash());
+                    out.putInt(state.totalQuantity());
+                    changed++;
+                }
+            }
+            out.putShort(countPosition, changed);
+
+            out.putInt(history.size() - unitsSent);
+            units = history.listIterator(unitsSent);
+            while (units.hasNext()) {
+                BidderHistoryUnit unit = units.next();
+                out.putInt(unit.rounds());
+                out.putShort((short) unit.bids().size());
+                for (Map.Entry<String, Integer> bid : unit.bids().entrySet()) {
+                    out.putShort((short) (int) ids.get(bid.getKey()));
+                    out.putInt(bid.getValue());
+                }
+            }
+
+            // The frame is complete, remember what the participant has now
+            for (BidderState state : states) {
+                int index = ids.get(state.id());
+                quantities[index] = state.getQuantity();
+                cashes[index] = state.cash();
+                totals[index] = state.totalQuantity();
+            }
+            idsSent = ids.size();
+            unitsSent = history.size();
+        } catch (BufferOverflowException e) {
+            out.position(start);
+            sequence = -1;
+            throw e;
+        }
+    }
+
+    private void index(String id) {
+        if (ids.containsKey(id)) {
+            return;
+        }
+        int index = ids.size();
+        if (index > Short.MAX_VALUE) {
+            throw new IllegalStateException("Too many bidders to encode");
+        }
+        if (index == idOrder.length) {
+            idOrder = Arrays.copyOf(idOrder, index * 2);
+            quantities = Arrays.copyOf(quantities, index * 2);
+            cashes = Arrays.copyOf(cashes, index * 2);
+            totals = Arrays.copyOf(totals, index * 2);
+        }
+        idOrder[index] = id;
+        ids.put(id, index);
+    }
+}
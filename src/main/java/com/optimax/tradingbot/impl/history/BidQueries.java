@@ -0,0 +1,137 @@
+package com.optimax.tradingbot.impl.history;
+
+import com.optimax.tradingbot.impl.BidderHistoryUnit;
+import org.springframework.lang.NonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+
+/**
+ * Constant time queries over the bids of the history, maintained as the units are added.
+ * <p>
+ * Bids are indexed like the history: the query ranges are ranges of history units, from inclusive to exclusive.
+ * A unit standing for several idle rounds counts once, and a bidder missing from a unit counts as a bid of 0.
+ * The window queries cover the last {@link #window()} units, or all of them while there are fewer.
+ * <p>
+ * The sparse tables behind the range maxima and minima take O(log n) ints per unit and bidder,
+ * which is why the queries are only maintained once enabled on the context.
+ * Once enabled they are maintained even when no strategy reads the history itself.
+ */
+public final class BidQueries {
+
+    public static final int DEFAULT_WINDOW = 16;
+
+    private final int window;
+    private final Map<String, BidSeries> series = new HashMap<>();
+    private int size;
+
+    /**
+     * @param window number of the last units covered by the window queries; must be positive
+     */
+    public BidQueries(int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window must be > 0");
+        }
+        this.window = window;
+    }
+
+    /**
+     * Indexes the bids of the next history unit
+     */
+    public void append(@NonNull BidderHistoryUnit unit) {
+        for (String id : unit.bids().keySet()) {
+            if (!series.containsKey(id)) {
+                BidSeries bids = new BidSeries(window);
+                for (int i = 0; i < size; i++) {
+                    bids.append(0);
+                }
+                series.put(id, bids);
+            }
+        }
+        for (Map.Entry<String, BidSeries> entry : series.entrySet()) {
+            Integer bid = unit.bids().get(entry.getKey());
+            entry.getValue().append(bid == null ? 0 : bid);
+        }
+        size++;
+    }
+
+    public void clear() {
+        series.clear();
+        size = 0;
+    }
+
+    public int window() {
+        return window;
+    }
+
+    /**
+     * @return number of units indexed
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the max bid of the bidder over the window, empty if the bidder never bid
+     */
+    public OptionalInt windowMax(@NonNull String id) {
+        BidSeries bids = series.get(id);
+        return bids == null ? OptionalInt.empty() : OptionalInt.of(bids.windowMax());
+    }
+
+    /**
+     * @return the min bid of the bidder over the window, empty if the bidder never bid
+     */
+    public OptionalInt windowMin(@NonNull String id) {
+        BidSeries bids = series.get(id);
+        return bids == null ? OptionalInt.empty() : OptionalInt.of(bids.windowMin());
+    }
+
+    /**
+     * @return the mean bid of the bidder over the window, empty if the bidder never bid
+     */
+    public OptionalDouble windowMean(@NonNull String id) {
+        return mean(id, Math.max(0, size - window), size);
+    }
+
+    /**
+     * @param from first unit, inclusive
+     * @param to   last unit, exclusive
+     * @return the max bid of the bidder over the units, empty if the bidder never bid or the range is empty
+     * @throws IndexOutOfBoundsException if the range is out of the history
+     */
+    public OptionalInt max(@NonNull String id, int from, int to) {
+        BidSeries bids = series(id, from, to);
+        return bids == null ? OptionalInt.empty() : OptionalInt.of(bids.max(from, to));
+    }
+
+    /**
+     * @param from first unit, inclusive
+     * @param to   last unit, exclusive
+     * @return the min bid of the bidder over the units, empty if the bidder never bid or the range is empty
+     * @throws IndexOutOfBoundsException if the range is out of the history
+     */
+    public OptionalInt min(@NonNull String id, int from, int to) {
+        BidSeries bids = series(id, from, to);
+        return bids == null ? OptionalInt.empty() : OptionalInt.of(bids.min(from, to));
+    }
+
+    /**
+     * @param from first unit, inclusive
+     * @param to   last unit, exclusive
+     * @return the mean bid of the bidder over the units, empty if the bidder never bid or the range is empty
+     * @throws IndexOutOfBoundsException if the range is out of the history
+     */
+    public OptionalDouble mean(@NonNull String id, int from, int to) {
+        BidSeries bids = series(id, from, to);
+        return bids == null ? OptionalDouble.empty() : OptionalDouble.of((double) bids.sum(from, to) / (to - from));
+    }
+
+    private BidSeries series(String id, int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        return from == to ? null : series.get(id);
+    }
+}
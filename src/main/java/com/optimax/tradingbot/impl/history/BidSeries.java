@@ -0,0 +1,132 @@
+package com.optimax.tradingbot.impl.history;
+
+import java.util.Arrays;
+
+/**
+ * Bids of a single bidder, indexed for constant time range queries.
+ * <p>
+ * Keeps the prefix sums of the bids for means, a sparse table of maxima and one of minima
+ * for arbitrary ranges, and two monotonic deques for the maximum and minimum of the last {@code window} bids.
+ * Everything is extended in amortized constant time per bid, except the sparse tables which take
+ * one entry per level, i.e. O(log n).
+ */
+final class BidSeries {
+
+    private final int window;
+    private int size;
+
+    private long[] prefix = new long[17];               // Sum of the first i bids at i
+    private int[][] maxTable = new int[1][16];          // Max of the 2^level bids starting at i at [level][i]
+    private int[][] minTable = new int[1][16];
+
+    // Rings of bid indices, the bids decreasing from the head of the max deque and increasing from the head of the min one
+    private final int[] maxDeque;
+    private int maxHead;
+    private int maxSize;
+    private final int[] minDeque;
+    private int minHead;
+    private int minSize;
+
+    BidSeries(int window) {
+        this.window = window;
+        this.maxDeque = new int[window];
+        this.minDeque = new int[window];
+    }
+
+    void append(int bid) {
+        int index = size;
+        if (index == maxTable[0].length) {
+            grow();
+        }
+        prefix[index + 1] = prefix[index] + bid;
+
+        maxTable[0][index] = bid;
+        minTable[0][index] = bid;
+        for (int level = 1; (1 << level) <= index + 1; level++) {
+            if (level == maxTable.length) {
+                addLevel();
+            }
+            int start = index - (1 << level) + 1;
+            int half = start + (1 << (level - 1));
+            maxTable[level][start] = Math.max(maxTable[level - 1][start], maxTable[level - 1][half]);
+            minTable[level][start] = Math.min(minTable[level - 1][start], minTable[level - 1][half]);
+        }
+
+        while (maxSize > 0 && maxTable[0][maxDeque[slot(maxHead, maxSize - 1)]] <= bid) {
+            maxSize--;
+        }
+        if (maxSize > 0 && maxDeque[maxHead] <= index - window) {
+            maxHead = slot(maxHead, 1);   // Only the head can have left the window, making room for the new index
+            maxSize--;
+        }
+        maxDeque[slot(maxHead, maxSize++)] = index;
+
+        while (minSize > 0 && minTable[0][minDeque[slot(minHead, minSize - 1)]] >= bid) {
+            minSize--;
+        }
+        if (minSize > 0 && minDeque[minHead] <= index - window) {
+            minHead = slot(minHead, 1);   // Only the head can have left the window, making room for the new index
+            minSize--;
+        }
+        minDeque[slot(minHead, minSize++)] = index;
+
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int windowMax() {
+        return maxTable[0][maxDeque[maxHead]];
+    }
+
+    int windowMin() {
+        return minTable[0][minDeque[minHead]];
+    }
+
+    /**
+     * @return sum of the bids from {@code from}, inclusive, to {@code to}, exclusive
+     */
+    long sum(int from, int to) {
+        return prefix[to] - prefix[from];
+    }
+
+    /**
+     * @return max of the bids from {@code from}, inclusive, to {@code to}, exclusive; the range must not be empty
+     */
+    int max(int from, int to) {
+        int level = 31 - Integer.numberOfLeadingZeros(to - from);
+        return Math.max(maxTable[level][from], maxTable[level][to - (1 << level)]);
+    }
+
+    /**
+     * @return min of the bids from {@code from}, inclusive, to {@code to}, exclusive; the range must not be empty
+     */
+    int min(int from, int to) {
+        int level = 31 - Integer.numberOfLeadingZeros(to - from);
+        return Math.min(minTable[level][from], minTable[level][to - (1 << level)]);
+    }
+
+    private int slot(int head, int offset) {
+        int slot = head + offset;
+        return slot >= window ? slot - window : slot;
+    }
+
+    private void grow() {
+        int capacity = maxTable[0].length * 2;
+        prefix = Arrays.copyOf(prefix, capacity + 1);
+        for (int level = 0; level < maxTable.length; level++) {
+            maxTable[level] = Arrays.copyOf(maxTable[level], capacity);
+            minTable[level] = Arrays.copyOf(minTable[level], capacity);
+        }
+    }
+
+    private void addLevel() {
+        int capacity = maxTable[0].length;
+        maxTable = Arrays.copyOf(maxTable, maxTable.length + 1);
+        minTable = Arrays.copyOf(minTable, minTable.length + 1);
+        maxTable[maxTable.length - 1] = new int[capacity];
+        minTable[minTable.length - 1] = new int[capacity];
+    }
+}
@@ -0,0 +1,223 @@
+package com.optimax.tradingbot.impl.history;
+
+import com.optimax.tradingbot.impl.BidderHistoryUnit;
+import org.springframework.lang.NonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * History encoded into a byte array, for keeping many long auctions resident.
+ * <p>
+ * The units are cut into blocks of {@link #BLOCK_UNITS}. Within a block each bid is stored as the zigzag varint
+ * of its difference to the previous bid of the same bidder, so the repeated and slowly moving bids of an auction
+ * mostly take a single byte. A unit starts with a varint header holding its rounds and two flags:
+ * whether bidders joined with this unit, followed by the new number of bidders, and whether some bidders are missing
+ * from it, followed by a bitmap of the present ones. The offset and the number of bidders of each block are indexed,
+ * so reading a unit decodes at most one block, and reading the units in order continues from the previous read.
+ * <p>
+ * Units are decoded into new {@link BidderHistoryUnit}s on each read, equal to the added ones, except for the last unit
+ * which is kept as added. The history is append only and, like the default history, not thread-safe, reads included.
+ */
+public final class CompressedHistory extends AbstractList<BidderHistoryUnit> implements RandomAccess {
+
+    public static final int BLOCK_UNITS = 64;
+
+    private static final int BLOCK_SHIFT = 6;
+    private static final int MAX_BIDDERS = Long.SIZE;   // Bitmap of the present bidders
+    private static final int JOINED = 1;
+    private static final int PARTIAL = 2;
+    private static final int FLAG_BITS = 2;
+
+    private byte[] data = new byte[256];
+    private int length;
+    private int[] blockOffsets = new int[16];
+    private int[] blockBidders = new int[16];           // Number of bidders known at the start of each block
+    private int size;
+    private BidderHistoryUnit last;
+
+    private String[] bidders = new String[4];           // Bidder of each column, in order of appearance
+    private int bidderCount;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long[] previous = new long[4];              // Previous bid of each column in the block being written
+
+    // Decoding cursor, positioned before the unit of the given index
+    private int cursorUnit = -1;
+    private int cursorOffset;
+    private int cursorBidders;
+    private long[] cursorPrevious = new long[4];
+
+    @Override
+    public boolean add(@NonNull BidderHistoryUnit unit) {
+        int slot = size & (BLOCK_UNITS - 1);
+        if (slot == 0) {
+            startBlock();
+        }
+
+        int knownBidders = bidderCount;
+        for (String id : unit.bids().keySet()) {
+            if (!columns.containsKey(id)) {
+                addBidder(id);
+            }
+        }
+        boolean partial = unit.bids().size() < bidderCount;
+
+        long header = (long) unit.rounds() << FLAG_BITS | (bidderCount > knownBidders ? JOINED : 0) | (partial ? PARTIAL : 0);
+        writeVarint(header);
+        if (bidderCount > knownBidders) {
+            writeVarint(bidderCount);
+        }
+        long present = 0;
+        if (partial) {
+            for (int column = 0; column < bidderCount; column++) {
+                if (unit.bids().get(bidders[column]) != null) {
+                    present |= 1L << column;
+                }
+            }
+            writeVarint(present);
+        }
+        for (int column = 0; column < bidderCount; column++) {
+            Integer bid = unit.bids().get(bidders[column]);
+            if (bid != null) {
+                long delta = bid - previous[column];
+                writeVarint(delta << 1 ^ delta >> 63);
+                previous[column] = bid;
+            }
+        }
+
+        last = unit;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public BidderHistoryUnit get(int index) {
+        Objects.checkIndex(index, size);
+        if (index == size - 1) {
+            return last;
+        }
+        if (cursorUnit < 0 || index < cursorUnit || index >> BLOCK_SHIFT != cursorUnit >> BLOCK_SHIFT) {
+            seekBlock(index >> BLOCK_SHIFT);
+        }
+        while (cursorUnit < index) {
+            decodeNext(null);
+        }
+        Map<String, Integer> bids = new HashMap<>();
+        int rounds = decodeNext(bids);
+        if ((cursorUnit & (BLOCK_UNITS - 1)) == 0) {
+            cursorUnit = -1;    // Crossed into the next block, whose bids start from scratch
+        }
+        return new BidderHistoryUnit(bids, rounds);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of bytes the encoded units take
+     */
+    public int encodedBytes() {
+        return length;
+    }
+
+    @Override
+    public void clear() {
+        length = 0;
+        size = 0;
+        last = null;
+        Arrays.fill(bidders, null);
+        bidderCount = 0;
+        columns.clear();
+        cursorUnit = -1;
+        modCount++;
+    }
+
+    private void startBlock() {
+        int block = size >> BLOCK_SHIFT;
+        if (block == blockOffsets.length) {
+            blockOffsets = Arrays.copyOf(blockOffsets, block * 2);
+            blockBidders = Arrays.copyOf(blockBidders, block * 2);
+        }
+        blockOffsets[block] = length;
+        blockBidders[block] = bidderCount;
+        Arrays.fill(previous, 0);
+    }
+
+    private void addBidder(String id) {
+        if (bidderCount == MAX_BIDDERS) {
+            throw new IllegalStateException("At most " + MAX_BIDDERS + " bidders can be kept in a compressed history");
+        }
+        if (bidderCount == bidders.length) {
+            bidders = Arrays.copyOf(bidders, bidderCount * 2);
+            previous = Arrays.copyOf(previous, bidderCount * 2);
+            cursorPrevious = new long[bidderCount * 2];
+            cursorUnit = -1;
+        }
+        bidders[bidderCount] = id;
+        columns.put(id, bidderCount);
+        bidderCount++;
+    }
+
+    private void seekBlock(int block) {
+        cursorUnit = block << BLOCK_SHIFT;
+        cursorOffset = blockOffsets[block];
+        cursorBidders = blockBidders[block];
+        Arrays.fill(cursorPrevious, 0);
+    }
+
+    /**
+     * Decodes the unit at the cursor and moves past it
+     *
+     * @param bids map to put the bids into, null to only skip the unit
+     * @return the rounds of the unit
+     */
+    private int decodeNext(Map<String, Integer> bids) {
+        long header = readVarint();
+        if ((header & JOINED) != 0) {
+            cursorBidders = (int) readVarint();
+        }
+        long present = (header & PARTIAL) != 0 ? readVarint() : -1L;
+        for (int column = 0; column < cursorBidders; column++) {
+            if ((present & 1L << column) != 0) {
+                long zigzag = readVarint();
+                long bid = cursorPrevious[column] + (zigzag >>> 1 ^ -(zigzag & 1));
+                cursorPrevious[column] = bid;
+                if (bids != null) {
+                    bids.put(bidders[column], (int) bid);
+                }
+            }
+        }
+        cursorUnit++;
+        return (int) (header >>> FLAG_BITS);
+    }
+
+    private void writeVarint(long value) {
+        if (length + 10 > data.length) {
+            data = Arrays.copyOf(data, data.length + (data.length >> 1) + 10);
+        }
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    private long readVarint() {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[cursorOffset++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+}
@@ -0,0 +1,66 @@
+package com.optimax.tradingbot.impl.history;
+
+import com.optimax.tradingbot.impl.BidderHistoryUnit;
+import org.springframework.lang.NonNull;
+
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Decides how the history of a {@link com.optimax.tradingbot.impl.BidderContext} is kept.
+ * The history is appended to through {@link List#add} and dropped through {@link List#clear},
+ * strategies only ever read it through {@link com.optimax.tradingbot.impl.BidderContext#getHistory()}.
+ */
+@FunctionalInterface
+public interface HistoryPolicy {
+
+    /**
+     * Keeps every history unit on the heap for the whole auction
+     */
+    HistoryPolicy UNBOUNDED = LinkedList::new;
+
+    /**
+     * Keeps every history unit delta and varint encoded on the heap, see {@link CompressedHistory}
+     */
+    HistoryPolicy COMPRESSED = CompressedHistory::new;
+
+    /**
+     * @return a new empty history
+     */
+    List<BidderHistoryUnit> newHistory();
+
+    /**
+     * Bounds the units the {@link com.optimax.tradingbot.impl.ContextSnapshot}s keep on the heap as well,
+     * so enabling them does not undo a policy keeping the heap flat
+     *
+     * @return number of the most recent units kept on the heap, {@link Integer#MAX_VALUE} for all of them
+     */
+    default int heapUnits() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Keeps the last units on the heap and spills the older ones to a memory-mapped file,
+     * so the heap use stays flat regardless of the auction length. See {@link SpillingHistory}.
+     *
+     * @param hotUnits  number of the most recent units kept on the heap
+     * @param directory directory of the spill files, which are deleted once the history is closed or collected
+     */
+    static HistoryPolicy spillToDisk(int hotUnits, @NonNull Path directory) {
+        if (hotUnits <= 0) {
+            throw new IllegalArgumentException("Hot units must be > 0");
+        }
+        return new HistoryPolicy() {
+            @Override
+            public List<BidderHistoryUnit> newHistory() {
+                return new SpillingHistory(hotUnits, directory);
+            }
+
+            @Override
+            public int heapUnits() {
+                return hotUnits;
+            }
+        };
+    }
+}
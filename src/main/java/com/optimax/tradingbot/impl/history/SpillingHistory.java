@@ -0,0 +1,259 @@
+package com.optimax.tradingbot.impl.history;
+
+import com.optimax.tradingbot.impl.BidderHistoryUnit;
+import org.springframework.lang.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.TreeSet;
+
+/**
+ * History keeping only its most recent units on the heap.
+ * <p>
+ * Once more than the hot units have been added, the oldest unit is spilled into pages of {@link #PAGE_UNITS} units.
+ * A page is columnar: the rounds of its units first, then one column of bids per bidder,
+ * with the bidders fixed at the first spill. Full pages are written to a temporary file and mapped back
+ * lazily when a spilled unit is read, keeping the last few mapped pages around, so reading the history
+ * front to back pages through the file once. Only the hot units, the page being filled and the mapped pages
+ * take memory, and the mapped pages are off the heap.
+ * <p>
+ * Spilled units are decoded into new {@link BidderHistoryUnit}s on each read, equal to the added ones.
+ * The history is append only: units are added with {@link #add} and dropped all at once with {@link #clear}.
+ * Like the default history it is not thread-safe, reads included.
+ */
+public final class SpillingHistory extends AbstractList<BidderHistoryUnit> implements RandomAccess, Closeable {
+
+    public static final int PAGE_UNITS = 4096;
+
+    private static final int ABSENT = Integer.MIN_VALUE;   // Bid of a bidder missing from a unit
+    private static final int MAPPED_PAGES = 4;
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Path directory;
+    private final BidderHistoryUnit[] hot;                  // Ring of the most recent units
+    private int hotStart;
+    private int hotSize;
+
+    private int spilled;                                    // Units spilled into pages, flushed or not
+    private String[] bidders;                               // Bidder of each bid column, fixed at the first spill
+    private ByteBuffer page;                                // Page being filled
+    private int flushedPages;
+    private final Map<Integer, ByteBuffer> mapped = new LinkedHashMap<>(MAPPED_PAGES * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, ByteBuffer> eldest) {
+            return size() > MAPPED_PAGES;
+        }
+    };
+
+    private FileChannel channel;                            // Opened at the first flush
+    private Cleaner.Cleanable cleanable;
+
+    /**
+     * @param hotUnits  number of the most recent units kept on the heap; must be positive
+     * @param directory directory to create the spill file in
+     */
+    public SpillingHistory(int hotUnits, @NonNull Path directory) {
+        if (hotUnits <= 0) {
+            throw new IllegalArgumentException("Hot units must be > 0");
+        }
+        this.hot = new BidderHistoryUnit[hotUnits];
+        this.directory = directory;
+    }
+
+    /**
+     * Appends the unit, spilling the oldest hot unit if the hot units are full
+     *
+     * @throws IllegalStateException if a spilled unit has a bidder unknown at the first spill
+     */
+    @Override
+    public boolean add(@NonNull BidderHistoryUnit unit) {
+        if (hotSize == hot.length) {
+            spill(hot[hotStart]);
+            hot[hotStart] = null;
+            hotStart = hotStart + 1 == hot.length ? 0 : hotStart + 1;
+            hotSize--;
+        }
+        hot[hotIndex(hotSize)] = unit;
+        hotSize++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public BidderHistoryUnit get(int index) {
+        Objects.checkIndex(index, size());
+        if (index >= spilled) {
+            return hot[hotIndex(index - spilled)];
+        }
+        int pageIndex = index / PAGE_UNITS;
+        return decode(pageIndex == flushedPages ? page : mappedPage(pageIndex), index % PAGE_UNITS);
+    }
+
+    @Override
+    public int size() {
+        return spilled + hotSize;
+    }
+
+    /**
+     * @return number of units spilled off the heap
+     */
+    public int spilledUnits() {
+        return spilled;
+    }
+
+    /**
+     * Drops all the units. The spill file is truncated and reused, and the bidders are chosen anew at the next spill.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(hot, null);
+        hotStart = 0;
+        hotSize = 0;
+        spilled = 0;
+        bidders = null;
+        flushedPages = 0;
+        mapped.clear();
+        if (channel != null) {
+            try {
+                channel.truncate(0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        modCount++;
+    }
+
+    /**
+     * Drops all the units and deletes the spill file
+     */
+    @Override
+    public void close() {
+        clear();
+        if (cleanable != null) {
+            cleanable.clean();
+            cleanable = null;
+            channel = null;
+        }
+    }
+
+    private int hotIndex(int offset) {
+        int index = hotStart + offset;
+        return index >= hot.length ? index - hot.length : index;
+    }
+
+    private void spill(BidderHistoryUnit unit) {
+        if (bidders == null) {
+            startPaging(unit);
+        }
+        if (unit.bids().size() > bidders.length || !Arrays.asList(bidders).containsAll(unit.bids().keySet())) {
+            throw new IllegalStateException("Bidders joining after the history started spilling cannot be spilled");
+        }
+        int slot = spilled % PAGE_UNITS;
+        page.putInt(slot * Integer.BYTES, unit.rounds());
+        for (int column = 0; column < bidders.length; column++) {
+            Integer bid = unit.bids().get(bidders[column]);
+            if (bid != null && bid == ABSENT) {
+                throw new IllegalArgumentException("Bid " + ABSENT + " cannot be spilled");
+            }
+            page.putInt(offset(column, slot), bid == null ? ABSENT : bid);
+        }
+        spilled++;
+        if (slot + 1 == PAGE_UNITS) {
+            flush();
+        }
+    }
+
+    /**
+     * Fixes the bidders from the units added so far
+     */
+    private void startPaging(BidderHistoryUnit first) {
+        TreeSet<String> ids = new TreeSet<>(first.bids().keySet());
+        for (BidderHistoryUnit unit : hot) {
+            if (unit != null) {
+                ids.addAll(unit.bids().keySet());
+            }
+        }
+        bidders = ids.toArray(String[]::new);
+        int pageBytes = (bidders.length + 1) * PAGE_UNITS * Integer.BYTES;
+        if (page == null || page.capacity() != pageBytes) {
+            page = ByteBuffer.allocate(pageBytes).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    private void flush() {
+        try {
+            if (channel == null) {
+                Path file = Files.createTempFile(directory, "bid-history", ".bin");
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+                cleanable = CLEANER.register(this, new ChannelCloser(channel));
+            }
+            page.clear();
+            long position = (long) flushedPages * page.capacity();
+            while (page.hasRemaining()) {
+                position += channel.write(page, position);
+            }
+            flushedPages++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ByteBuffer mappedPage(int pageIndex) {
+        ByteBuffer buffer = mapped.get(pageIndex);
+        if (buffer == null) {
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, (long) pageIndex * page.capacity(), page.capacity())
+                        .order(ByteOrder.nativeOrder());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            mapped.put(pageIndex, buffer);
+        }
+        return buffer;
+    }
+
+    private BidderHistoryUnit decode(ByteBuffer buffer, int slot) {
+        Map<String, Integer> bids = new HashMap<>();
+        for (int column = 0; column < bidders.length; column++) {
+            int bid = buffer.getInt(offset(column, slot));
+            if (bid != ABSENT) {
+                bids.put(bidders[column], bid);
+            }
+        }
+        return new BidderHistoryUnit(bids, buffer.getInt(slot * Integer.BYTES));
+    }
+
+    private static int offset(int column, int slot) {
+        return ((column + 1) * PAGE_UNITS + slot) * Integer.BYTES;
+    }
+
+    /**
+     * Closes the spill file, deleting it, once the history is closed or unreachable
+     */
+    private record ChannelCloser(FileChannel channel) implements Runnable {
+        @Override
+        public void run() {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // The file is gone with the process at the latest
+            }
+        }
+    }
+}
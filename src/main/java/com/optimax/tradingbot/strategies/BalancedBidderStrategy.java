@@ -3,11 +3,15 @@ package com.optimax.tradingbot.strategies;
 import com.optimax.tradingbot.bidder.BidderState;
 import org.springframework.lang.NonNull;
 import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.bidder.StrategyCapability;
 import com.optimax.tradingbot.impl.BidderContext;
 import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.enums.BidderStrategyGreediness;
 import com.optimax.tradingbot.utils.Pair;
 
+import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 
 public class BalancedBidderStrategy implements BidderStrategy {
 
@@ -38,27 +42,88 @@ public class BalancedBidderStrategy implements BidderStrategy {
             return OptionalInt.empty();
         }
 
-        double greedMultiplier = switch (params.greediness()) {
-            case STRONG -> 1.5;
-            case MEDIUM -> 1.0;
-            case WEAK -> 0.5;
-        };
+        int bid = computeBid(params, own.cash(), initialQuantity);
+        return bid == 0 ? OptionalInt.empty() : OptionalInt.of(bid);
+    }
 
-        Pair<Integer, Integer> riskRewardRatio = params.riskRewardRatio();
-        int riskRatio = riskRewardRatio.getFirst();
-        int rewardRatio = riskRewardRatio.getSecond();
+    /**
+     * The bids only depend on the own cash, which only changes by the own bids,
+     * so the whole schedule of the remaining rounds is known up front.
+     */
+    @Override
+    public Optional<int[]> bidPlan(BidderState own, int remainingRounds) {
+        int quantity = initialQuantity == 0 ? own.totalQuantity() : initialQuantity;
+        OptionalInt maxRounds = params.maxRounds();
 
-        int ownCash = own.cash();
-        if (riskRatio + rewardRatio == 0 || ownCash <= 0) {
-            return OptionalInt.empty();
+        int[] plan = new int[remainingRounds];
+        int cash = own.cash();
+        for (int i = 0; i < remainingRounds; i++) {
+            if (maxRounds.isPresent() && round + i > maxRounds.getAsInt()) {
+                break;  // No more bids, the rest of the plan stays 0
+            }
+            plan[i] = computeBid(params, cash, quantity);
+            cash -= plan[i];
+        }
+        return Optional.of(plan);
+    }
+
+    @Override
+    public void finishRounds(int rounds) {
+        round += rounds;
+    }
+
+    /**
+     * The bid formula without any per-auction state, shared with the flyweight engine
+     *
+     * @return the bid, 0 if no bid is possible
+     */
+    public static int computeBid(@NonNull BidderStrategyParameters params, int ownCash, int initialQuantity) {
+        return computeBid(greedMultiplier(params.greediness()), ratioFactor(params), ownCash, initialQuantity);
+    }
+
+    /**
+     * The bid formula with the factors derived from the parameters computed up front
+     *
+     * @param ratioFactor share of the reward in the risk-reward ratio, NaN if both are 0
+     * @return the bid, 0 if no bid is possible
+     */
+    public static int computeBid(double greedMultiplier, double ratioFactor, int ownCash, int initialQuantity) {
+        if (Double.isNaN(ratioFactor) || ownCash <= 0) {
+            return 0;
         }
 
-        double ratioFactor = (double) rewardRatio / (riskRatio + rewardRatio);
         double bidEstimate = ownCash * greedMultiplier * ratioFactor;
         int halfQtyLimit = (int) (initialQuantity * 0.5);
         int cappedBid = Math.min((int) Math.round(bidEstimate), halfQtyLimit - 1);
-        int bid = Math.clamp(cappedBid, 1, ownCash);
-        return OptionalInt.of(bid);
+        return Math.clamp(cappedBid, 1, ownCash);
+    }
+
+    /**
+     * @return share of the reward in the risk-reward ratio, NaN if both are 0
+     */
+    public static double ratioFactor(@NonNull BidderStrategyParameters params) {
+        Pair<Integer, Integer> riskRewardRatio = params.riskRewardRatio();
+        int riskRatio = riskRewardRatio.getFirst();
+        int rewardRatio = riskRewardRatio.getSecond();
+        return riskRatio + rewardRatio == 0 ? Double.NaN : (double) rewardRatio / (riskRatio + rewardRatio);
+    }
+
+    public static double greedMultiplier(@NonNull BidderStrategyGreediness greediness) {
+        return switch (greediness) {
+            case STRONG -> 1.5;
+            case MEDIUM -> 1.0;
+            case WEAK -> 0.5;
+        };
+    }
+
+    @Override
+    public Set<StrategyCapability> capabilities() {
+        return StrategyCapability.NONE;
+    }
+
+    @Override
+    public boolean isExhausted(BidderState own) {
+        return params.maxRounds().isPresent() && round > params.maxRounds().getAsInt();
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.optimax.tradingbot.strategies;
 
 import com.optimax.tradingbot.bidder.BidderState;
 import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.bidder.StrategyCapability;
 import com.optimax.tradingbot.impl.BidderContext;
 import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
 import org.springframework.lang.NonNull;
@@ -9,6 +10,7 @@ import org.springframework.lang.NonNull;
 import java.util.List;
 import java.util.OptionalInt;
 import java.util.Scanner;
+import java.util.Set;
 
 /**
  * A BidderStrategy implementation that prompts the user to input their bid manually each round via the console.
@@ -72,6 +74,16 @@ public class ConsoleInputBidderStrategy implements BidderStrategy {
         return OptionalInt.of(bid);
     }
 
+    @Override
+    public Set<StrategyCapability> capabilities() {
+        return StrategyCapability.NONE;
+    }
+
+    @Override
+    public boolean isExhausted(BidderState own) {
+        return params != null && params.maxRounds().isPresent() && round > params.maxRounds().getAsInt();
+    }
+
     @Override
     public void finishRound() {
         round++;
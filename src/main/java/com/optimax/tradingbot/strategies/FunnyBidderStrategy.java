@@ -2,6 +2,7 @@ package com.optimax.tradingbot.strategies;
 
 import com.optimax.tradingbot.bidder.BidderState;
 import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.bidder.StrategyCapability;
 import com.optimax.tradingbot.impl.BidderContext;
 import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
 import org.springframework.lang.NonNull;
@@ -9,6 +10,7 @@ import org.springframework.lang.NonNull;
 import java.util.List;
 import java.util.OptionalInt;
 import java.util.Random;
+import java.util.Set;
 
 /**
  * A humorous bidder strategy that makes random bids with funny commentary.
@@ -81,6 +83,16 @@ public class FunnyBidderStrategy implements BidderStrategy {
         return OptionalInt.of(bid);
     }
 
+    @Override
+    public Set<StrategyCapability> capabilities() {
+        return StrategyCapability.NONE;
+    }
+
+    @Override
+    public boolean isExhausted(BidderState own) {
+        return params != null && params.maxRounds().isPresent() && round > params.maxRounds().getAsInt();
+    }
+
     @Override
     public void finishRound() {
         round++;
@@ -1,20 +1,29 @@
 package com.optimax.tradingbot.strategies;
 
 import com.optimax.tradingbot.bidder.BidderState;
-import com.optimax.tradingbot.impl.BidderHistoryUnit;
 import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.bidder.StrategyCapability;
 import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.impl.BidderHistoryUnit;
 import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
 import org.springframework.lang.NonNull;
 
 import java.util.*;
 
+/**
+ * Outbids the last bid of the opponent, or bids aggressively without one.
+ * <p>
+ * The opponent bid is learnt through {@link #onRoundResult}. Drivers which ask for bids without reporting
+ * the rounds played, e.g. calling {@link #nextBid} directly, are served from the last unit of the history instead.
+ */
 public class GodlikeBidderStrategy implements BidderStrategy {
 
     private BidderStrategyParameters params;
     private int round;
     private int initialQuantity; // Refers to initial total quantity of items in the auction
     private int initialCash;
+    private int opponentLastBid; // Pushed through onRoundResult, so the history is not read
+    private boolean roundsReported; // False until the first onRoundResult, the history is read until then
     private final Random random;
 
     public GodlikeBidderStrategy(@NonNull BidderStrategyParameters params) {
@@ -33,6 +42,8 @@ public class GodlikeBidderStrategy implements BidderStrategy {
         this.round = 1;
         this.initialQuantity = 0;
         this.initialCash = 0;
+        this.opponentLastBid = 0;
+        this.roundsReported = false;
     }
 
     @NonNull
@@ -49,23 +60,38 @@ public class GodlikeBidderStrategy implements BidderStrategy {
             return OptionalInt.empty();
         }
 
-        int ownCash = own.cash();
-        if (ownCash <= 0) {
+        if (own.cash() <= 0) {
             return OptionalInt.empty();
         }
 
-        int bidValue;
-        int opponentLastMaxBid = 0;
-
-        if (!ctx.getHistory().isEmpty()) {
-            // Get the last round's history
-            BidderHistoryUnit lastRound = ctx.getHistory().getLast();
-            Optional<Integer> otherBidOpt = lastRound.getMaxBidInRound(own.id());
-            if (otherBidOpt.isPresent()) {
-                opponentLastMaxBid = otherBidOpt.get();
-            }
+        int opponentLastMaxBid = roundsReported ? opponentLastBid : lastOpponentBid(own, ctx);
+        return OptionalInt.of(computeBid(random, own.cash(), initialQuantity, opponentLastMaxBid));
+    }
+
+    /**
+     * Fallback for drivers which do not report the rounds, 0 if there is no history
+     */
+    private static int lastOpponentBid(BidderState own, BidderContext ctx) {
+        List<BidderHistoryUnit> history = ctx.getHistory();
+        if (history.isEmpty()) {
+            return 0;
+        }
+        return history.getLast().getMaxBidInRound(own.id()).orElse(0);
+    }
+
+    /**
+     * The bid formula without any per-auction state, shared with the flyweight engine
+     *
+     * @param opponentLastMaxBid the highest bid of the opponents in the last round, 0 if there is none
+     * @return the bid, 0 if no bid is possible
+     */
+    public static int computeBid(@NonNull Random random, int ownCash, int initialQuantity, int opponentLastMaxBid) {
+        if (ownCash <= 0) {
+            return 0;
         }
 
+        int bidValue;
+
         if (opponentLastMaxBid > 0) {
             // Bid slightly more than the opponent's last highest bid
             bidValue = Math.min(ownCash, opponentLastMaxBid + 1);
@@ -83,9 +109,23 @@ public class GodlikeBidderStrategy implements BidderStrategy {
         int godlikeMaxBidPerRoundQuantityCap = (int) (initialQuantity * 0.5);
         if (godlikeMaxBidPerRoundQuantityCap == 0) godlikeMaxBidPerRoundQuantityCap = 1;
 
-        bidValue = Math.min(bidValue, godlikeMaxBidPerRoundQuantityCap);
+        return Math.min(bidValue, godlikeMaxBidPerRoundQuantityCap);
+    }
+
+    @Override
+    public boolean isExhausted(BidderState own) {
+        return params.maxRounds().isPresent() && round > params.maxRounds().getAsInt();
+    }
+
+    @Override
+    public Set<StrategyCapability> capabilities() {
+        return StrategyCapability.NONE;
+    }
 
-        return OptionalInt.of(bidValue);
+    @Override
+    public void onRoundResult(int round, int ownBid, int opponentBid, int wonQuantity) {
+        opponentLastBid = opponentBid;
+        roundsReported = true;
     }
 
     @Override
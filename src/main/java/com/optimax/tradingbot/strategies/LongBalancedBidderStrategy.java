@@ -0,0 +1,106 @@
+package com.optimax.tradingbot.strategies;
+
+import com.optimax.tradingbot.bidder.LongBidderState;
+import com.optimax.tradingbot.bidder.LongBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.utils.Pair;
+import org.springframework.lang.NonNull;
+
+import java.math.BigInteger;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * {@link BalancedBidderStrategy} on 64-bit cash.
+ * <p>
+ * Up to {@link #EXACT_DOUBLE_CASH} the bid estimate is computed in double exactly like the int strategy,
+ * so both bid the same on int-sized auctions, except that estimates beyond {@link Integer#MAX_VALUE} no longer wrap around.
+ * Above it a double no longer holds the cash to the unit, so the estimate is computed as an exact fraction instead,
+ * with the same rounding.
+ */
+public class LongBalancedBidderStrategy implements LongBidderStrategy {
+
+    /**
+     * Largest cash for which the double estimate is exact to the unit
+     */
+    public static final long EXACT_DOUBLE_CASH = 1L << 50;
+
+    private BidderStrategyParameters params;
+    private int round;
+    private long initialQuantity;
+
+    public LongBalancedBidderStrategy(@NonNull BidderStrategyParameters params) {
+        init(params);
+    }
+
+    @Override
+    public void init(@NonNull BidderStrategyParameters params) {
+        this.params = params;
+        this.round = 1;
+        this.initialQuantity = 0;
+    }
+
+    @NonNull
+    @Override
+    public OptionalLong nextBid(LongBidderState own, LongBidderState opponent) {
+        if (initialQuantity == 0) {
+            initialQuantity = own.totalQuantity();
+        }
+
+        OptionalInt maxRounds = params.maxRounds();
+        if (maxRounds.isPresent() && round > maxRounds.getAsInt()) {
+            return OptionalLong.empty();
+        }
+
+        long bid = computeBid(params, own.cash(), initialQuantity);
+        return bid == 0 ? OptionalLong.empty() : OptionalLong.of(bid);
+    }
+
+    /**
+     * The bid formula of {@link BalancedBidderStrategy#computeBid} on 64-bit cash
+     *
+     * @return the bid, 0 if no bid is possible
+     */
+    public static long computeBid(@NonNull BidderStrategyParameters params, long ownCash, long initialQuantity) {
+        Pair<Integer, Integer> riskRewardRatio = params.riskRewardRatio();
+        long riskRatio = riskRewardRatio.getFirst();
+        long rewardRatio = riskRewardRatio.getSecond();
+
+        if (riskRatio + rewardRatio == 0 || ownCash <= 0) {
+            return 0;
+        }
+
+        long bidEstimate;
+        if (ownCash <= EXACT_DOUBLE_CASH) {
+            double ratioFactor = (double) rewardRatio / (riskRatio + rewardRatio);
+            bidEstimate = Math.round(ownCash * BalancedBidderStrategy.greedMultiplier(params.greediness()) * ratioFactor);
+        } else {
+            // The greed multipliers are halves: 1.5, 1.0 and 0.5
+            long greedHalves = Math.round(BalancedBidderStrategy.greedMultiplier(params.greediness()) * 2);
+            bidEstimate = roundedFraction(ownCash, greedHalves * rewardRatio, 2 * (riskRatio + rewardRatio));
+        }
+        long halfQtyLimit = initialQuantity / 2;
+        long cappedBid = Math.min(bidEstimate, halfQtyLimit - 1);
+        return Math.clamp(cappedBid, 1, ownCash);
+    }
+
+    /**
+     * @return {@code value * numerator / denominator} rounded half up, saturated at {@link Long#MAX_VALUE}
+     */
+    private static long roundedFraction(long value, long numerator, long denominator) {
+        BigInteger scaled = BigInteger.valueOf(value).multiply(BigInteger.valueOf(numerator)).shiftLeft(1)
+                .add(BigInteger.valueOf(denominator))
+                .divide(BigInteger.valueOf(denominator).shiftLeft(1));
+        return scaled.bitLength() < Long.SIZE ? scaled.longValue() : Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean isExhausted(LongBidderState own) {
+        return params.maxRounds().isPresent() && round > params.maxRounds().getAsInt();
+    }
+
+    @Override
+    public void finishRound(long ownBid, long opponentBid) {
+        round++;
+    }
+}
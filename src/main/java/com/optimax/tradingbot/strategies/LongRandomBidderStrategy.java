@@ -0,0 +1,76 @@
+package com.optimax.tradingbot.strategies;
+
+import com.optimax.tradingbot.bidder.LongBidderState;
+import com.optimax.tradingbot.bidder.LongBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import org.springframework.lang.NonNull;
+
+import java.util.OptionalLong;
+import java.util.Random;
+
+/**
+ * {@link RandomBidderStrategy} on 64-bit cash
+ */
+public class LongRandomBidderStrategy implements LongBidderStrategy {
+
+    private BidderStrategyParameters params;
+    private int round;
+    private long initialQuantity;
+    private final Random random;
+
+    public LongRandomBidderStrategy(@NonNull BidderStrategyParameters params) {
+        this(params, new Random());
+    }
+
+    public LongRandomBidderStrategy(@NonNull BidderStrategyParameters params, Random random) {
+        this.random = random;
+        init(params);
+    }
+
+    @Override
+    public void init(@NonNull BidderStrategyParameters params) {
+        this.params = params;
+        this.round = 1;
+        this.initialQuantity = 0;
+    }
+
+    @NonNull
+    @Override
+    public OptionalLong nextBid(LongBidderState own, LongBidderState opponent) {
+        if (initialQuantity == 0) {
+            initialQuantity = own.totalQuantity();
+        }
+
+        if (params.maxRounds().isPresent() && round > params.maxRounds().getAsInt()) {
+            return OptionalLong.empty();
+        }
+
+        long bid = computeBid(random, own.cash(), initialQuantity);
+        return bid == 0 ? OptionalLong.empty() : OptionalLong.of(bid);
+    }
+
+    /**
+     * The bid formula of {@link RandomBidderStrategy#computeBid} on 64-bit cash
+     *
+     * @return the bid, 0 if no bid is possible
+     */
+    public static long computeBid(@NonNull Random random, long ownCash, long initialQuantity) {
+        if (ownCash <= 0) {
+            return 0;
+        }
+
+        long halfQtyLimit = Math.max(1, initialQuantity / 2 - 1);
+        long maxAllowedBid = Math.min(ownCash, halfQtyLimit);
+        return random.nextLong(maxAllowedBid) + 1; // 1 to maxAllowedBid inclusive
+    }
+
+    @Override
+    public boolean isExhausted(LongBidderState own) {
+        return params.maxRounds().isPresent() && round > params.maxRounds().getAsInt();
+    }
+
+    @Override
+    public void finishRound(long ownBid, long opponentBid) {
+        round++;
+    }
+}
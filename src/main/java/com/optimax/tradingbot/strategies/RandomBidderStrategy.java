@@ -3,11 +3,13 @@ package com.optimax.tradingbot.strategies;
 import com.optimax.tradingbot.bidder.BidderState;
 import org.springframework.lang.NonNull;
 import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.bidder.StrategyCapability;
 import com.optimax.tradingbot.impl.BidderContext;
 import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
 
 import java.util.OptionalInt;
 import java.util.Random;
+import java.util.Set;
 
 public class RandomBidderStrategy implements BidderStrategy {
 
@@ -45,16 +47,33 @@ public class RandomBidderStrategy implements BidderStrategy {
             return OptionalInt.empty();
         }
 
-        int ownCash = own.cash();
+        int bid = computeBid(random, own.cash(), initialQuantity);
+        return bid == 0 ? OptionalInt.empty() : OptionalInt.of(bid);
+    }
+
+    /**
+     * The bid formula without any per-auction state, shared with the flyweight engine
+     *
+     * @return the bid, 0 if no bid is possible
+     */
+    public static int computeBid(@NonNull Random random, int ownCash, int initialQuantity) {
         if (ownCash <= 0) {
-            return OptionalInt.empty();
+            return 0;
         }
 
         int halfQtyLimit = Math.max(1, (int) (initialQuantity * 0.5) - 1);
         int maxAllowedBid = Math.min(ownCash, halfQtyLimit);
-        int bid = random.nextInt(maxAllowedBid) + 1; // 1 to maxAllowedBid inclusive
+        return random.nextInt(maxAllowedBid) + 1; // 1 to maxAllowedBid inclusive
+    }
 
-        return OptionalInt.of(bid);
+    @Override
+    public Set<StrategyCapability> capabilities() {
+        return StrategyCapability.NONE;
+    }
+
+    @Override
+    public boolean isExhausted(BidderState own) {
+        return params.maxRounds().isPresent() && round > params.maxRounds().getAsInt();
     }
 
     @Override
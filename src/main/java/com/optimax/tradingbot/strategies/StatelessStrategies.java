@@ -0,0 +1,211 @@
+package com.optimax.tradingbot.strategies;
+
+import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.bidder.StatelessBidderStrategy;
+import com.optimax.tradingbot.bidder.StrategyCapability;
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import org.springframework.lang.NonNull;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stateless versions of the built-in strategies, bidding exactly like their
+ * {@link com.optimax.tradingbot.bidder.BidderStrategy} counterparts.
+ * The parameters are turned into plain fields once, the fields changing during an auction live in a {@link RoundState}.
+ */
+public final class StatelessStrategies {
+
+    private StatelessStrategies() {
+    }
+
+    /**
+     * Per-auction state of the built-in strategies
+     */
+    public static final class RoundState {
+
+        private int round = 1;
+        private int initialQuantity;
+        private int opponentLastBid;
+        private final Random random;
+
+        RoundState(Random random) {
+            this.random = random;
+        }
+
+        /**
+         * @return the number of the round being played, starting at 1
+         */
+        public int round() {
+            return round;
+        }
+
+        private int initialQuantity(BidderState own) {
+            if (initialQuantity == 0) {
+                initialQuantity = own.totalQuantity();
+            }
+            return initialQuantity;
+        }
+    }
+
+    public static StatelessBidderStrategy<RoundState> balanced(@NonNull BidderStrategyParameters params) {
+        return new Balanced(params);
+    }
+
+    /**
+     * Each auction gets its own {@link Random}, seeded by the thread creating its state
+     */
+    public static StatelessBidderStrategy<RoundState> random(@NonNull BidderStrategyParameters params) {
+        return new RandomBids(params, null);
+    }
+
+    /**
+     * Each auction gets its own {@link Random}, the n-th one seeded with {@code seed + n}, counting from 0
+     */
+    public static StatelessBidderStrategy<RoundState> random(@NonNull BidderStrategyParameters params, long seed) {
+        return new RandomBids(params, new AtomicLong(seed));
+    }
+
+    /**
+     * Each auction gets its own {@link Random}, seeded by the thread creating its state
+     */
+    public static StatelessBidderStrategy<RoundState> godlike(@NonNull BidderStrategyParameters params) {
+        return new Godlike(params, null);
+    }
+
+    /**
+     * Each auction gets its own {@link Random}, the n-th one seeded with {@code seed + n}, counting from 0
+     */
+    public static StatelessBidderStrategy<RoundState> godlike(@NonNull BidderStrategyParameters params, long seed) {
+        return new Godlike(params, new AtomicLong(seed));
+    }
+
+    /**
+     * Common part of the built-in strategies: a round limit and no context read
+     */
+    private abstract static class BuiltIn implements StatelessBidderStrategy<RoundState> {
+
+        private final int maxRounds;
+        private final AtomicLong seeds;         // Null without a seed, or if no randomness is needed
+
+        BuiltIn(BidderStrategyParameters params, AtomicLong seeds) {
+            this.maxRounds = params.maxRounds().orElse(Integer.MAX_VALUE);
+            this.seeds = seeds;
+        }
+
+        Random newRandom() {
+            return new Random(seeds == null ? ThreadLocalRandom.current().nextLong() : seeds.getAndIncrement());
+        }
+
+        final boolean isOver(int round) {
+            return round > maxRounds;
+        }
+
+        @Override
+        public final boolean isExhausted(RoundState state, BidderState own) {
+            return isOver(state.round);
+        }
+
+        @Override
+        public Set<StrategyCapability> capabilities() {
+            return StrategyCapability.NONE;
+        }
+
+        @Override
+        public final void finishRounds(RoundState state, int rounds) {
+            state.round += rounds;
+        }
+    }
+
+    private static final class Balanced extends BuiltIn {
+
+        private final double greedMultiplier;
+        private final double ratioFactor;
+
+        Balanced(BidderStrategyParameters params) {
+            super(params, null);
+            this.greedMultiplier = BalancedBidderStrategy.greedMultiplier(params.greediness());
+            this.ratioFactor = BalancedBidderStrategy.ratioFactor(params);
+        }
+
+        @Override
+        public RoundState newState() {
+            return new RoundState(null);
+        }
+
+        @Override
+        public OptionalInt nextBid(RoundState state, BidderState own, BidderContext ctx) {
+            int quantity = state.initialQuantity(own);
+            if (isOver(state.round)) {
+                return OptionalInt.empty();
+            }
+            int bid = BalancedBidderStrategy.computeBid(greedMultiplier, ratioFactor, own.cash(), quantity);
+            return bid == 0 ? OptionalInt.empty() : OptionalInt.of(bid);
+        }
+
+        @Override
+        public Optional<int[]> bidPlan(RoundState state, BidderState own, int remainingRounds) {
+            int quantity = state.initialQuantity == 0 ? own.totalQuantity() : state.initialQuantity;
+            int[] plan = new int[remainingRounds];
+            int cash = own.cash();
+            for (int i = 0; i < remainingRounds && !isOver(state.round + i); i++) {
+                plan[i] = BalancedBidderStrategy.computeBid(greedMultiplier, ratioFactor, cash, quantity);
+                cash -= plan[i];
+            }
+            return Optional.of(plan);
+        }
+    }
+
+    private static final class RandomBids extends BuiltIn {
+
+        RandomBids(BidderStrategyParameters params, AtomicLong seeds) {
+            super(params, seeds);
+        }
+
+        @Override
+        public RoundState newState() {
+            return new RoundState(newRandom());
+        }
+
+        @Override
+        public OptionalInt nextBid(RoundState state, BidderState own, BidderContext ctx) {
+            int quantity = state.initialQuantity(own);
+            if (isOver(state.round)) {
+                return OptionalInt.empty();
+            }
+            int bid = RandomBidderStrategy.computeBid(state.random, own.cash(), quantity);
+            return bid == 0 ? OptionalInt.empty() : OptionalInt.of(bid);
+        }
+    }
+
+    private static final class Godlike extends BuiltIn {
+
+        Godlike(BidderStrategyParameters params, AtomicLong seeds) {
+            super(params, seeds);
+        }
+
+        @Override
+        public RoundState newState() {
+            return new RoundState(newRandom());
+        }
+
+        @Override
+        public OptionalInt nextBid(RoundState state, BidderState own, BidderContext ctx) {
+            int quantity = state.initialQuantity(own);
+            if (isOver(state.round) || own.cash() <= 0) {
+                return OptionalInt.empty();
+            }
+            return OptionalInt.of(GodlikeBidderStrategy.computeBid(state.random, own.cash(), quantity, state.opponentLastBid));
+        }
+
+        @Override
+        public void onRoundResult(RoundState state, int round, int ownBid, int opponentBid, int wonQuantity) {
+            state.opponentLastBid = opponentBid;
+        }
+    }
+}
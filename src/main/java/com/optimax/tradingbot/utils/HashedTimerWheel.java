@@ -0,0 +1,227 @@
+package com.optimax.tradingbot.utils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hashed timer wheel with O(1) insert and cancel.
+ * <p>
+ * Time is cut into ticks of a fixed duration and each timeout is hashed into the bucket of its deadline tick,
+ * a doubly linked list, so it can be unlinked in constant time. Deadlines more than one revolution ahead
+ * keep a count of revolutions to wait. Timeouts fire at the end of their tick, so the resolution is one tick.
+ * <p>
+ * The wheel is advanced by exactly one driver thread through {@link #advanceTo(long)}, which also runs the expired tasks.
+ * Timeouts may be scheduled and cancelled from any thread: they are handed over to the driver through lock-free queues
+ * and only ever linked and unlinked by the driver itself.
+ */
+public final class HashedTimerWheel {
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(Timeout.class, "state", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Timeout[] heads;      // First timeout of each bucket
+    private final int mask;
+    private final long tickNanos;
+    private final long startNanos;
+
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+
+    private long tick;                  // Next tick to be expired, driver thread only
+
+    /**
+     * Handle of a scheduled task
+     */
+    public static final class Timeout {
+        private final HashedTimerWheel wheel;
+        private final Runnable task;
+        private final long deadline;    // Relative to the start of the wheel
+        private long revolutions;       // Rounds of the wheel to wait for, driver thread only
+        private int bucket = -1;        // Bucket the timeout is linked into, -1 if not linked yet
+        private Timeout prev;
+        private Timeout next;
+        private volatile int state;
+
+        private Timeout(HashedTimerWheel wheel, Runnable task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout if it has not fired yet.
+         *
+         * @return false if the timeout had already fired or been cancelled
+         */
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+                return false;
+            }
+            wheel.cancelled.add(this);
+            return true;
+        }
+
+        /**
+         * @return the deadline in {@link System#nanoTime()} terms
+         */
+        public long deadlineNanos() {
+            return wheel.startNanos + deadline;
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+    }
+
+    /**
+     * @param tickNanos  duration of a tick, i.e. the resolution of the wheel
+     * @param wheelSize  number of buckets, rounded up to a power of two
+     * @param startNanos time of the first tick in {@link System#nanoTime()} terms
+     */
+    public HashedTimerWheel(long tickNanos, int wheelSize, long startNanos) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("Tick duration must be > 0");
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("Wheel size must be in range (0, 2^30]");
+        }
+        int size = Math.max(Integer.highestOneBit(wheelSize - 1) << 1, 1);
+        this.heads = new Timeout[size];
+        this.mask = size - 1;
+        this.tickNanos = tickNanos;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Schedules a task to be run by the driver thread once its deadline has passed. Safe to call from any thread.
+     *
+     * @param task          task to run
+     * @param deadlineNanos deadline in {@link System#nanoTime()} terms, deadlines in the past fire on the next tick
+     * @return handle to cancel the task with
+     */
+    public Timeout schedule(Runnable task, long deadlineNanos) {
+        Timeout timeout = new Timeout(this, task, Math.max(0, deadlineNanos - startNanos));
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Driver side. Expires all the ticks which ended until the given time and runs their tasks.
+     * A task throwing an exception does not prevent the others from running, the first exception is rethrown at the end.
+     *
+     * @param nowNanos current time in {@link System#nanoTime()} terms
+     * @return number of tasks run
+     */
+    public int advanceTo(long nowNanos) {
+        long lastTick = (nowNanos - startNanos) / tickNanos;  // Ticks before this one have ended
+        int fired = 0;
+        RuntimeException failure = null;
+        while (tick < lastTick) {
+            unlinkCancelled();
+            linkScheduled();
+
+            int bucket = (int) (tick & mask);
+            Timeout timeout = heads[bucket];
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.revolutions > 0) {
+                    timeout.revolutions--;
+                } else {
+                    unlink(timeout);
+                    if (STATE.compareAndSet(timeout, PENDING, EXPIRED)) {
+                        fired++;
+                        try {
+                            timeout.task.run();
+                        } catch (RuntimeException e) {
+                            if (failure == null) {
+                                failure = e;
+                            }
+                        }
+                    }
+                }
+                timeout = next;
+            }
+            tick++;
+        }
+        unlinkCancelled();
+        if (failure != null) {
+            throw failure;
+        }
+        return fired;
+    }
+
+    /**
+     * @return time until the current tick ends, for the driver to sleep
+     */
+    public long nanosUntilNextTick(long nowNanos) {
+        return Math.max(0, startNanos + (tick + 1) * tickNanos - nowNanos);
+    }
+
+    public long tickNanos() {
+        return tickNanos;
+    }
+
+    private void linkScheduled() {
+        Timeout timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            if (timeout.state != PENDING) {
+                continue;
+            }
+            long deadlineTick = Math.max(timeout.deadline / tickNanos, tick);
+            timeout.revolutions = (deadlineTick - tick) / heads.length;
+            link(timeout, (int) (deadlineTick & mask));
+        }
+    }
+
+    private void unlinkCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            // Timeouts cancelled before being linked are dropped in linkScheduled
+            if (timeout.bucket >= 0) {
+                unlink(timeout);
+            }
+        }
+    }
+
+    private void link(Timeout timeout, int bucket) {
+        Timeout head = heads[bucket];
+        timeout.bucket = bucket;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        heads[bucket] = timeout;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else if (heads[timeout.bucket] == timeout) {
+            heads[timeout.bucket] = timeout.next;
+        } else {
+            return;  // Already unlinked
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+    }
+}
@@ -0,0 +1,119 @@
+package com.optimax.tradingbot.utils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Bounded lock-free ring buffer of primitive longs for exactly one producer thread
+ * and one consumer thread.
+ * The producer only writes the tail and the consumer only writes the head,
+ * so both sides get by with ordered stores instead of CAS.
+ */
+public final class SpscLongRingBuffer {
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(SpscLongRingBuffer.class, "head", long.class);
+            TAIL = lookup.findVarHandle(SpscLongRingBuffer.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final long[] buffer;
+    private final int mask;
+
+    private volatile long head;     // Next slot to be consumed, written by the consumer only
+    private long cachedTail;        // Consumer's view of the tail
+    private volatile long tail;     // Next slot to be produced, written by the producer only
+    private long cachedHead;        // Producer's view of the head
+
+    /**
+     * @param capacity
+     *                maximum number of buffered values, rounded up to a power of two
+     */
+    public SpscLongRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be in range (0, 2^30]");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new long[Math.max(size, 1)];
+        this.mask = buffer.length - 1;
+    }
+
+    /**
+     * Producer side. Appends a value if there is room for it.
+     * @return false if the buffer is full
+     */
+    public boolean offer(long value) {
+        long t = tail;
+        if (t - cachedHead >= buffer.length) {
+            cachedHead = (long) HEAD.getAcquire(this);
+            if (t - cachedHead >= buffer.length) {
+                return false;
+            }
+        }
+        buffer[(int) t & mask] = value;
+        TAIL.setRelease(this, t + 1);
+        return true;
+    }
+
+    /**
+     * Producer side. Appends two values at once, the consumer never sees one of them without the other.
+     * @return false if there is no room for both values
+     */
+    public boolean offer(long first, long second) {
+        long t = tail;
+        if (t + 2 - cachedHead > buffer.length) {
+            cachedHead = (long) HEAD.getAcquire(this);
+            if (t + 2 - cachedHead > buffer.length) {
+                return false;
+            }
+        }
+        buffer[(int) t & mask] = first;
+        buffer[(int) (t + 1) & mask] = second;
+        TAIL.setRelease(this, t + 2);
+        return true;
+    }
+
+    /**
+     * Consumer side. Tells whether a value can be polled.
+     */
+    public boolean isEmpty() {
+        long h = head;
+        if (h < cachedTail) {
+            return false;
+        }
+        cachedTail = (long) TAIL.getAcquire(this);
+        return h >= cachedTail;
+    }
+
+    /**
+     * Consumer side. Removes the oldest value, the buffer must not be empty.
+     * @throws IllegalStateException if the buffer is empty
+     */
+    public long poll() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Ring buffer is empty");
+        }
+        long h = head;
+        long value = buffer[(int) h & mask];
+        HEAD.setRelease(this, h + 1);
+        return value;
+    }
+
+    /**
+     * @return number of buffered values, exact only when called from the producer or consumer while the other side is idle
+     */
+    public int size() {
+        return (int) ((long) TAIL.getAcquire(this) - (long) HEAD.getAcquire(this));
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+}
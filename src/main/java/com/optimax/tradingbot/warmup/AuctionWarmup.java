@@ -0,0 +1,133 @@
+package com.optimax.tradingbot.warmup;
+
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.bidder.BidderWinEvaluator;
+import com.optimax.tradingbot.core.Auction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Plays synthetic auctions until tiered compilation of the auction hot paths settles.
+ * <p>
+ * Every batch covers all strategy pairs and evaluators of the {@link WarmupPlan} through {@link Auction#run()},
+ * {@link Auction#runUntilDecided()} and the round-by-round API, so the code live auctions run
+ * gets profiled with the receiver types it will see. Compilation progress is watched through the {@link CompilationMXBean}.
+ */
+public class AuctionWarmup {
+
+    /**
+     * Logger of the synthetic auctions, kept apart from the {@link Auction} one so they can be turned down alone
+     */
+    public static final String AUCTION_LOGGER = "com.optimax.tradingbot.warmup.auctions";
+
+    private static final Logger auctionLog = LoggerFactory.getLogger(AUCTION_LOGGER);
+
+    private final WarmupPlan plan;
+    private final CompilationMXBean compiler;
+
+    public AuctionWarmup(@NonNull WarmupPlan plan) {
+        this(plan, ManagementFactory.getCompilationMXBean());
+    }
+
+    /**
+     * @param compiler JIT monitoring, null or without compilation time monitoring to play a fixed number of batches
+     */
+    AuctionWarmup(@NonNull WarmupPlan plan, CompilationMXBean compiler) {
+        this.plan = plan;
+        this.compiler = compiler != null && compiler.isCompilationTimeMonitoringSupported() ? compiler : null;
+    }
+
+    /**
+     * Runs the warm-up on the calling thread
+     *
+     * @param cancelled checked between batches, stops the warm-up when true
+     * @return what was played, {@link WarmupResult#settled()} telling whether compilation settled
+     */
+    public WarmupResult run(@NonNull BooleanSupplier cancelled) {
+        long start = System.nanoTime();
+        long deadline = start + plan.maxDuration().toNanos();
+        long compileStart = compilationMillis();
+
+        int batches = 0;
+        int quiet = 0;
+        long auctions = 0;
+        long rounds = 0;
+        boolean settled = false;
+        while (!cancelled.getAsBoolean() && System.nanoTime() - deadline < 0) {
+            long compileBefore = compilationMillis();
+            long[] played = playBatch();
+            auctions += played[0];
+            rounds += played[1];
+            batches++;
+
+            // Without monitoring, the minimum number of batches has to do
+            long compiled = compiler == null ? 0 : compilationMillis() - compileBefore;
+            quiet = compiled <= plan.settleMillis() ? quiet + 1 : 0;
+            if (batches >= plan.minBatches() && quiet >= plan.quietBatches()) {
+                settled = true;
+                break;
+            }
+        }
+
+        return new WarmupResult(batches, auctions, rounds,
+                compiler == null ? -1 : compilationMillis() - compileStart,
+                Duration.ofNanos(System.nanoTime() - start), settled);
+    }
+
+    /**
+     * @return number of auctions and rounds played
+     */
+    private long[] playBatch() {
+        long auctions = 0;
+        long rounds = 0;
+        for (BidderWinEvaluator evaluator : plan.evaluators()) {
+            for (Supplier<BidderStrategy> own : plan.strategies()) {
+                for (Supplier<BidderStrategy> other : plan.strategies()) {
+                    rounds += play(auction(own, other, evaluator), Mode.RUN);
+                    rounds += play(auction(own, other, evaluator), Mode.UNTIL_DECIDED);
+                    rounds += play(auction(own, other, evaluator), Mode.ROUND_BY_ROUND);
+                    auctions += Mode.values().length;
+                }
+            }
+        }
+        return new long[]{auctions, rounds};
+    }
+
+    private enum Mode {
+        RUN, UNTIL_DECIDED, ROUND_BY_ROUND
+    }
+
+    private Auction auction(Supplier<BidderStrategy> own, Supplier<BidderStrategy> other, BidderWinEvaluator evaluator) {
+        Auction auction = new Auction(plan.totalQuantity(), plan.baseCash(), own.get(), other.get(), evaluator);
+        auction.setLogger(auctionLog);
+        return auction;
+    }
+
+    /**
+     * @return number of rounds played
+     */
+    private static int play(Auction auction, Mode mode) {
+        switch (mode) {
+            case RUN -> auction.run();
+            case UNTIL_DECIDED -> auction.runUntilDecided();
+            case ROUND_BY_ROUND -> {
+                while (auction.playNextRound()) {
+                    // Rounds are played by the condition
+                }
+                auction.finish();
+            }
+        }
+        return auction.getRoundsPlayed();
+    }
+
+    private long compilationMillis() {
+        return compiler == null ? 0 : compiler.getTotalCompilationTime();
+    }
+}
@@ -0,0 +1,168 @@
+package com.optimax.tradingbot.warmup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Warms the JIT up with synthetic auctions in the background while the application starts,
+ * and holds the readiness state at {@link ReadinessState#REFUSING_TRAFFIC} until compilation has settled.
+ * <p>
+ * The result logging of the synthetic auctions, going to {@link AuctionWarmup#AUCTION_LOGGER}, is turned down meanwhile
+ * so they do not flood the log. Live auctions keep logging as configured.
+ */
+@Service
+public class AuctionWarmupService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AuctionWarmupService.class);
+
+    private final AuctionWarmup warmup;
+    private final ApplicationEventPublisher publisher;
+    private final LoggingSystem loggingSystem;      // null if logging cannot be reconfigured
+    private final CompletableFuture<WarmupResult> result = new CompletableFuture<>();
+
+    private volatile Thread thread;
+    private volatile boolean cancelled;
+    private boolean readinessHeld;                   // Guarded by this
+
+    @Autowired
+    public AuctionWarmupService(@NonNull WarmupPlan plan, @NonNull ApplicationEventPublisher publisher) {
+        this(new AuctionWarmup(plan), publisher, LoggingSystem.get(AuctionWarmupService.class.getClassLoader()));
+    }
+
+    AuctionWarmupService(@NonNull AuctionWarmup warmup, @NonNull ApplicationEventPublisher publisher, LoggingSystem loggingSystem) {
+        this.warmup = warmup;
+        this.publisher = publisher;
+        this.loggingSystem = loggingSystem;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        cancelled = false;
+        thread = new Thread(this::warmUp, "auction-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        cancelled = true;
+        Thread running = thread;
+        if (running != null) {
+            try {
+                running.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return thread != null && !result.isDone();
+    }
+
+    /**
+     * Keeps the application from accepting traffic while the warm-up is still running
+     */
+    @EventListener
+    public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return;
+        }
+        synchronized (this) {
+            if (result.isDone()) {
+                return;
+            }
+            readinessHeld = true;
+            // Under the lock, so the warm-up cannot complete and release readiness before it is held
+            log.info("Refusing traffic until the JIT warm-up has finished");
+            AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+        }
+    }
+
+    /**
+     * @return true once the warm-up has finished, settled or not
+     */
+    public boolean isWarm() {
+        return result.isDone();
+    }
+
+    /**
+     * Waits for the warm-up to finish
+     *
+     * @return the result of the warm-up
+     * @throws TimeoutException      if it has not finished in time
+     * @throws IllegalStateException if the warm-up failed
+     */
+    public WarmupResult awaitWarm(@NonNull Duration timeout) throws TimeoutException, InterruptedException {
+        try {
+            return result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Warm-up failed", e.getCause());
+        }
+    }
+
+    private void warmUp() {
+        LogLevel previous = quietLogs();
+        try {
+            WarmupResult warm = warmup.run(() -> cancelled);
+            log.info("JIT warm-up {} after {} batches ({} auctions) in {} ms, {} ms spent compiling",
+                    warm.settled() ? "settled" : "stopped", warm.batches(), warm.auctions(),
+                    warm.elapsed().toMillis(), warm.compilationMillis());
+            complete(warm, null);
+        } catch (RuntimeException e) {
+            log.error("JIT warm-up failed: {}", e.getMessage());
+            complete(null, e);
+        } finally {
+            restoreLogs(previous);
+        }
+    }
+
+    private synchronized void complete(WarmupResult warm, RuntimeException failure) {
+        if (failure == null) {
+            result.complete(warm);
+        } else {
+            result.completeExceptionally(failure);
+        }
+        // A failed warm-up only costs latency, it does not keep the application out of service.
+        // Published under the lock as well, so it is always ordered after a refusal
+        if (readinessHeld) {
+            AvailabilityChangeEvent.publish(publisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+
+    private LogLevel quietLogs() {
+        if (loggingSystem == null) {
+            return null;
+        }
+        LoggerConfiguration configuration = loggingSystem.getLoggerConfiguration(AuctionWarmup.AUCTION_LOGGER);
+        loggingSystem.setLogLevel(AuctionWarmup.AUCTION_LOGGER, LogLevel.WARN);
+        return configuration == null ? null : configuration.getConfiguredLevel();
+    }
+
+    private void restoreLogs(LogLevel previous) {
+        if (loggingSystem != null) {
+            loggingSystem.setLogLevel(AuctionWarmup.AUCTION_LOGGER, previous);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.optimax.tradingbot.warmup;
+
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.impl.DefaultBidderWinEvaluator;
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.GodlikeBidderStrategy;
+import com.optimax.tradingbot.strategies.RandomBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Default warm-up over the automated strategies and the default win evaluator.
+ * Applications with other strategies or evaluators provide their own {@link WarmupPlan} bean.
+ */
+@Configuration
+public class WarmupConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public WarmupPlan warmupPlan() {
+        BidderStrategyParameters params = BidderStrategyParametersBuilder.defaultBuilder().build();
+        List<Supplier<BidderStrategy>> strategies = List.of(
+                () -> new BalancedBidderStrategy(params),
+                () -> new RandomBidderStrategy(params),
+                () -> new GodlikeBidderStrategy(params)
+        );
+        return WarmupPlan.of(strategies, List.of(DefaultBidderWinEvaluator.INSTANCE));
+    }
+}
@@ -0,0 +1,55 @@
+package com.optimax.tradingbot.warmup;
+
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.bidder.BidderWinEvaluator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * What the warm-up plays and when it considers the JIT settled.
+ * <p>
+ * A batch plays one auction per ordered strategy pair and evaluator in every auction mode.
+ * Compilation counts as settled once {@code quietBatches} batches in a row spent at most {@code settleMillis}
+ * in the JIT compilers, but not before {@code minBatches} batches. The warm-up gives up after {@code maxDuration}.
+ *
+ * @param strategies    factories of every strategy used in live auctions, each call returning a fresh initialized instance
+ * @param evaluators    every win evaluator used in live auctions
+ * @param totalQuantity total quantity of the synthetic auctions
+ * @param baseCash      base cash of the synthetic auctions
+ * @param minBatches    batches played at least
+ * @param quietBatches  batches in a row without significant compilation
+ * @param settleMillis  compilation time per batch still considered quiet
+ * @param maxDuration   upper bound of the warm-up
+ */
+public record WarmupPlan(List<Supplier<BidderStrategy>> strategies,
+                         List<BidderWinEvaluator> evaluators,
+                         int totalQuantity,
+                         int baseCash,
+                         int minBatches,
+                         int quietBatches,
+                         long settleMillis,
+                         Duration maxDuration) {
+
+    public WarmupPlan {
+        if (strategies == null || strategies.isEmpty() || evaluators == null || evaluators.isEmpty()) {
+            throw new IllegalArgumentException("At least one strategy and one evaluator are required");
+        }
+        if (minBatches < 0 || quietBatches <= 0 || settleMillis < 0) {
+            throw new IllegalArgumentException("Invalid batch settings");
+        }
+        if (maxDuration == null || maxDuration.isNegative()) {
+            throw new IllegalArgumentException("Max duration must be >= 0");
+        }
+        strategies = List.copyOf(strategies);
+        evaluators = List.copyOf(evaluators);
+    }
+
+    /**
+     * Plan with the default auction size and settle criteria
+     */
+    public static WarmupPlan of(List<Supplier<BidderStrategy>> strategies, List<BidderWinEvaluator> evaluators) {
+        return new WarmupPlan(strategies, evaluators, 200, 1_000, 20, 5, 5, Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,16 @@
+package com.optimax.tradingbot.warmup;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a warm-up
+ *
+ * @param batches           batches played
+ * @param auctions          synthetic auctions played
+ * @param rounds            rounds played over all auctions
+ * @param compilationMillis time spent in the JIT compilers meanwhile, -1 if not monitored by the JVM
+ * @param elapsed           wall time of the warm-up
+ * @param settled           false if the warm-up stopped before compilation settled, on timeout or cancellation
+ */
+public record WarmupResult(int batches, long auctions, long rounds, long compilationMillis, Duration elapsed, boolean settled) {
+}
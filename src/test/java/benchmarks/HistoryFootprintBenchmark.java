@@ -0,0 +1,64 @@
+package benchmarks;
+
+import com.optimax.tradingbot.impl.BidderHistoryUnit;
+import com.optimax.tradingbot.impl.history.HistoryPolicy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Heap taken by resident auction histories, kept unbounded as lists of units and compressed.
+ * The bids follow the shape of the built-in strategies: a slowly decreasing balanced bid against
+ * the opponent's last bid plus one, with the occasional random jump.
+ * <p>
+ * Run with {@code java -Xmx2g -cp <test classpath> benchmarks.HistoryFootprintBenchmark}.
+ */
+public class HistoryFootprintBenchmark {
+
+    private static final int AUCTIONS = 200;
+    private static final int UNITS_PER_AUCTION = 10_000;
+
+    public static void main(String[] args) {
+        for (String name : List.of("unbounded", "compressed")) {
+            HistoryPolicy policy = name.equals("unbounded") ? HistoryPolicy.UNBOUNDED : HistoryPolicy.COMPRESSED;
+            long before = usedHeap();
+            List<List<BidderHistoryUnit>> histories = fill(policy);
+            long after = usedHeap();
+            System.out.printf("%-10s %.1f bytes/unit (%d histories)%n", name,
+                    (double) (after - before) / ((long) AUCTIONS * UNITS_PER_AUCTION), histories.size());
+        }
+    }
+
+    private static List<List<BidderHistoryUnit>> fill(HistoryPolicy policy) {
+        Random random = new Random(1);
+        List<List<BidderHistoryUnit>> histories = new ArrayList<>();
+        for (int a = 0; a < AUCTIONS; a++) {
+            List<BidderHistoryUnit> history = policy.newHistory();
+            int own = 5_000;
+            int other = 0;
+            for (int i = 0; i < UNITS_PER_AUCTION; i++) {
+                own = random.nextInt(50) == 0 ? random.nextInt(10_000) : Math.max(0, own - random.nextInt(3));
+                int next = own + 1;
+                // Units are built the way the context updater builds them
+                Map<String, Integer> bids = new HashMap<>();
+                bids.put("own", own);
+                bids.put("other", other);
+                history.add(new BidderHistoryUnit(bids));
+                other = next;
+            }
+            histories.add(history);
+        }
+        return histories;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
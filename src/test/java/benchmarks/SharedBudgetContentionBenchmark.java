@@ -0,0 +1,64 @@
+package benchmarks;
+
+import com.optimax.tradingbot.impl.budget.SharedBudget;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput of reserve and commit pairs on a {@link SharedBudget} for 1 to 64 auction threads.
+ * With at least as many stripes as threads it should grow with the threads until they outnumber the cores,
+ * and stay flat after that instead of collapsing under contention.
+ * <p>
+ * Run with {@code java -cp <test classpath> benchmarks.SharedBudgetContentionBenchmark [stripes]},
+ * by default striped for the processors of the machine.
+ */
+public class SharedBudgetContentionBenchmark {
+
+    private static final int OPERATIONS = 2_000_000;
+
+    public static void main(String[] args) throws Exception {
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            run(args, threads);         // Warmup
+            long nanos = run(args, threads);
+            System.out.printf("%2d threads: %.1f M reservations/s%n", threads, OPERATIONS * 1_000.0 / nanos);
+        }
+    }
+
+    private static long run(String[] args, int threads) throws InterruptedException {
+        SharedBudget budget = args.length > 0
+                ? new SharedBudget(Long.MAX_VALUE / 2, Integer.parseInt(args[0]))
+                : new SharedBudget(Long.MAX_VALUE / 2);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        LongAdder reserved = new LongAdder();
+        for (int t = 0; t < threads; t++) {
+            Thread auction = new Thread(() -> {
+                int stripe = budget.assignStripe();
+                long sum = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < OPERATIONS / threads; i++) {
+                    long cash = budget.reserveUpTo(stripe, 1 + (i & 31));
+                    budget.commit(cash);
+                    sum += cash;
+                }
+                reserved.add(sum);
+                done.countDown();
+            });
+            auction.setDaemon(true);
+            auction.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        if (reserved.sum() != budget.committed()) {
+            throw new IllegalStateException("Lost reservations");
+        }
+        return elapsed;
+    }
+}
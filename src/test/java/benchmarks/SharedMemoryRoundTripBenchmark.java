@@ -0,0 +1,78 @@
+package benchmarks;
+
+import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.core.shm.SharedMemoryStrategy;
+import com.optimax.tradingbot.core.shm.SharedMemoryStrategyHost;
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.impl.BidderStateImpl;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.OptionalInt;
+
+/**
+ * Latency of a bid exchanged with a strategy hosted on another thread through the shared file,
+ * the same path a sidecar process takes. Needs two free cores, both sides spin.
+ * <p>
+ * Run with {@code java -cp <test classpath> benchmarks.SharedMemoryRoundTripBenchmark [file]},
+ * by default in /dev/shm if present.
+ */
+public class SharedMemoryRoundTripBenchmark {
+
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int ROUNDS = 1_000_000;
+
+    public static void main(String[] args) throws Exception {
+        Path file = args.length > 0 ? Path.of(args[0])
+                : Files.isDirectory(Path.of("/dev/shm")) ? Path.of("/dev/shm/bidder-benchmark.shm") : Files.createTempFile("bidder", ".shm");
+        BidderStrategyParameters params = BidderStrategyParametersBuilder.defaultBuilder().build();
+        BidderStrategy echo = new BidderStrategy() {
+            @Override
+            public void init(BidderStrategyParameters params) {
+            }
+
+            @Override
+            public OptionalInt nextBid(BidderState own, BidderContext ctx) {
+                return OptionalInt.of(own.cash() & 7);
+            }
+        };
+
+        try (SharedMemoryStrategy remote = new SharedMemoryStrategy(file, SharedMemoryStrategy.DEFAULT_HISTORY_CAPACITY, Duration.ofSeconds(5));
+             SharedMemoryStrategyHost host = new SharedMemoryStrategyHost(file, echo, params)) {
+            Thread sidecar = new Thread(host, "sidecar");
+            sidecar.setDaemon(true);
+            sidecar.start();
+
+            BidderStateImpl own = new BidderStateImpl(0, 2, Integer.MAX_VALUE, "own");
+            BidderStateImpl other = new BidderStateImpl(0, 2, Integer.MAX_VALUE, "other");
+            BidderContext context = new BidderContext();
+            context.putState(own);
+            context.putState(other);
+
+            exchange(remote, own, context, WARMUP_ROUNDS);
+            long[] nanos = exchange(remote, own, context, ROUNDS);
+            Arrays.sort(nanos);
+            System.out.printf("round trip: p50 %d ns, p99 %d ns, p99.9 %d ns%n",
+                    nanos[ROUNDS / 2], nanos[(int) (ROUNDS * 0.99)], nanos[(int) (ROUNDS * 0.999)]);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long[] exchange(SharedMemoryStrategy remote, BidderStateImpl own, BidderContext context, int rounds) {
+        long[] nanos = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            int bid = remote.nextBid(own, context).orElseThrow();
+            nanos[i] = System.nanoTime() - start;
+            remote.onRoundResult(i + 1, bid, 0, 1);
+            own.decreaseCash(1);
+        }
+        return nanos;
+    }
+}
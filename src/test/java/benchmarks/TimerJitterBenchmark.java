@@ -0,0 +1,104 @@
+package benchmarks;
+
+import ch.qos.logback.classic.Level;
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.core.scheduling.AuctionScheduler;
+import com.optimax.tradingbot.core.scheduling.AuctionSchedulerListener;
+import com.optimax.tradingbot.core.scheduling.RoundCadence;
+import com.optimax.tradingbot.core.scheduling.ScheduledAuction;
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.RandomBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lateness of round openings and bid deadlines with 100k auctions paced by one {@link AuctionScheduler}.
+ * The auctions start staggered over one round period, so events are spread evenly over the ticks.
+ * <p>
+ * The live set of 100k auction histories makes stop-the-world collections the main source of jitter,
+ * so run it with a concurrent collector:
+ * {@code java -Xms2g -Xmx2g -XX:+UseZGC -XX:+ZGenerational --add-modules jdk.incubator.vector -cp <test classpath> benchmarks.TimerJitterBenchmark}.
+ */
+public class TimerJitterBenchmark {
+
+    private static final int AUCTIONS = 100_000;
+    private static final int TOTAL_QUANTITY = 20;
+    private static final int BASE_CASH = 1_000;
+    private static final int WORKERS = Runtime.getRuntime().availableProcessors() - 1;  // The timer thread takes one core
+    private static final Duration TICK = Duration.ofMillis(1);
+    private static final RoundCadence CADENCE = new RoundCadence(Duration.ofSeconds(1), Duration.ofMillis(500));
+
+    private static final long BUCKET_NANOS = 10_000;    // Histogram resolution of 10 µs
+    private static final int BUCKETS = 100_000;         // Up to 1 s, later events land in the last bucket
+
+    private static final BidderStrategyParameters PARAMS = BidderStrategyParametersBuilder.defaultBuilder().build();
+
+    public static void main(String[] args) {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+        AuctionSchedulerListener listener = new AuctionSchedulerListener() {
+            @Override
+            public void onEventFired(long latenessNanos) {
+                histogram.incrementAndGet((int) Math.min(BUCKETS - 1, Math.max(0, latenessNanos) / BUCKET_NANOS));
+            }
+        };
+
+        List<Auction> auctions = new ArrayList<>(AUCTIONS);
+        for (int i = 0; i < AUCTIONS; i++) {
+            auctions.add(new Auction(TOTAL_QUANTITY, BASE_CASH,
+                    new BalancedBidderStrategy(PARAMS), new RandomBidderStrategy(PARAMS, new Random(i))));
+        }
+
+        int wheelSize = (int) (CADENCE.period().toNanos() / TICK.toNanos());
+        long start = System.nanoTime();
+        try (AuctionScheduler scheduler = new AuctionScheduler(WORKERS, TICK, wheelSize, listener)) {
+            List<ScheduledAuction> scheduled = new ArrayList<>(AUCTIONS);
+            long stagger = CADENCE.period().toNanos() / AUCTIONS;
+            for (int i = 0; i < AUCTIONS; i++) {
+                // One period of headroom for scheduling all of them
+                Duration delay = Duration.ofNanos(CADENCE.period().toNanos() + i * stagger);
+                scheduled.add(scheduler.schedule(auctions.get(i), CADENCE, delay));
+            }
+            scheduled.forEach(s -> s.completion().join());
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long events = 0;
+        long max = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            events += histogram.get(i);
+            if (histogram.get(i) > 0) {
+                max = i;
+            }
+        }
+        System.out.printf("%d auctions, %d events in %.2f s on %d workers%n", AUCTIONS, events, elapsed / 1e9, WORKERS);
+        System.out.printf("Lateness p50:  %.2f ms%n", percentile(histogram, events, 0.50));
+        System.out.printf("Lateness p99:  %.2f ms%n", percentile(histogram, events, 0.99));
+        System.out.printf("Lateness p999: %.2f ms%n", percentile(histogram, events, 0.999));
+        System.out.printf("Lateness max:  %.2f ms%n", (max + 1) * BUCKET_NANOS / 1e6);
+    }
+
+    /**
+     * @return upper bound of the bucket holding the percentile, in milliseconds
+     */
+    private static double percentile(AtomicLongArray histogram, long events, double percentile) {
+        long rank = (long) Math.ceil(events * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histogram.get(i);
+            if (seen >= rank) {
+                return (i + 1) * BUCKET_NANOS / 1e6;
+            }
+        }
+        return BUCKETS * BUCKET_NANOS / 1e6;
+    }
+}
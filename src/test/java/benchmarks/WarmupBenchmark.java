@@ -0,0 +1,87 @@
+package benchmarks;
+
+import ch.qos.logback.classic.Level;
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.GodlikeBidderStrategy;
+import com.optimax.tradingbot.strategies.RandomBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import com.optimax.tradingbot.warmup.AuctionWarmup;
+import com.optimax.tradingbot.warmup.WarmupConfiguration;
+import com.optimax.tradingbot.warmup.WarmupResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Latency of the first live rounds in a fresh JVM, without and with the JIT warm-up of {@link AuctionWarmup}.
+ * Each variant runs in its own child JVM, so neither profits from the compilation done by the other.
+ * <p>
+ * Run with {@code java --add-modules jdk.incubator.vector -cp <test classpath> benchmarks.WarmupBenchmark}.
+ */
+public class WarmupBenchmark {
+
+    private static final int FIRST_ROUNDS = 1_000;
+    private static final int STEADY_ROUNDS = 50_000;
+    private static final int TOTAL_QUANTITY = 200;
+    private static final int BASE_CASH = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 1) {
+            measure(args[0].equals("warm"));
+            return;
+        }
+        for (String variant : new String[]{"cold", "warm"}) {
+            Process child = new ProcessBuilder(
+                    System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+                    "--add-modules", "jdk.incubator.vector",
+                    "-cp", System.getProperty("java.class.path"),
+                    WarmupBenchmark.class.getName(), variant)
+                    .inheritIO()
+                    .start();
+            child.waitFor();
+        }
+    }
+
+    private static void measure(boolean warm) {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        if (warm) {
+            WarmupResult result = new AuctionWarmup(new WarmupConfiguration().warmupPlan()).run(() -> false);
+            System.out.printf("Warm-up: %s after %d batches in %d ms%n",
+                    result.settled() ? "settled" : "stopped", result.batches(), result.elapsed().toMillis());
+        }
+
+        long[] latencies = new long[STEADY_ROUNDS];
+        BidderStrategyParameters params = BidderStrategyParametersBuilder.defaultBuilder().build();
+        Random seeds = new Random(42);
+        int round = 0;
+        while (round < STEADY_ROUNDS) {
+            Auction auction = new Auction(TOTAL_QUANTITY, BASE_CASH,
+                    round % 2 == 0 ? new BalancedBidderStrategy(params) : new GodlikeBidderStrategy(params, new Random(seeds.nextLong())),
+                    new RandomBidderStrategy(params, new Random(seeds.nextLong())));
+            boolean roundsLeft = true;
+            while (roundsLeft && round < STEADY_ROUNDS) {
+                long start = System.nanoTime();
+                roundsLeft = auction.playNextRound();
+                latencies[round++] = System.nanoTime() - start;
+            }
+            auction.finish();
+        }
+
+        String variant = warm ? "warm" : "cold";
+        report(variant, "first " + FIRST_ROUNDS + " rounds", Arrays.copyOfRange(latencies, 0, FIRST_ROUNDS));
+        report(variant, "steady state", Arrays.copyOfRange(latencies, STEADY_ROUNDS / 2, STEADY_ROUNDS));
+    }
+
+    private static void report(String variant, String label, long[] latencies) {
+        double mean = Arrays.stream(latencies).average().orElse(0);
+        Arrays.sort(latencies);
+        System.out.printf("%s, %-17s mean %8.0f ns, p50 %7d ns, p99 %8d ns%n", variant, label + ":", mean,
+                latencies[latencies.length / 2], latencies[(int) (latencies.length * 0.99)]);
+    }
+}
@@ -0,0 +1,110 @@
+package tests.core;
+
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.core.AuctionPool;
+import com.optimax.tradingbot.core.AuctionState;
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import com.optimax.tradingbot.strategies.builder.enums.BidderStrategyGreediness;
+import com.optimax.tradingbot.exceptions.AuctionValidatorException;
+import com.optimax.tradingbot.impl.history.HistoryPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuctionPoolTest {
+
+    private static final int TOTAL_QUANTITY = 10;
+    private static final int BASE_CASH = 100;
+
+    private Object getPrivateField(Object target, String fieldName) throws NoSuchFieldException, IllegalAccessException {
+        java.lang.reflect.Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+
+    @Test
+    @DisplayName("Reused auction should produce the same result as a fresh one")
+    void reusedAuctionShouldMatchFreshAuction() throws Exception {
+        BidderStrategyParameters strong = BidderStrategyParametersBuilder.defaultBuilder()
+                .withGreediness(BidderStrategyGreediness.STRONG)
+                .build();
+        BidderStrategyParameters weak = BidderStrategyParametersBuilder.defaultBuilder()
+                .withGreediness(BidderStrategyGreediness.WEAK)
+                .build();
+
+        Auction fresh = new Auction(TOTAL_QUANTITY, BASE_CASH, new BalancedBidderStrategy(strong), new BalancedBidderStrategy(weak));
+        fresh.run();
+        AuctionState expected = (AuctionState) getPrivateField(fresh, "auctionState");
+
+        AuctionPool pool = new AuctionPool(2);
+        BalancedBidderStrategy own = new BalancedBidderStrategy(weak);
+        BalancedBidderStrategy other = new BalancedBidderStrategy(strong);
+        Auction auction = pool.acquire(TOTAL_QUANTITY * 2, BASE_CASH * 3, own, other);
+        auction.run();
+        pool.release(auction);
+
+        own.init(strong);
+        other.init(weak);
+        Auction reused = pool.acquire(TOTAL_QUANTITY, BASE_CASH, own, other);
+        assertSame(auction, reused, "Released auction should be handed out again");
+        reused.run();
+        AuctionState actual = (AuctionState) getPrivateField(reused, "auctionState");
+
+        assertEquals(expected.getOwnBidderCash(), actual.getOwnBidderCash());
+        assertEquals(expected.getOtherBidderCash(), actual.getOtherBidderCash());
+        assertEquals(expected.getOwnBidderQuantityWon(), actual.getOwnBidderQuantityWon());
+        assertEquals(expected.getOtherBidderQuantityWon(), actual.getOtherBidderQuantityWon());
+        assertEquals(0, actual.getRemainingQuantity());
+    }
+
+    @Test
+    @DisplayName("Pool should keep at most the configured number of auctions")
+    void poolShouldBeBounded() {
+        BalancedBidderStrategy strategy = new BalancedBidderStrategy(BidderStrategyParametersBuilder.defaultBuilder().build());
+        AuctionPool pool = new AuctionPool(1);
+
+        Auction first = pool.acquire(TOTAL_QUANTITY, BASE_CASH, strategy, strategy);
+        Auction second = pool.acquire(TOTAL_QUANTITY, BASE_CASH, strategy, strategy);
+        assertNotSame(first, second);
+
+        pool.release(first);
+        pool.release(second);
+        assertEquals(1, pool.size());
+
+        assertThrows(IllegalArgumentException.class, () -> pool.acquire(3, BASE_CASH, strategy, strategy));
+        assertEquals(1, pool.size(), "Auction should stay pooled after a rejected reset");
+    }
+
+    @Test
+    @DisplayName("Configured auctions should not be handed out again")
+    void configuredAuctionShouldNotBePooled() throws Exception {
+        BalancedBidderStrategy strategy = new BalancedBidderStrategy(BidderStrategyParametersBuilder.defaultBuilder().build());
+        AuctionPool pool = new AuctionPool(2);
+
+        Auction configured = pool.acquire(TOTAL_QUANTITY, BASE_CASH, strategy, strategy);
+        configured.setLogger(LoggerFactory.getLogger("synthetic"));
+        configured.setHistoryPolicy(HistoryPolicy.COMPRESSED);
+        configured.enableContextSnapshots();
+        configured.addRoundValidator(state -> {
+            throw new AuctionValidatorException("Configured validator");
+        });
+        configured.addFinalValidator(state -> { });
+        configured.run();
+        pool.release(configured);
+        assertEquals(0, pool.size());
+
+        Auction acquired = pool.acquire(TOTAL_QUANTITY, BASE_CASH, strategy, strategy);
+        assertNotSame(configured, acquired);
+        acquired.run();
+        assertFalse(acquired.isAborted(), "Validators of the released auction should not apply");
+        assertThrows(IllegalStateException.class, acquired::contextSnapshot);
+        assertSame(LoggerFactory.getLogger(Auction.class), getPrivateField(acquired, "log"));
+
+        pool.release(acquired);
+        assertEquals(1, pool.size(), "Auctions left with their defaults should be pooled");
+    }
+}
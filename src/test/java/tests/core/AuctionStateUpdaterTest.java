@@ -176,4 +176,25 @@ class AuctionStateUpdaterTest {
         assertEquals(INITIAL_TOTAL_QUANTITY - 4, auctionState.getRemainingQuantity(),
                 "Remaining quantity remains " + (INITIAL_TOTAL_QUANTITY - 4));
     }
+
+    @Test
+    @DisplayName("Should apply tie quantities for all idle rounds without touching cash")
+    void shouldApplyTieQuantitiesForIdleRounds() {
+        BidderWinEvaluator ownWinEvaluator = new TestBidderWinEvaluator(1);
+        BidderWinEvaluator otherWinEvaluator = new TestBidderWinEvaluator(1);
+        AuctionStateUpdater updater = new AuctionStateUpdater(ownWinEvaluator, otherWinEvaluator);
+
+        updater.updateAuctionStateIdle(auctionState, 10);
+
+        assertEquals(INITIAL_BASE_CASH, auctionState.getOwnBidderCash(),
+                "Own bidder's cash should not change in idle rounds");
+        assertEquals(INITIAL_BASE_CASH, auctionState.getOtherBidderCash(),
+                "Other bidder's cash should not change in idle rounds");
+        assertEquals(10, auctionState.getOwnBidderQuantityWon(),
+                "Own bidder should win 1 quantity per idle round");
+        assertEquals(10, auctionState.getOtherBidderQuantityWon(),
+                "Other bidder should win 1 quantity per idle round");
+        assertEquals(INITIAL_TOTAL_QUANTITY - 20, auctionState.getRemainingQuantity(),
+                "Remaining quantity should decrease by 2 per idle round");
+    }
 }
@@ -3,13 +3,23 @@ package tests.core;
 import com.optimax.tradingbot.bidder.Bidder;
 import com.optimax.tradingbot.bidder.BidderState;
 import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.bidder.StrategyCapability;
 import com.optimax.tradingbot.bidder.BidderWinEvaluator;
 import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.core.AuctionOutcome;
 import com.optimax.tradingbot.core.AuctionState;
+import com.optimax.tradingbot.core.RoundOutcome;
 import com.optimax.tradingbot.core.validation.AuctionVerifier;
+import com.optimax.tradingbot.core.validation.RoundVerificationListener;
 import com.optimax.tradingbot.exceptions.AuctionValidatorException;
 import com.optimax.tradingbot.exceptions.InternalStrategyException;
 import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.impl.history.BidQueries;
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.GodlikeBidderStrategy;
+import com.optimax.tradingbot.strategies.RandomBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +30,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -106,6 +124,7 @@ class AuctionTest {
 
         AuctionVerifier spiedVerifier = spy((AuctionVerifier) getPrivateField(auction, "verifier"));
         setPrivateField(auction, "verifier", spiedVerifier);
+        doNothing().when(spiedVerifier).verifyConsistency(any(), any());
 
         BidderState ownState = mock(BidderState.class);
         when(ownState.id()).thenReturn("own");
@@ -118,15 +137,15 @@ class AuctionTest {
         when(mockOwnBidder.placeBid()).thenReturn(10, 10);
         when(mockOtherBidder.placeBid()).thenReturn(5, 5);
 
-        invokeAuctionLoop(auction, totalQuantity / 2);
+        invokeAuctionLoop(auction, totalQuantity / 2, false);
 
         verify(mockOwnBidder, times(totalQuantity / 2)).placeBid();
         verify(mockOtherBidder, times(totalQuantity / 2)).placeBid();
 
-        verify(mockOwnBidder, times(totalQuantity / 2)).bids(anyInt(), anyInt());
-        verify(mockOtherBidder, times(totalQuantity / 2)).bids(anyInt(), anyInt());
+        verify(mockOwnBidder, times(totalQuantity / 2)).bids(anyInt(), anyInt(), anyInt());
+        verify(mockOtherBidder, times(totalQuantity / 2)).bids(anyInt(), anyInt(), anyInt());
 
-        verify(spiedVerifier, times(totalQuantity / 2)).verifyRound(anyInt(), anyInt());
+        verify(spiedVerifier, times(totalQuantity / 2)).verifyRound(any(RoundOutcome.class));
 
         AuctionState finalState = (AuctionState) getPrivateField(auction, "auctionState");
         assertEquals(0, finalState.getRemainingQuantity());
@@ -146,6 +165,7 @@ class AuctionTest {
 
         AuctionVerifier spiedVerifier = spy((AuctionVerifier) getPrivateField(auction, "verifier"));
         setPrivateField(auction, "verifier", spiedVerifier);
+        doNothing().when(spiedVerifier).verifyConsistency(any(), any());
 
         BidderState ownState = mock(BidderState.class);
         when(ownState.id()).thenReturn("own");
@@ -158,15 +178,15 @@ class AuctionTest {
         when(mockOwnBidder.placeBid()).thenReturn(10, 0);
         when(mockOtherBidder.placeBid()).thenReturn(5, 0);
 
-        invokeAuctionLoop(auction, totalQuantity / 2);
+        invokeAuctionLoop(auction, totalQuantity / 2, false);
 
         verify(mockOwnBidder, times(5)).placeBid();
         verify(mockOtherBidder, times(5)).placeBid();
 
-        verify(mockOwnBidder, times(5)).bids(anyInt(), anyInt());
-        verify(mockOtherBidder, times(5)).bids(anyInt(), anyInt());
+        verify(mockOwnBidder, times(5)).bids(anyInt(), anyInt(), anyInt());
+        verify(mockOtherBidder, times(5)).bids(anyInt(), anyInt(), anyInt());
 
-        verify(spiedVerifier, times(5)).verifyRound(anyInt(), anyInt());
+        verify(spiedVerifier, times(5)).verifyRound(any(RoundOutcome.class));
 
         AuctionState finalState = (AuctionState) getPrivateField(auction, "auctionState");
         assertEquals(0, finalState.getRemainingQuantity());
@@ -174,6 +194,174 @@ class AuctionTest {
         assertEquals(4, finalState.getOtherBidderQuantityWon());
     }
 
+    @Test
+    @DisplayName("Auction should settle remaining rounds at once when both bidders are exhausted")
+    void auctionLoop_shouldFastForwardWhenBiddersExhausted() throws Exception {
+        int totalQuantity = 10; // Max 5 rounds
+        int baseCash = 100;
+
+        // Strategies reading the history, so the auction maintains it
+        when(mockOwnStrategy.capabilities()).thenReturn(StrategyCapability.ALL);
+        when(mockOpponentStrategy.capabilities()).thenReturn(StrategyCapability.ALL);
+        Auction auction = new Auction(totalQuantity, baseCash, mockOwnStrategy, mockOpponentStrategy);
+
+        setPrivateField(auction, "ownBidder", mockOwnBidder);
+        setPrivateField(auction, "otherBidder", mockOtherBidder);
+        BidderContext context = new BidderContext();
+        setPrivateField(auction, "context", context);
+
+        AuctionVerifier spiedVerifier = spy((AuctionVerifier) getPrivateField(auction, "verifier"));
+        setPrivateField(auction, "verifier", spiedVerifier);
+        doNothing().when(spiedVerifier).verifyConsistency(any(), any());
+
+        BidderState ownState = mock(BidderState.class);
+        when(ownState.id()).thenReturn("own");
+        when(mockOwnBidder.getState()).thenReturn(ownState);
+
+        BidderState otherState = mock(BidderState.class);
+        when(otherState.id()).thenReturn("opponent");
+        when(mockOtherBidder.getState()).thenReturn(otherState);
+
+        when(mockOwnBidder.isExhausted()).thenReturn(false, true);
+        when(mockOtherBidder.isExhausted()).thenReturn(true);
+        when(mockOwnBidder.placeBid()).thenReturn(10);
+        when(mockOtherBidder.placeBid()).thenReturn(5);
+
+        invokeAuctionLoop(auction, totalQuantity / 2, false);
+
+        verify(mockOwnBidder, times(1)).placeBid();
+        verify(mockOtherBidder, times(1)).placeBid();
+        verify(mockOwnBidder, times(1)).settleIdleRounds(4);
+        verify(mockOtherBidder, times(1)).settleIdleRounds(4);
+        verify(spiedVerifier, times(1)).verifyRound(any(RoundOutcome.class));
+        verify(spiedVerifier, times(1)).verifyIdleRounds(4);
+
+        AuctionState finalState = (AuctionState) getPrivateField(auction, "auctionState");
+        assertEquals(0, finalState.getRemainingQuantity());
+        assertEquals(6, finalState.getOwnBidderQuantityWon());
+        assertEquals(4, finalState.getOtherBidderQuantityWon());
+        assertEquals(baseCash - 10, finalState.getOwnBidderCash());
+        assertEquals(baseCash - 5, finalState.getOtherBidderCash());
+
+        assertEquals(2, context.getHistory().size(), "Idle rounds should be recorded as a single history entry");
+        assertEquals(4, context.getHistory().getLast().rounds());
+    }
+
+    @Test
+    @DisplayName("runUntilDecided should stop once the lead exceeds the remaining quantity")
+    void runUntilDecided_shouldStopWhenWinnerIsDecided() throws Exception {
+        int totalQuantity = 10; // Max 5 rounds
+        int baseCash = 100;
+
+        when(mockOwnStrategy.nextBid(any(), any())).thenReturn(OptionalInt.of(1));
+        when(mockOpponentStrategy.nextBid(any(), any())).thenReturn(OptionalInt.empty());
+
+        Auction auction = new Auction(totalQuantity, baseCash, mockOwnStrategy, mockOpponentStrategy);
+        AuctionOutcome outcome = auction.runUntilDecided();
+
+        // After 3 rounds own leads 6 to 0 while only 4 QU are left
+        assertEquals(AuctionOutcome.Winner.OWN, outcome.winner());
+        assertEquals(3, outcome.roundsPlayed());
+        assertTrue(outcome.decidedEarly());
+        assertEquals(6, outcome.ownQuantityMin());
+        assertEquals(10, outcome.ownQuantityMax());
+        assertEquals(0, outcome.otherQuantityMin());
+        assertEquals(4, outcome.otherQuantityMax());
+        verify(mockOwnStrategy, times(3)).nextBid(any(), any());
+    }
+
+    @Test
+    @DisplayName("runUntilDecided should stop at the same round with pipelined verification")
+    void runUntilDecided_shouldStopWhenDecidedInPipelinedMode() throws Exception {
+        int totalQuantity = 10;
+        int baseCash = 100;
+
+        when(mockOwnStrategy.nextBid(any(), any())).thenReturn(OptionalInt.of(1));
+        when(mockOpponentStrategy.nextBid(any(), any())).thenReturn(OptionalInt.empty());
+
+        Auction auction = new Auction(totalQuantity, baseCash, mockOwnStrategy, mockOpponentStrategy);
+        RoundVerificationListener listener = mock(RoundVerificationListener.class);
+        auction.enablePipelinedVerification(4, listener);
+        AuctionOutcome outcome = auction.runUntilDecided();
+
+        assertEquals(AuctionOutcome.Winner.OWN, outcome.winner());
+        assertEquals(3, outcome.roundsPlayed());
+        assertEquals(6, outcome.ownQuantityMin());
+        assertEquals(4, outcome.otherQuantityMax());
+        verify(listener, never()).onVerificationFailed(anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Round validators should not be added once the verifier thread runs")
+    void addRoundValidator_shouldFailInPipelinedMode() {
+        Auction auction = new Auction(10, 100, mockOwnStrategy, mockOpponentStrategy);
+        auction.enablePipelinedVerification(4, mock(RoundVerificationListener.class));
+
+        assertThrows(IllegalStateException.class, () -> auction.addRoundValidator(state -> { }));
+        auction.addFinalValidator(state -> { });
+
+        // Resetting stops the verifier thread, after which round validators can be added again
+        auction.reset(10, 100, mockOwnStrategy, mockOpponentStrategy);
+        auction.addRoundValidator(state -> { });
+    }
+
+    @Test
+    @DisplayName("The verifier thread should be dropped once the auction has run")
+    void run_shouldDropPipelineAfterRun() throws Exception {
+        when(mockOwnStrategy.nextBid(any(), any())).thenReturn(OptionalInt.of(3));
+        when(mockOpponentStrategy.nextBid(any(), any())).thenReturn(OptionalInt.of(2));
+
+        Auction auction = new Auction(10, 100, mockOwnStrategy, mockOpponentStrategy);
+        auction.enablePipelinedVerification(2, mock(RoundVerificationListener.class));
+        auction.run();
+
+        assertNull(getPrivateField(auction, "pipeline"));
+        auction.addRoundValidator(state -> { });
+    }
+
+    @Test
+    @DisplayName("runUntilDecided should consult the custom evaluator for the remaining gain")
+    void runUntilDecided_shouldUseCustomEvaluatorBound() throws Exception {
+        int totalQuantity = 10;
+        int baseCash = 100;
+
+        when(mockOwnStrategy.nextBid(any(), any())).thenReturn(OptionalInt.of(1));
+        when(mockOpponentStrategy.nextBid(any(), any())).thenReturn(OptionalInt.empty());
+        when(mockBidderWinEvaluator.evaluateWonQuantity(anyInt(), anyInt()))
+                .thenAnswer(inv -> (int) inv.getArgument(0) > (int) inv.getArgument(1) ? 2 : 0);
+        // The custom cost model says no bidder can win anything more after the first round
+        when(mockBidderWinEvaluator.maxRemainingGain(anyInt(), anyInt())).thenReturn(0);
+
+        Auction auction = new Auction(totalQuantity, baseCash, mockOwnStrategy, mockOpponentStrategy, mockBidderWinEvaluator);
+        AuctionOutcome outcome = auction.runUntilDecided();
+
+        assertEquals(AuctionOutcome.Winner.OWN, outcome.winner());
+        assertEquals(1, outcome.roundsPlayed());
+        assertEquals(2, outcome.ownQuantityMax());
+    }
+
+    @Test
+    @DisplayName("Auction should produce the same state with pipelined verification")
+    void run_shouldVerifyRoundsInPipelinedMode() throws Exception {
+        int totalQuantity = 10;
+        int baseCash = 100;
+
+        when(mockOwnStrategy.nextBid(any(), any())).thenReturn(OptionalInt.of(3));
+        when(mockOpponentStrategy.nextBid(any(), any())).thenReturn(OptionalInt.of(2));
+
+        Auction auction = new Auction(totalQuantity, baseCash, mockOwnStrategy, mockOpponentStrategy);
+        RoundVerificationListener listener = mock(RoundVerificationListener.class);
+        auction.enablePipelinedVerification(2, listener);
+        auction.run();
+
+        AuctionState finalState = (AuctionState) getPrivateField(auction, "auctionState");
+        assertEquals(0, finalState.getRemainingQuantity());
+        assertEquals(10, finalState.getOwnBidderQuantityWon());
+        assertEquals(baseCash - 15, finalState.getOwnBidderCash());
+        assertEquals(baseCash - 10, finalState.getOtherBidderCash());
+        verify(listener, never()).onVerificationFailed(anyInt(), any());
+    }
+
     @Test
     @DisplayName("Auction should handle InternalStrategyException from placeBid")
     void auctionLoop_shouldHandleInternalStrategyException() throws Exception {
@@ -188,13 +376,13 @@ class AuctionTest {
 
         when(mockOwnBidder.placeBid()).thenThrow(new InternalStrategyException("Strategy error"));
 
-        invokeAuctionLoop(auction, totalQuantity / 2);
+        invokeAuctionLoop(auction, totalQuantity / 2, false);
 
         verify(mockOwnBidder, times(1)).placeBid();
         verify(mockOtherBidder, never()).placeBid();
-        verify(mockOwnBidder, never()).bids(anyInt(), anyInt());
-        verify(mockOtherBidder, never()).bids(anyInt(), anyInt());
-        verify(spiedVerifier, never()).verifyRound(anyInt(), anyInt());
+        verify(mockOwnBidder, never()).bids(anyInt(), anyInt(), anyInt());
+        verify(mockOtherBidder, never()).bids(anyInt(), anyInt(), anyInt());
+        verify(spiedVerifier, never()).verifyRound(any(RoundOutcome.class));
     }
 
     @Test
@@ -211,16 +399,16 @@ class AuctionTest {
 
         when(mockOwnBidder.placeBid()).thenReturn(10);
         when(mockOtherBidder.placeBid()).thenReturn(5);
-        doThrow(new InvalidParameterException("Invalid bid parameter")).when(mockOwnBidder).bids(anyInt(), anyInt());
+        doThrow(new InvalidParameterException("Invalid bid parameter")).when(mockOwnBidder).bids(anyInt(), anyInt(), anyInt());
 
-        invokeAuctionLoop(auction, totalQuantity / 2);
+        invokeAuctionLoop(auction, totalQuantity / 2, false);
 
         verify(mockOwnBidder, times(1)).placeBid();
         verify(mockOtherBidder, times(1)).placeBid();
 
-        verify(mockOwnBidder, times(1)).bids(anyInt(), anyInt());
-        verify(mockOtherBidder, never()).bids(anyInt(), anyInt()); // Loop returns after first exception
-        verify(spiedVerifier, never()).verifyRound(anyInt(), anyInt());
+        verify(mockOwnBidder, times(1)).bids(anyInt(), anyInt(), anyInt());
+        verify(mockOtherBidder, never()).bids(anyInt(), anyInt(), anyInt()); // Loop returns after first exception
+        verify(spiedVerifier, never()).verifyRound(any(RoundOutcome.class));
     }
 
     @Test
@@ -235,18 +423,22 @@ class AuctionTest {
         AuctionVerifier spiedVerifier = spy((AuctionVerifier) getPrivateField(auction, "verifier"));
         setPrivateField(auction, "verifier", spiedVerifier);
 
+        // Cash after settlement goes into the flight recorder
+        when(mockOwnBidder.getState()).thenReturn(mock(BidderState.class));
+        when(mockOtherBidder.getState()).thenReturn(mock(BidderState.class));
+
         when(mockOwnBidder.placeBid()).thenReturn(1000); // Bid high enough to cause issue
         when(mockOtherBidder.placeBid()).thenReturn(1000);
 
-        doThrow(new AuctionValidatorException("Validation error: cash went negative")).when(spiedVerifier).verifyRound(anyInt(), anyInt());
+        doThrow(new AuctionValidatorException("Validation error: cash went negative")).when(spiedVerifier).verifyRound(any(RoundOutcome.class));
 
-        invokeAuctionLoop(auction, totalQuantity / 2);
+        invokeAuctionLoop(auction, totalQuantity / 2, false);
 
         verify(mockOwnBidder, times(1)).placeBid();
         verify(mockOtherBidder, times(1)).placeBid();
-        verify(mockOwnBidder, times(1)).bids(anyInt(), anyInt());
-        verify(mockOtherBidder, times(1)).bids(anyInt(), anyInt());
-        verify(spiedVerifier, times(1)).verifyRound(anyInt(), anyInt());
+        verify(mockOwnBidder, times(1)).bids(anyInt(), anyInt(), anyInt());
+        verify(mockOtherBidder, times(1)).bids(anyInt(), anyInt(), anyInt());
+        verify(spiedVerifier, times(1)).verifyRound(any(RoundOutcome.class));
     }
 
     @Test
@@ -275,6 +467,7 @@ class AuctionTest {
 
         AuctionVerifier spiedVerifier = spy((AuctionVerifier) getPrivateField(auction, "verifier"));
         setPrivateField(spiedAuction, "verifier", spiedVerifier); // Inject the spied verifier
+        doNothing().when(spiedVerifier).verifyConsistency(any(), any());
 
         spiedAuction.run();
 
@@ -283,9 +476,9 @@ class AuctionTest {
         // These verifications confirm that the auctionLoop logic ran for the expected rounds.
         verify(mockOwnBidder, times(totalQuantity / 2)).placeBid();
         verify(mockOtherBidder, times(totalQuantity / 2)).placeBid();
-        verify(mockOwnBidder, times(totalQuantity / 2)).bids(anyInt(), anyInt());
-        verify(mockOtherBidder, times(totalQuantity / 2)).bids(anyInt(), anyInt());
-        verify(spiedVerifier, times(totalQuantity / 2)).verifyRound(anyInt(), anyInt());
+        verify(mockOwnBidder, times(totalQuantity / 2)).bids(anyInt(), anyInt(), anyInt());
+        verify(mockOtherBidder, times(totalQuantity / 2)).bids(anyInt(), anyInt(), anyInt());
+        verify(spiedVerifier, times(totalQuantity / 2)).verifyRound(any(RoundOutcome.class));
 
         // Now, verify that verifyFinalState was called.
         verify(spiedVerifier, times(1)).verifyFinalState();
@@ -317,6 +510,7 @@ class AuctionTest {
 
         AuctionVerifier spiedVerifier = spy((AuctionVerifier) getPrivateField(auction, "verifier"));
         setPrivateField(spiedAuction, "verifier", spiedVerifier);
+        doNothing().when(spiedVerifier).verifyConsistency(any(), any());
 
         // Make verifyFinalState throw an exception
         doThrow(new AuctionValidatorException("Final state check failed")).when(spiedVerifier).verifyFinalState();
@@ -326,14 +520,162 @@ class AuctionTest {
         // Verify that the auction loop part still executed as expected before the final state verification failed
         verify(mockOwnBidder, times(totalQuantity / 2)).placeBid();
         verify(mockOtherBidder, times(totalQuantity / 2)).placeBid();
-        verify(mockOwnBidder, times(totalQuantity / 2)).bids(anyInt(), anyInt());
-        verify(mockOtherBidder, times(totalQuantity / 2)).bids(anyInt(), anyInt());
-        verify(spiedVerifier, times(totalQuantity / 2)).verifyRound(anyInt(), anyInt());
+        verify(mockOwnBidder, times(totalQuantity / 2)).bids(anyInt(), anyInt(), anyInt());
+        verify(mockOtherBidder, times(totalQuantity / 2)).bids(anyInt(), anyInt(), anyInt());
+        verify(spiedVerifier, times(totalQuantity / 2)).verifyRound(any(RoundOutcome.class));
 
         // Verify that verifyFinalState was indeed called (and then threw an exception)
         verify(spiedVerifier, times(1)).verifyFinalState();
     }
 
+    @Test
+    @DisplayName("History should only be built when one of the strategies reads it")
+    void run_shouldOnlyBuildHistoryWhenRead() throws Exception {
+        BidderStrategyParameters params = BidderStrategyParametersBuilder.defaultBuilder().build();
+
+        Auction callbacksOnly = new Auction(40, 300,
+                new GodlikeBidderStrategy(params, new Random(7)), new GodlikeBidderStrategy(params, new Random(11)));
+        callbacksOnly.run();
+
+        Auction readingHistory = new Auction(40, 300,
+                new GodlikeBidderStrategy(params, new Random(7)),
+                new LimitedPlanStrategy(new RandomBidderStrategy(params, new Random(11)), -1));
+        readingHistory.run();
+
+        assertFalse(callbacksOnly.isAborted());
+        assertTrue(((BidderContext) getPrivateField(callbacksOnly, "context")).getHistory().isEmpty());
+        assertEquals(2, ((BidderContext) getPrivateField(callbacksOnly, "context")).getAllStates().size());
+        assertFalse(readingHistory.isAborted());
+        assertFalse(((BidderContext) getPrivateField(readingHistory, "context")).getHistory().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Only a null capability set should count as undeclared, an empty one reads nothing")
+    void run_nullCapabilitiesShouldCountAsUndeclared() throws Exception {
+        BidderStrategyParameters params = BidderStrategyParametersBuilder.defaultBuilder().build();
+
+        Auction undeclared = new Auction(40, 300,
+                new LimitedPlanStrategy(new RandomBidderStrategy(params, new Random(3)), -1, null),
+                new RandomBidderStrategy(params, new Random(5)));
+        undeclared.run();
+        Auction empty = new Auction(40, 300,
+                new LimitedPlanStrategy(new RandomBidderStrategy(params, new Random(3)), -1, Set.of()),
+                new RandomBidderStrategy(params, new Random(5)));
+        empty.run();
+
+        assertFalse(((BidderContext) getPrivateField(undeclared, "context")).getHistory().isEmpty());
+        assertTrue(((BidderContext) getPrivateField(empty, "context")).getHistory().isEmpty());
+        assertEquals(Set.of(), StrategyCapability.NONE);
+    }
+
+    @Test
+    @DisplayName("Strategies reading the stats should get the bid queries without the history")
+    void run_shouldMaintainBidQueriesForStats() throws Exception {
+        BidderStrategyParameters params = BidderStrategyParametersBuilder.defaultBuilder().build();
+        BidderStrategy stats = new LimitedPlanStrategy(new RandomBidderStrategy(params, new Random(3)), -1,
+                EnumSet.of(StrategyCapability.STATS));
+
+        Auction auction = new Auction(40, 300, stats, new RandomBidderStrategy(params, new Random(5)));
+        auction.run();
+
+        BidderContext context = (BidderContext) getPrivateField(auction, "context");
+        assertFalse(auction.isAborted());
+        assertTrue(context.getHistory().isEmpty());
+        assertTrue(context.hasBidQueries());
+        assertEquals(BidQueries.DEFAULT_WINDOW, context.getBidQueries().window());
+        assertTrue(context.getBidQueries().size() > 0);
+    }
+
+    @Test
+    @DisplayName("Planned rounds should be settled exactly like rounds played one by one")
+    void run_bidPlansShouldMatchRoundByRoundPlay() {
+        int totalQuantity = 60;
+        int baseCash = 200;
+        BidderStrategyParameters ownParams = BidderStrategyParametersBuilder.defaultBuilder().withMaxRounds(20).build();
+        BidderStrategyParameters otherParams = BidderStrategyParametersBuilder.defaultBuilder().withRiskRewardRatio(1, 3).build();
+
+        Auction roundByRound = new Auction(totalQuantity, baseCash,
+                new LimitedPlanStrategy(new BalancedBidderStrategy(ownParams), -1),
+                new LimitedPlanStrategy(new BalancedBidderStrategy(otherParams), -1));
+        roundByRound.run();
+
+        Auction planned = new Auction(totalQuantity, baseCash,
+                new BalancedBidderStrategy(ownParams), new BalancedBidderStrategy(otherParams));
+        planned.run();
+
+        // The plan of the other bidder is invalidated after 7 rounds, the rest is played one by one
+        Auction partlyPlanned = new Auction(totalQuantity, baseCash,
+                new BalancedBidderStrategy(ownParams),
+                new LimitedPlanStrategy(new BalancedBidderStrategy(otherParams), 7));
+        partlyPlanned.run();
+
+        AuctionState expected = roundByRound.getAuctionState();
+        for (Auction auction : new Auction[]{planned, partlyPlanned}) {
+            AuctionState actual = auction.getAuctionState();
+            assertFalse(auction.isAborted());
+            assertEquals(expected.getOwnBidderCash(), actual.getOwnBidderCash());
+            assertEquals(expected.getOtherBidderCash(), actual.getOtherBidderCash());
+            assertEquals(expected.getOwnBidderQuantityWon(), actual.getOwnBidderQuantityWon());
+            assertEquals(expected.getOtherBidderQuantityWon(), actual.getOtherBidderQuantityWon());
+        }
+    }
+
+    @Test
+    @DisplayName("A strategy should be able to invalidate its plan between planned rounds")
+    void run_invalidatedPlanShouldFallBackToRoundByRound() {
+        int totalQuantity = 60;
+        int baseCash = 200;
+        BidderStrategyParameters ownParams = BidderStrategyParametersBuilder.defaultBuilder().withMaxRounds(20).build();
+        BidderStrategyParameters otherParams = BidderStrategyParametersBuilder.defaultBuilder().withRiskRewardRatio(1, 3).build();
+
+        Auction roundByRound = new Auction(totalQuantity, baseCash,
+                new LimitedPlanStrategy(new BalancedBidderStrategy(ownParams), -1),
+                new LimitedPlanStrategy(new BalancedBidderStrategy(otherParams), -1));
+        roundByRound.run();
+
+        BalancedBidderStrategy delegate = new BalancedBidderStrategy(otherParams);
+        List<Integer> checkedRounds = new ArrayList<>();
+        int[] bidRequests = new int[1];
+        BidderStrategy invalidating = new BidderStrategy() {
+            @Override
+            public void init(BidderStrategyParameters params) {
+                delegate.init(params);
+            }
+
+            @Override
+            public OptionalInt nextBid(BidderState own, BidderContext ctx) {
+                bidRequests[0]++;
+                return delegate.nextBid(own, ctx);
+            }
+
+            @Override
+            public Optional<int[]> bidPlan(BidderState own, int remainingRounds) {
+                return delegate.bidPlan(own, remainingRounds);
+            }
+
+            @Override
+            public boolean isPlanValid(int round, int ownBid, int opponentBid) {
+                checkedRounds.add(round);
+                return round < 5;
+            }
+
+            @Override
+            public void finishRounds(int rounds) {
+                delegate.finishRounds(rounds);
+            }
+        };
+        Auction auction = new Auction(totalQuantity, baseCash, new BalancedBidderStrategy(ownParams), invalidating);
+        auction.run();
+
+        assertEquals(List.of(1, 2, 3, 4, 5), checkedRounds);
+        assertTrue(bidRequests[0] > 0, "Rounds after the invalidated plan are played one by one");
+        AuctionState expected = roundByRound.getAuctionState();
+        AuctionState actual = auction.getAuctionState();
+        assertFalse(auction.isAborted());
+        assertEquals(expected.getOwnBidderCash(), actual.getOwnBidderCash());
+        assertEquals(expected.getOtherBidderCash(), actual.getOtherBidderCash());
+        assertEquals(expected.getOwnBidderQuantityWon(), actual.getOwnBidderQuantityWon());
+    }
 
     /**
      * Helper method to get private fields using reflection for testing.
@@ -363,10 +705,55 @@ class AuctionTest {
             // Handle primitive types if necessary, e.g., for int, use int.class
             if (argTypes[i] == Integer.class) {
                 argTypes[i] = int.class;
+            } else if (argTypes[i] == Boolean.class) {
+                argTypes[i] = boolean.class;
             }
         }
         java.lang.reflect.Method method = target.getClass().getDeclaredMethod("auctionLoop", argTypes);
         method.setAccessible(true); // Allow access to private method
         method.invoke(target, args);
     }
-}
\ No newline at end of file
+
+    /**
+     * Delegates to a strategy, but plans at most the given number of rounds, none if negative,
+     * and reads the given parts of the context
+     */
+    record LimitedPlanStrategy(BidderStrategy delegate, int plannedRounds, Set<StrategyCapability> capabilities) implements BidderStrategy {
+        LimitedPlanStrategy(BidderStrategy delegate, int plannedRounds) {
+            this(delegate, plannedRounds, StrategyCapability.UNDECLARED);
+        }
+
+        @Override
+        public void init(BidderStrategyParameters params) {
+            delegate.init(params);
+        }
+
+        @Override
+        public OptionalInt nextBid(BidderState own, BidderContext ctx) {
+            return delegate.nextBid(own, ctx);
+        }
+
+        @Override
+        public Optional<int[]> bidPlan(BidderState own, int remainingRounds) {
+            if (plannedRounds < 0) {
+                return Optional.empty();
+            }
+            return delegate.bidPlan(own, remainingRounds).map(plan -> Arrays.copyOf(plan, Math.min(plan.length, plannedRounds)));
+        }
+
+        @Override
+        public boolean isExhausted(BidderState own) {
+            return delegate.isExhausted(own);
+        }
+
+        @Override
+        public void finishRound() {
+            delegate.finishRound();
+        }
+
+        @Override
+        public void finishRounds(int rounds) {
+            delegate.finishRounds(rounds);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package tests.core;
+
+import com.optimax.tradingbot.bidder.LongBidderState;
+import com.optimax.tradingbot.bidder.LongBidderStrategy;
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.core.LongAuction;
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.LongBalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.LongRandomBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import com.optimax.tradingbot.strategies.builder.enums.BidderStrategyGreediness;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongAuctionTest {
+
+    private static final BidderStrategyParameters PARAMS = BidderStrategyParametersBuilder.defaultBuilder().build();
+
+    @Test
+    @DisplayName("Int-sized long auctions should end like the int auctions")
+    void intSizedAuctionShouldMatchIntAuction() {
+        BidderStrategyParameters greedy = BidderStrategyParametersBuilder.defaultBuilder()
+                .withGreediness(BidderStrategyGreediness.STRONG)
+                .withRiskRewardRatio(1, 3)
+                .build();
+
+        Auction expected = new Auction(200, 1_000, new BalancedBidderStrategy(PARAMS), new BalancedBidderStrategy(greedy));
+        expected.run();
+        LongAuction actual = new LongAuction(200, 1_000, new LongBalancedBidderStrategy(PARAMS), new LongBalancedBidderStrategy(greedy));
+        actual.run();
+
+        assertFalse(actual.isAborted());
+        assertEquals(expected.getAuctionState().getOwnBidderQuantityWon(), actual.getAuctionState().getOwnBidderQuantityWon());
+        assertEquals(expected.getAuctionState().getOtherBidderQuantityWon(), actual.getAuctionState().getOtherBidderQuantityWon());
+        assertEquals(expected.getAuctionState().getOwnBidderCash(), actual.getAuctionState().getOwnBidderCash());
+        assertEquals(expected.getAuctionState().getOtherBidderCash(), actual.getAuctionState().getOtherBidderCash());
+    }
+
+    @Test
+    @DisplayName("Auctions beyond the int range should complete without overflow")
+    void largeAuctionShouldComplete() {
+        long baseCash = 5_000_000_000_000L;
+        LongAuction auction = new LongAuction(2_000, baseCash,
+                new LongRandomBidderStrategy(PARAMS, new Random(3)), new LongBalancedBidderStrategy(PARAMS));
+        auction.run();
+
+        assertFalse(auction.isAborted());
+        assertEquals(1_000, auction.getRoundsPlayed());
+        assertEquals(2_000, auction.getAuctionState().getOwnBidderQuantityWon() + auction.getAuctionState().getOtherBidderQuantityWon());
+        assertTrue(auction.getAuctionState().getOwnBidderCash() > Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("An overflowing evaluation should abort the auction instead of wrapping around")
+    void overflowShouldAbort() {
+        LongAuction auction = new LongAuction(10, 100,
+                new LongBalancedBidderStrategy(PARAMS), new LongBalancedBidderStrategy(PARAMS),
+                (own, other) -> Long.MAX_VALUE);
+        auction.run();
+
+        assertTrue(auction.isAborted());
+        assertEquals(0, auction.getRoundsPlayed());
+    }
+
+    @Test
+    @DisplayName("Bids above the cash left should abort the auction")
+    void overspendingShouldAbort() {
+        LongBidderStrategy overspending = new LongBidderStrategy() {
+            @Override
+            public void init(BidderStrategyParameters params) {
+            }
+
+            @Override
+            public OptionalLong nextBid(LongBidderState own, LongBidderState opponent) {
+                return OptionalLong.of(own.cash() + 1);
+            }
+        };
+        LongAuction auction = new LongAuction(10, Long.MAX_VALUE - 1, new LongBalancedBidderStrategy(PARAMS), overspending);
+        auction.run();
+
+        assertTrue(auction.isAborted());
+    }
+}
@@ -0,0 +1,73 @@
+package tests.core;
+
+import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.core.RoundFlightRecorder;
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoundFlightRecorderTest {
+
+    @Test
+    @DisplayName("Recorder should keep the last entries in order once wrapped around")
+    void shouldKeepLastEntries() {
+        RoundFlightRecorder recorder = new RoundFlightRecorder(3);
+        for (int round = 0; round < 5; round++) {
+            recorder.record(round, 1, round, 0, 2, 0, 100 - round, 100);
+        }
+
+        assertEquals(3, recorder.size());
+        assertArrayEquals(new int[]{2, 1, 2, 0, 2, 0, 98, 100}, recorder.entry(0));
+        assertArrayEquals(new int[]{4, 1, 4, 0, 2, 0, 96, 100}, recorder.entry(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> recorder.entry(3));
+
+        String dump = recorder.dump();
+        assertTrue(dump.startsWith("Last 3 of 5 recorded settlements"));
+        assertTrue(dump.contains("5 | 4/0 | 2/0 | 96/100"));
+        assertFalse(dump.contains("2 | 1/0"));
+
+        recorder.clear();
+        assertEquals(0, recorder.size());
+    }
+
+    @Test
+    @DisplayName("Recorder should hold the rounds settled before a strategy failure")
+    void shouldHoldRoundsBeforeFailure() {
+        Auction auction = new Auction(10, 100, new FailingStrategy(3), new FailingStrategy(Integer.MAX_VALUE));
+        auction.run();
+
+        assertTrue(auction.isAborted());
+        RoundFlightRecorder recorder = auction.getFlightRecorder();
+        assertEquals(2, recorder.size());
+        assertArrayEquals(new int[]{0, 1, 1, 1, 1, 1, 99, 99}, recorder.entry(0));
+        assertArrayEquals(new int[]{1, 1, 1, 1, 1, 1, 98, 98}, recorder.entry(1));
+    }
+
+    /**
+     * Bids 1 and overspends in the given round
+     */
+    static class FailingStrategy implements BidderStrategy {
+        private final int failingRound;
+        private int round;
+
+        FailingStrategy(int failingRound) {
+            this.failingRound = failingRound;
+        }
+
+        @Override
+        public void init(BidderStrategyParameters params) {
+        }
+
+        @Override
+        public OptionalInt nextBid(BidderState own, BidderContext ctx) {
+            return OptionalInt.of(++round == failingRound ? own.cash() + 1 : 1);
+        }
+    }
+}
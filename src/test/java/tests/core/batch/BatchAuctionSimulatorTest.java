@@ -0,0 +1,122 @@
+package tests.core.batch;
+
+import com.optimax.tradingbot.core.batch.BatchAuctionSimulator;
+import com.optimax.tradingbot.core.batch.BatchBalancedStrategy;
+import com.optimax.tradingbot.core.batch.BatchBidderStrategy;
+import com.optimax.tradingbot.core.batch.BatchRandomStrategy;
+import com.optimax.tradingbot.core.batch.BatchResult;
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.RandomBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import com.optimax.tradingbot.strategies.builder.enums.BidderStrategyGreediness;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchAuctionSimulatorTest {
+
+    private static final int LANES = 37;  // Not a multiple of the vector length, so the scalar tail is covered too
+    private static final int TOTAL_QUANTITY = 20;
+
+    private static BidderStrategyParameters[] sweep() {
+        BidderStrategyGreediness[] greediness = BidderStrategyGreediness.values();
+        BidderStrategyParameters[] params = new BidderStrategyParameters[LANES];
+        for (int lane = 0; lane < LANES; lane++) {
+            BidderStrategyParametersBuilder builder = BidderStrategyParametersBuilder.defaultBuilder()
+                    .withGreediness(greediness[lane % greediness.length])
+                    .withRiskRewardRatio(1 + lane % 3, 1 + lane % 3 + lane % 4);
+            if (lane % 6 == 0) {
+                builder.withMaxRounds(1 + lane % 7);
+            }
+            params[lane] = builder.build();
+        }
+        return params;
+    }
+
+    private static int[] baseCash() {
+        int[] cash = new int[LANES];
+        for (int lane = 0; lane < LANES; lane++) {
+            cash[lane] = lane * 13 % 200;
+        }
+        cash[1] = Integer.MAX_VALUE;  // Bid estimate overflows int, the narrowing has to match too
+        return cash;
+    }
+
+    private static void assertSameResults(BatchResult expected, BatchResult actual) {
+        assertArrayEquals(expected.ownCash(), actual.ownCash());
+        assertArrayEquals(expected.otherCash(), actual.otherCash());
+        assertArrayEquals(expected.ownQuantity(), actual.ownQuantity());
+        assertArrayEquals(expected.otherQuantity(), actual.otherQuantity());
+        assertArrayEquals(expected.aborted(), actual.aborted());
+    }
+
+    @Test
+    @DisplayName("Batched balanced strategies should match the scalar auctions")
+    void balancedBatchShouldMatchScalarAuctions() {
+        BidderStrategyParameters[] ownParams = sweep();
+        BidderStrategyParameters otherParams = BidderStrategyParametersBuilder.defaultBuilder().build();
+        BatchAuctionSimulator simulator = new BatchAuctionSimulator(TOTAL_QUANTITY, baseCash());
+
+        BatchResult expected = simulator.runScalar(
+                lane -> new BalancedBidderStrategy(ownParams[lane]),
+                lane -> new BalancedBidderStrategy(otherParams));
+        BatchResult actual = simulator.run(
+                new BatchBalancedStrategy(ownParams),
+                BatchBalancedStrategy.of(otherParams, LANES));
+
+        assertSameResults(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Batched random strategies should match the scalar auctions for the same seeds")
+    void randomBatchShouldMatchScalarAuctions() {
+        BidderStrategyParameters[] params = sweep();
+        long[] seeds = new long[LANES];
+        for (int lane = 0; lane < LANES; lane++) {
+            seeds[lane] = 1_000_003L * lane;
+        }
+        BatchAuctionSimulator simulator = new BatchAuctionSimulator(TOTAL_QUANTITY, baseCash());
+
+        BatchResult expected = simulator.runScalar(
+                lane -> new RandomBidderStrategy(params[lane], new Random(seeds[lane])),
+                lane -> new BalancedBidderStrategy(params[lane]));
+        BatchResult actual = simulator.run(
+                new BatchRandomStrategy(params, seeds),
+                new BatchBalancedStrategy(params));
+
+        assertSameResults(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Lanes with an invalid bid should be aborted")
+    void invalidBidShouldAbortLane() {
+        BatchAuctionSimulator simulator = new BatchAuctionSimulator(TOTAL_QUANTITY, baseCash());
+        BatchBalancedStrategy balanced = BatchBalancedStrategy.of(BidderStrategyParametersBuilder.defaultBuilder().build(), LANES);
+        BatchResult result = simulator.run(balanced, new OverspendingStrategy());
+
+        for (int lane = 0; lane < LANES; lane++) {
+            assertEquals(lane % 2 == 1, result.aborted()[lane]);
+        }
+    }
+
+    /**
+     * Bids one more than the cash left on the odd lanes
+     */
+    static class OverspendingStrategy implements BatchBidderStrategy {
+        @Override
+        public void nextBids(int round, int totalQuantity, int[] cash, int[] quantity, int[] bids) {
+            for (int lane = 0; lane < LANES; lane++) {
+                bids[lane] = lane % 2 == 1 ? cash[lane] + 1 : 0;
+            }
+        }
+
+        @Override
+        public int lanes() {
+            return LANES;
+        }
+    }
+}
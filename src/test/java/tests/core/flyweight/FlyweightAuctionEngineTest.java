@@ -0,0 +1,120 @@
+package tests.core.flyweight;
+
+import com.optimax.tradingbot.bidder.BidderWinEvaluator;
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.core.AuctionOutcome;
+import com.optimax.tradingbot.core.AuctionState;
+import com.optimax.tradingbot.core.flyweight.FlyweightAuctionEngine;
+import com.optimax.tradingbot.core.flyweight.FlyweightStrategies;
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.GodlikeBidderStrategy;
+import com.optimax.tradingbot.strategies.RandomBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import com.optimax.tradingbot.strategies.builder.enums.BidderStrategyGreediness;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlyweightAuctionEngineTest {
+
+    private static final int TOTAL_QUANTITY = 10;
+    private static final int BASE_CASH = 100;
+
+    private Object getPrivateField(Object target, String fieldName) throws NoSuchFieldException, IllegalAccessException {
+        java.lang.reflect.Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+
+    @Test
+    @DisplayName("Flyweight auctions should play out exactly like regular auctions")
+    void shouldMatchRegularAuction() throws Exception {
+        BidderStrategyParameters params = BidderStrategyParametersBuilder.defaultBuilder()
+                .withGreediness(BidderStrategyGreediness.STRONG)
+                .build();
+
+        Auction auction = new Auction(TOTAL_QUANTITY, BASE_CASH,
+                new GodlikeBidderStrategy(params, new Random(42)), new BalancedBidderStrategy(params));
+        auction.run();
+        AuctionState expected = (AuctionState) getPrivateField(auction, "auctionState");
+
+        FlyweightAuctionEngine engine = new FlyweightAuctionEngine(4);
+        int godlike = engine.registerStrategy(FlyweightStrategies.godlike(params));
+        int balanced = engine.registerStrategy(FlyweightStrategies.balanced(params));
+        int id = engine.add(TOTAL_QUANTITY, BASE_CASH, godlike, balanced, 42, 0);
+        engine.runAll();
+
+        assertEquals(FlyweightAuctionEngine.Status.FINISHED, engine.status(id));
+        assertEquals(TOTAL_QUANTITY / 2, engine.roundsPlayed(id));
+        assertEquals(expected.getOwnBidderCash(), engine.ownCash(id));
+        assertEquals(expected.getOtherBidderCash(), engine.otherCash(id));
+        assertEquals(expected.getOwnBidderQuantityWon(), engine.ownQuantity(id));
+        assertEquals(expected.getOtherBidderQuantityWon(), engine.otherQuantity(id));
+        assertEquals(0, engine.remainingQuantity(id));
+    }
+
+    @Test
+    @DisplayName("Invalid bid should abort only the offending auction")
+    void invalidBidShouldAbortAuction() {
+        FlyweightAuctionEngine engine = new FlyweightAuctionEngine(2);
+        int overspending = engine.registerStrategy((own, opponent, round) -> own.cash() + 1);
+        int modest = engine.registerStrategy((own, opponent, round) -> 1);
+
+        int broken = engine.add(TOTAL_QUANTITY, BASE_CASH, overspending, modest);
+        int healthy = engine.add(TOTAL_QUANTITY, BASE_CASH, modest, modest);
+        engine.runAll();
+
+        assertEquals(FlyweightAuctionEngine.Status.ABORTED, engine.status(broken));
+        assertEquals(AuctionOutcome.Winner.UNDECIDED, engine.winner(broken));
+        assertEquals(BASE_CASH, engine.ownCash(broken));
+
+        assertEquals(FlyweightAuctionEngine.Status.FINISHED, engine.status(healthy));
+        assertEquals(AuctionOutcome.Winner.TIE, engine.winner(healthy));
+        assertEquals(BASE_CASH - TOTAL_QUANTITY / 2, engine.ownCash(healthy));
+        assertThrows(IllegalStateException.class, () -> engine.add(TOTAL_QUANTITY, BASE_CASH, modest, modest));
+    }
+
+    @Test
+    @DisplayName("Each flyweight auction should draw from its own generator")
+    void shouldKeepGeneratorPerAuction() throws Exception {
+        BidderStrategyParameters params = BidderStrategyParametersBuilder.defaultBuilder().build();
+        int totalQuantity = 100;
+        FlyweightAuctionEngine engine = new FlyweightAuctionEngine(8);
+        int random = engine.registerStrategy(FlyweightStrategies.random(params));
+        int godlike = engine.registerStrategy(FlyweightStrategies.godlike(params));
+        for (int seed = 0; seed < 8; seed++) {
+            engine.add(totalQuantity, BASE_CASH, random, godlike, seed, 100 + seed);
+        }
+        engine.runAll();
+
+        // Interleaving the auctions round by round must not change their bids
+        for (int seed = 0; seed < 8; seed++) {
+            Auction auction = new Auction(totalQuantity, BASE_CASH,
+                    new RandomBidderStrategy(params, new Random(seed)), new GodlikeBidderStrategy(params, new Random(100 + seed)));
+            auction.run();
+            AuctionState expected = (AuctionState) getPrivateField(auction, "auctionState");
+            assertEquals(FlyweightAuctionEngine.Status.FINISHED, engine.status(seed));
+            assertEquals(expected.getOwnBidderCash(), engine.ownCash(seed));
+            assertEquals(expected.getOtherBidderCash(), engine.otherCash(seed));
+            assertEquals(expected.getOwnBidderQuantityWon(), engine.ownQuantity(seed));
+        }
+    }
+
+    @Test
+    @DisplayName("A violated auction rule should abort the auction")
+    void violatedRuleShouldAbortAuction() {
+        BidderWinEvaluator overAllocating = (own, other) -> 3;
+        FlyweightAuctionEngine engine = new FlyweightAuctionEngine(1, overAllocating);
+        int modest = engine.registerStrategy((own, opponent, round) -> 1);
+        int id = engine.add(TOTAL_QUANTITY, BASE_CASH, modest, modest);
+        engine.runAll();
+
+        // 6 QU per round, the remaining quantity goes below zero in round 2
+        assertEquals(FlyweightAuctionEngine.Status.ABORTED, engine.status(id));
+        assertEquals(2, engine.roundsPlayed(id));
+    }
+}
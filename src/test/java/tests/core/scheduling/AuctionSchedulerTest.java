@@ -0,0 +1,117 @@
+package tests.core.scheduling;
+
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.core.scheduling.AuctionScheduler;
+import com.optimax.tradingbot.core.scheduling.AuctionSchedulerListener;
+import com.optimax.tradingbot.core.scheduling.RoundCadence;
+import com.optimax.tradingbot.core.scheduling.ScheduledAuction;
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.RandomBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuctionSchedulerTest {
+
+    private static final int TOTAL_QUANTITY = 20;
+    private static final int BASE_CASH = 100;
+    private static final BidderStrategyParameters PARAMS = BidderStrategyParametersBuilder.defaultBuilder().build();
+    private static final RoundCadence CADENCE = new RoundCadence(Duration.ofMillis(2), Duration.ofMillis(1));
+
+    private static Auction auction(long seed) {
+        return new Auction(TOTAL_QUANTITY, BASE_CASH,
+                new BalancedBidderStrategy(PARAMS), new RandomBidderStrategy(PARAMS, new Random(seed)));
+    }
+
+    @Test
+    @DisplayName("Scheduled auctions should end in the same state as auctions run in one go")
+    void scheduledAuctionsShouldMatchRunAuctions() throws Exception {
+        AtomicInteger opened = new AtomicInteger();
+        AuctionSchedulerListener listener = new AuctionSchedulerListener() {
+            @Override
+            public void onRoundOpened(Auction auction, int round) {
+                opened.incrementAndGet();
+            }
+        };
+
+        try (AuctionScheduler scheduler = new AuctionScheduler(2, Duration.ofMillis(1), 64, listener)) {
+            List<ScheduledAuction> scheduled = new ArrayList<>();
+            for (int seed = 0; seed < 8; seed++) {
+                scheduled.add(scheduler.schedule(auction(seed), CADENCE));
+            }
+
+            for (int seed = 0; seed < 8; seed++) {
+                Auction expected = auction(seed);
+                expected.run();
+                Auction actual = scheduled.get(seed).completion().get(10, TimeUnit.SECONDS);
+
+                assertFalse(actual.isAborted());
+                assertEquals(expected.getRoundsPlayed(), actual.getRoundsPlayed());
+                assertEquals(expected.getAuctionState().getOwnBidderQuantityWon(), actual.getAuctionState().getOwnBidderQuantityWon());
+                assertEquals(expected.getAuctionState().getOtherBidderQuantityWon(), actual.getAuctionState().getOtherBidderQuantityWon());
+            }
+        }
+        assertTrue(opened.get() >= 8);
+    }
+
+    @Test
+    @DisplayName("Cancelled auctions should stop before their next round")
+    void cancelledAuctionShouldStop() throws Exception {
+        CountDownLatch firstRound = new CountDownLatch(1);
+        AuctionSchedulerListener listener = new AuctionSchedulerListener() {
+            @Override
+            public void onRoundOpened(Auction auction, int round) {
+                firstRound.countDown();
+            }
+        };
+        RoundCadence slow = new RoundCadence(Duration.ofSeconds(1), Duration.ofMillis(500));
+
+        try (AuctionScheduler scheduler = new AuctionScheduler(0, Duration.ofMillis(1), 64, listener)) {
+            ScheduledAuction scheduled = scheduler.schedule(auction(1), slow);
+            assertTrue(firstRound.await(10, TimeUnit.SECONDS));
+
+            assertTrue(scheduled.cancel());
+            assertFalse(scheduled.cancel());
+            assertThrows(CancellationException.class, () -> scheduled.completion().get(10, TimeUnit.SECONDS));
+            assertEquals(0, scheduled.auction().getRoundsPlayed());
+        }
+    }
+
+    @Test
+    @DisplayName("Closing the scheduler should cancel the auctions still scheduled")
+    void closeShouldCancelScheduledAuctions() throws Exception {
+        CountDownLatch firstRound = new CountDownLatch(1);
+        AuctionSchedulerListener listener = new AuctionSchedulerListener() {
+            @Override
+            public void onRoundOpened(Auction auction, int round) {
+                firstRound.countDown();
+            }
+        };
+        RoundCadence slow = new RoundCadence(Duration.ofSeconds(1), Duration.ofMillis(500));
+
+        ScheduledAuction started;
+        ScheduledAuction delayed;
+        try (AuctionScheduler scheduler = new AuctionScheduler(1, Duration.ofMillis(1), 64, listener)) {
+            started = scheduler.schedule(auction(1), slow);
+            delayed = scheduler.schedule(auction(2), slow, Duration.ofMinutes(1));
+            assertTrue(firstRound.await(10, TimeUnit.SECONDS));
+        }
+
+        assertThrows(CancellationException.class, () -> started.completion().get(10, TimeUnit.SECONDS));
+        assertThrows(CancellationException.class, () -> delayed.completion().get(10, TimeUnit.SECONDS));
+        assertEquals(0, delayed.auction().getRoundsPlayed());
+        assertFalse(started.cancel());
+    }
+}
@@ -0,0 +1,132 @@
+package tests.core.shadow;
+
+import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.core.shadow.ShadowBidder;
+import com.optimax.tradingbot.core.shadow.ShadowExecutor;
+import com.optimax.tradingbot.core.shadow.ShadowMetrics;
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.impl.BidderStateImpl;
+import com.optimax.tradingbot.impl.DefaultBidderWinEvaluator;
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.RandomBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShadowBidderTest {
+
+    private static final int TOTAL_QUANTITY = 20;
+    private static final int BASE_CASH = 100;
+    private static final BidderStrategyParameters PARAMS = BidderStrategyParametersBuilder.defaultBuilder().build();
+
+    @Test
+    @DisplayName("A shadow of the live strategy should never diverge")
+    void shadowOfLiveStrategyShouldNotDiverge() {
+        ShadowMetrics metrics = new ShadowMetrics();
+        Auction auction = new Auction(TOTAL_QUANTITY, BASE_CASH,
+                new BalancedBidderStrategy(PARAMS), new RandomBidderStrategy(PARAMS, new Random(7)));
+        try (ShadowExecutor executor = new ShadowExecutor(1, 16)) {
+            auction.enableShadowStrategy(new BalancedBidderStrategy(PARAMS), executor, metrics);
+            auction.run();
+        }
+
+        assertFalse(auction.isAborted());
+        assertTrue(metrics.roundsEvaluated() > 0);
+        assertEquals(0, metrics.divergentRounds());
+        assertEquals(0, metrics.roundsDropped());
+        assertEquals(0, metrics.shadowFailures());
+        assertEquals(metrics.liveQuantityWon(), metrics.shadowQuantityWon());
+        assertEquals(BASE_CASH - auction.getAuctionState().getOwnBidderCash(), metrics.liveCashSpent());
+    }
+
+    @Test
+    @DisplayName("A diverging shadow should be measured against the live bids")
+    void divergingShadowShouldBeMeasured() {
+        ShadowMetrics metrics = new ShadowMetrics();
+        Auction auction = new Auction(TOTAL_QUANTITY, BASE_CASH,
+                new BalancedBidderStrategy(PARAMS), new RandomBidderStrategy(PARAMS, new Random(7)));
+        try (ShadowExecutor executor = new ShadowExecutor(1, 16)) {
+            auction.enableShadowStrategy(new ZeroStrategy(), executor, metrics);
+            auction.run();
+        }
+
+        assertEquals(0, metrics.shadowCashSpent());
+        assertTrue(metrics.divergentRounds() > 0);
+        assertEquals(metrics.liveCashSpent(), metrics.absoluteBidDelta());
+        assertTrue(metrics.shadowQuantityWon() <= metrics.liveQuantityWon());
+    }
+
+    @Test
+    @DisplayName("Shadow work should be dropped once the shadow falls behind")
+    void shadowShouldBeDroppedWhenBehind() throws InterruptedException {
+        ShadowMetrics metrics = new ShadowMetrics();
+        BlockingStrategy blocking = new BlockingStrategy();
+        BidderState own = new BidderStateImpl(0, TOTAL_QUANTITY, BASE_CASH, "own");
+        BidderState other = new BidderStateImpl(0, TOTAL_QUANTITY, BASE_CASH, "other");
+
+        try (ShadowExecutor executor = new ShadowExecutor(1, 1)) {
+            ShadowBidder shadow = new ShadowBidder(blocking, own, other, DefaultBidderWinEvaluator.INSTANCE, executor, metrics, 2);
+            shadow.onRound(1, 0);
+            assertTrue(blocking.entered.await(10, TimeUnit.SECONDS));
+
+            shadow.onRound(1, 0);
+            shadow.onRound(1, 0);
+            assertFalse(shadow.isDropped());
+            shadow.onRound(1, 0);   // The ring holds two rounds only
+            assertTrue(shadow.isDropped());
+            shadow.onRound(1, 0);
+
+            blocking.release.countDown();
+        }
+
+        assertEquals(3, metrics.roundsEvaluated());
+        assertEquals(2, metrics.roundsDropped());
+    }
+
+    /**
+     * Never bids
+     */
+    static class ZeroStrategy implements BidderStrategy {
+        @Override
+        public void init(BidderStrategyParameters params) {
+        }
+
+        @Override
+        public OptionalInt nextBid(BidderState own, BidderContext ctx) {
+            return OptionalInt.of(0);
+        }
+    }
+
+    /**
+     * Blocks its first bid until released
+     */
+    static class BlockingStrategy implements BidderStrategy {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void init(BidderStrategyParameters params) {
+        }
+
+        @Override
+        public OptionalInt nextBid(BidderState own, BidderContext ctx) {
+            entered.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return OptionalInt.of(1);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package tests.core.shm;
+
+import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.core.AuctionState;
+import com.optimax.tradingbot.core.shm.SharedMemoryStrategy;
+import com.optimax.tradingbot.core.shm.SharedMemoryStrategyHost;
+import com.optimax.tradingbot.exceptions.InternalStrategyException;
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.impl.BidderHistoryUnit;
+import com.optimax.tradingbot.impl.BidderStateImpl;
+import com.optimax.tradingbot.strategies.GodlikeBidderStrategy;
+import com.optimax.tradingbot.strategies.RandomBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedMemoryStrategyTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final BidderStrategyParameters params = BidderStrategyParametersBuilder.defaultBuilder().build();
+
+    @Test
+    @DisplayName("should play like the strategy run in process")
+    void shouldMatchInProcessStrategy() throws Exception {
+        Auction local = new Auction(200, 1_000,
+                new GodlikeBidderStrategy(params, new Random(5)), new RandomBidderStrategy(params, new Random(6)));
+        local.run();
+
+        Path file = tempDir.resolve("godlike.shm");
+        try (SharedMemoryStrategy remote = new SharedMemoryStrategy(file, 16, Duration.ofSeconds(10));
+             SharedMemoryStrategyHost host = new SharedMemoryStrategyHost(file, new GodlikeBidderStrategy(params, new Random(5)), params)) {
+            Thread sidecar = new Thread(host);
+            sidecar.start();
+            Auction shared = new Auction(200, 1_000, remote, new RandomBidderStrategy(params, new Random(6)));
+            shared.run();
+            remote.close();
+            sidecar.join();
+
+            AuctionState expected = local.getAuctionState();
+            AuctionState actual = shared.getAuctionState();
+            assertFalse(shared.isAborted());
+            assertEquals(expected.getOwnBidderCash(), actual.getOwnBidderCash());
+            assertEquals(expected.getOtherBidderCash(), actual.getOtherBidderCash());
+            assertEquals(expected.getOwnBidderQuantityWon(), actual.getOwnBidderQuantityWon());
+            assertEquals(expected.getOtherBidderQuantityWon(), actual.getOtherBidderQuantityWon());
+        }
+    }
+
+    @Test
+    @DisplayName("should hand the shared states and the last rounds to the hosted strategy")
+    void shouldExposeStatesAndHistory() throws Exception {
+        Path file = tempDir.resolve("recording.shm");
+        RecordingStrategy recording = new RecordingStrategy();
+        try (SharedMemoryStrategy remote = new SharedMemoryStrategy(file, 2, Duration.ofSeconds(10));
+             SharedMemoryStrategyHost host = new SharedMemoryStrategyHost(file, recording, params)) {
+            BidderStateImpl own = new BidderStateImpl(0, 10, 100, "own");
+            BidderStateImpl other = new BidderStateImpl(0, 10, 90, "other");
+            BidderContext context = new BidderContext();
+            context.putState(own);
+            context.putState(other);
+
+            for (int round = 1; round <= 3; round++) {
+                remote.onRoundResult(round, round, 10 * round, 2);
+            }
+            Thread sidecar = new Thread(() -> {
+                while (!host.serve()) {
+                    Thread.onSpinWait();
+                }
+            });
+            sidecar.start();
+            assertEquals(OptionalInt.of(7), remote.nextBid(own, context));
+            sidecar.join();
+
+            // The first round was overwritten in the ring of 2 units before the host read it
+            assertEquals(List.of(2, 3), recording.rounds);
+            assertEquals("own", recording.own);
+            assertEquals(90, recording.otherCash);
+            assertEquals(List.of(20, 30), recording.opponentBids);
+        }
+    }
+
+    @Test
+    @DisplayName("should keep the ids and the decoded units across the requests of an epoch")
+    void shouldReuseIdsAndUnitsWithinEpoch() throws Exception {
+        Path file = tempDir.resolve("epoch.shm");
+        RecordingStrategy recording = new RecordingStrategy();
+        try (SharedMemoryStrategy remote = new SharedMemoryStrategy(file, 4, Duration.ofSeconds(10));
+             SharedMemoryStrategyHost host = new SharedMemoryStrategyHost(file, recording, params)) {
+            BidderStateImpl own = new BidderStateImpl(0, 10, 100, "own");
+            BidderStateImpl other = new BidderStateImpl(0, 10, 90, "other");
+            BidderContext context = new BidderContext();
+            context.putState(own);
+            context.putState(other);
+            remote.init(params);
+
+            remote.onRoundResult(1, 1, 10, 2);
+            serveOnce(host, () -> assertEquals(OptionalInt.of(7), remote.nextBid(own, context)));
+            remote.onRoundResult(2, 2, 20, 2);
+            serveOnce(host, () -> assertEquals(OptionalInt.of(7), remote.nextBid(own, context)));
+
+            assertEquals("own", recording.own);
+            assertEquals(List.of(10, 10, 20), recording.opponentBids);
+            assertSame(recording.units.get(0), recording.units.get(1), "A unit should be decoded once");
+        }
+    }
+
+    @Test
+    @DisplayName("should fail the bid when the host does not answer")
+    void shouldTimeOutWithoutHost() throws Exception {
+        try (SharedMemoryStrategy remote = new SharedMemoryStrategy(tempDir.resolve("idle.shm"), 4, Duration.ofMillis(50))) {
+            BidderStateImpl own = new BidderStateImpl(0, 10, 100, "own");
+            BidderContext context = new BidderContext();
+            context.putState(own);
+            assertThrows(InternalStrategyException.class, () -> remote.nextBid(own, context));
+        }
+    }
+
+    private static void serveOnce(SharedMemoryStrategyHost host, Runnable request) throws InterruptedException {
+        Thread sidecar = new Thread(() -> {
+            while (!host.serve()) {
+                Thread.onSpinWait();
+            }
+        });
+        sidecar.start();
+        request.run();
+        sidecar.join();
+    }
+
+    private static final class RecordingStrategy implements BidderStrategy {
+        final List<Integer> rounds = new ArrayList<>();
+        final List<Integer> opponentBids = new ArrayList<>();
+        final List<BidderHistoryUnit> units = new ArrayList<>();
+        String own;
+        int otherCash;
+
+        @Override
+        public void init(BidderStrategyParameters params) {
+        }
+
+        @Override
+        public OptionalInt nextBid(BidderState own, BidderContext ctx) {
+            this.own = own.id();
+            this.otherCash = ctx.getFilteredStates(own.id()).getFirst().cash();
+            for (BidderHistoryUnit unit : ctx.getHistory()) {
+                opponentBids.add(unit.getMaxBidInRound(own.id()).orElseThrow());
+                units.add(unit);
+            }
+            return OptionalInt.of(7);
+        }
+
+        @Override
+        public void onRoundResult(int round, int ownBid, int opponentBid, int wonQuantity) {
+            rounds.add(round);
+        }
+    }
+}
@@ -2,10 +2,12 @@ package tests.core.validation;
 
 import com.optimax.tradingbot.bidder.BidderWinEvaluator;
 import com.optimax.tradingbot.core.AuctionState;
+import com.optimax.tradingbot.core.RoundOutcome;
 import com.optimax.tradingbot.core.validation.AuctionRuleValidator;
 import com.optimax.tradingbot.core.validation.AuctionVerifier;
 import com.optimax.tradingbot.core.validation.CompositeAuctionValidator;
 import com.optimax.tradingbot.exceptions.AuctionValidatorException;
+import com.optimax.tradingbot.impl.BidderStateImpl;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -239,4 +241,25 @@ class AuctionVerifierTest {
         verifier.verifyFinalState();
         assertTrue(finalValidatorRule.hasValidateBeenCalled(), "Final validator should have been called");
     }
+
+    @Test
+    @DisplayName("Should apply a settled round and detect a diverged bidder state")
+    void verifyRoundOutcomeShouldApplyAndDetectDivergence() throws AuctionValidatorException {
+        AuctionVerifier verifier = new AuctionVerifier(auctionState,
+                new CompositeAuctionValidator(List.of()), new CompositeAuctionValidator(List.of()));
+
+        verifier.verifyRound(new RoundOutcome(10, 5, 2, 0));
+
+        BidderStateImpl own = new BidderStateImpl(0, INITIAL_TOTAL_QUANTITY, INITIAL_BASE_CASH, "own");
+        BidderStateImpl other = new BidderStateImpl(0, INITIAL_TOTAL_QUANTITY, INITIAL_BASE_CASH, "other");
+        own.decreaseCash(10);
+        own.increaseQuantity(2);
+        other.decreaseCash(5);
+        verifier.verifyConsistency(own, other);
+
+        other.increaseQuantity(1);
+        AuctionValidatorException thrown = assertThrows(AuctionValidatorException.class,
+                () -> verifier.verifyConsistency(own, other));
+        assertEquals("Other bidder's state diverged from the auction state.", thrown.getMessage());
+    }
 }
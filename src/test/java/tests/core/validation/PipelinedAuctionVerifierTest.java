@@ -0,0 +1,219 @@
+package tests.core.validation;
+
+import com.optimax.tradingbot.core.AuctionState;
+import com.optimax.tradingbot.core.RoundOutcome;
+import com.optimax.tradingbot.core.validation.AuctionVerifier;
+import com.optimax.tradingbot.core.validation.CompositeAuctionValidator;
+import com.optimax.tradingbot.core.validation.PipelinedAuctionVerifier;
+import com.optimax.tradingbot.core.validation.RoundVerificationListener;
+import com.optimax.tradingbot.exceptions.AuctionValidatorException;
+import com.optimax.tradingbot.exceptions.RoundVerificationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelinedAuctionVerifierTest {
+    private static final int INITIAL_TOTAL_QUANTITY = 100;
+    private static final int INITIAL_BASE_CASH = 500;
+    private AuctionState auctionState;
+
+    static class RecordingListener implements RoundVerificationListener {
+        final AtomicInteger failedRound = new AtomicInteger();
+        final AtomicInteger laggingCalls = new AtomicInteger();
+
+        @Override
+        public void onVerificationFailed(int round, AuctionValidatorException e) {
+            failedRound.set(round);
+        }
+
+        @Override
+        public void onVerificationLagging(int round, int pending) {
+            laggingCalls.incrementAndGet();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        auctionState = new AuctionState(INITIAL_TOTAL_QUANTITY, INITIAL_BASE_CASH);
+    }
+
+    @Test
+    @DisplayName("Should apply all published rounds to the auction state")
+    void shouldApplyPublishedRounds() throws AuctionValidatorException {
+        AuctionVerifier verifier = new AuctionVerifier(auctionState,
+                new CompositeAuctionValidator(List.of()), new CompositeAuctionValidator(List.of()));
+        RecordingListener listener = new RecordingListener();
+
+        try (PipelinedAuctionVerifier pipeline = PipelinedAuctionVerifier.start(verifier, 4, listener)) {
+            for (int i = 0; i < 50; i++) {
+                assertTrue(pipeline.publish(new RoundOutcome(3, 2, 2, 0)));
+            }
+            pipeline.awaitVerified();
+        }
+
+        assertEquals(INITIAL_BASE_CASH - 150, auctionState.getOwnBidderCash());
+        assertEquals(INITIAL_BASE_CASH - 100, auctionState.getOtherBidderCash());
+        assertEquals(100, auctionState.getOwnBidderQuantityWon());
+        assertEquals(0, auctionState.getRemainingQuantity());
+        assertEquals(0, listener.failedRound.get());
+    }
+
+    @Test
+    @DisplayName("Should report the offending round and refuse further rounds")
+    void shouldReportOffendingRound() {
+        CompositeAuctionValidator roundValidator = new CompositeAuctionValidator(List.of(state -> {
+            if (state.getOwnBidderCash() < INITIAL_BASE_CASH - 20) {
+                throw new AuctionValidatorException("Spent too much");
+            }
+        }));
+        AuctionVerifier verifier = new AuctionVerifier(auctionState, roundValidator, new CompositeAuctionValidator(List.of()));
+        RecordingListener listener = new RecordingListener();
+
+        try (PipelinedAuctionVerifier pipeline = PipelinedAuctionVerifier.start(verifier, 8, listener)) {
+            for (int i = 0; i < 3; i++) {
+                pipeline.publish(new RoundOutcome(10, 0, 2, 0));
+            }
+
+            RoundVerificationException thrown = assertThrows(RoundVerificationException.class, pipeline::awaitVerified);
+            assertEquals(3, thrown.getRound(), "Third round exceeds the spending limit");
+            assertEquals(3, listener.failedRound.get());
+            assertFalse(pipeline.publish(new RoundOutcome(1, 1, 1, 1)), "No rounds should be accepted after a violation");
+        }
+    }
+
+    @Test
+    @DisplayName("Should fire the lagging hook when the pipeline is full")
+    void shouldFireLaggingHookWhenPipelineIsFull() throws AuctionValidatorException {
+        CompositeAuctionValidator slowValidator = new CompositeAuctionValidator(List.of(state -> {
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        AuctionVerifier verifier = new AuctionVerifier(auctionState, slowValidator, new CompositeAuctionValidator(List.of()));
+        RecordingListener listener = new RecordingListener();
+
+        try (PipelinedAuctionVerifier pipeline = PipelinedAuctionVerifier.start(verifier, 1, listener)) {
+            for (int i = 0; i < 10; i++) {
+                assertTrue(pipeline.publish(new RoundOutcome(1, 1, 1, 1)));
+            }
+            pipeline.awaitVerified();
+        }
+
+        assertTrue(listener.laggingCalls.get() > 0, "Verifier should have fallen behind");
+        assertEquals(INITIAL_TOTAL_QUANTITY - 20, auctionState.getRemainingQuantity());
+    }
+
+    @Test
+    @DisplayName("Should fail the pipeline when the verifier dies from an error")
+    void shouldFailWhenVerifierDies() {
+        CompositeAuctionValidator dying = new CompositeAuctionValidator(List.of(state -> {
+            throw new StackOverflowError();
+        }));
+        AuctionVerifier verifier = new AuctionVerifier(auctionState, dying, new CompositeAuctionValidator(List.of()));
+        RecordingListener listener = new RecordingListener();
+
+        try (PipelinedAuctionVerifier pipeline = PipelinedAuctionVerifier.start(verifier, 1, listener)) {
+            pipeline.publish(new RoundOutcome(1, 1, 1, 1));
+            pipeline.publish(new RoundOutcome(1, 1, 1, 1));
+            RoundVerificationException thrown = assertThrows(RoundVerificationException.class, pipeline::awaitVerified);
+            assertEquals(1, thrown.getRound());
+            assertEquals(1, listener.failedRound.get());
+        }
+    }
+
+    @Test
+    @DisplayName("Should give up waiting for a stalled verifier")
+    void shouldTimeOutStalledVerifier() {
+        CountDownLatch release = new CountDownLatch(1);
+        CompositeAuctionValidator stalled = new CompositeAuctionValidator(List.of(state -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        AuctionVerifier verifier = new AuctionVerifier(auctionState, stalled, new CompositeAuctionValidator(List.of()));
+        RecordingListener listener = new RecordingListener();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try (PipelinedAuctionVerifier pipeline = PipelinedAuctionVerifier.start(verifier, 1, listener, executor, Duration.ofMillis(50))) {
+            assertTrue(pipeline.publish(new RoundOutcome(1, 1, 1, 1)));
+            assertThrows(RoundVerificationException.class, pipeline::awaitVerified);
+            assertFalse(pipeline.publish(new RoundOutcome(1, 1, 1, 1)));
+            assertEquals(1, listener.failedRound.get());
+            release.countDown();
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Close should wait for the round being verified")
+    void closeShouldWaitForVerifier() throws Exception {
+        CountDownLatch verifying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean verified = new AtomicBoolean();
+        CompositeAuctionValidator blocking = new CompositeAuctionValidator(List.of(state -> {
+            verifying.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            verified.set(true);
+        }));
+        AuctionVerifier verifier = new AuctionVerifier(auctionState, blocking, new CompositeAuctionValidator(List.of()));
+        PipelinedAuctionVerifier pipeline = PipelinedAuctionVerifier.start(verifier, 1, new RecordingListener());
+        pipeline.publish(new RoundOutcome(1, 1, 1, 1));
+        verifying.await();
+
+        Thread closing = new Thread(pipeline::close);
+        closing.start();
+        closing.join(100);
+        assertTrue(closing.isAlive());
+
+        release.countDown();
+        closing.join();
+        assertTrue(verified.get());
+    }
+
+    @Test
+    @DisplayName("Close should give up on a verifier which does not stop")
+    void closeShouldTimeOutStalledVerifier() throws Exception {
+        CountDownLatch verifying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompositeAuctionValidator stalled = new CompositeAuctionValidator(List.of(state -> {
+            verifying.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        AuctionVerifier verifier = new AuctionVerifier(auctionState, stalled, new CompositeAuctionValidator(List.of()));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            PipelinedAuctionVerifier pipeline = PipelinedAuctionVerifier.start(verifier, 1, new RecordingListener(), executor, Duration.ofMillis(50));
+            pipeline.publish(new RoundOutcome(1, 1, 1, 1));
+            verifying.await();
+            assertThrows(IllegalStateException.class, pipeline::close);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package tests.core.validation.rules;
+
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.core.AuctionState;
+import com.optimax.tradingbot.core.validation.rules.PortfolioSpendValidator;
+import com.optimax.tradingbot.exceptions.AuctionValidatorException;
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.impl.BidderStateImpl;
+import com.optimax.tradingbot.impl.budget.PortfolioStrategy;
+import com.optimax.tradingbot.impl.budget.SharedBudget;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PortfolioSpendValidatorTest {
+    private static final int INITIAL_TOTAL_QUANTITY = 100;
+    private static final int INITIAL_BASE_CASH = 500;
+    private PortfolioStrategy strategy;
+    private AuctionState auctionState;
+
+    @BeforeEach
+    void setUp() {
+        BidderStrategy delegate = mock(BidderStrategy.class);
+        when(delegate.nextBid(any(), any())).thenReturn(OptionalInt.of(40));
+        strategy = new PortfolioStrategy(new SharedBudget(1_000, 1), delegate);
+        auctionState = new AuctionState(INITIAL_TOTAL_QUANTITY, INITIAL_BASE_CASH);
+    }
+
+    private void playRound(int ownBid) {
+        strategy.nextBid(new BidderStateImpl(0, INITIAL_TOTAL_QUANTITY, INITIAL_BASE_CASH, "own"), new BidderContext());
+        strategy.onRoundResult(1, ownBid, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Should pass when the bidder spent what the strategy committed")
+    void shouldPassWhenSpendMatchesCommits() {
+        playRound(40);
+        auctionState.setOwnBidderCurrentCash(INITIAL_BASE_CASH - 40);
+
+        assertDoesNotThrow(() -> PortfolioSpendValidator.ofOwn(strategy).validate(auctionState));
+    }
+
+    @Test
+    @DisplayName("Should fail when the bidder spent more than the strategy committed")
+    void shouldFailWhenSpendExceedsCommits() {
+        playRound(40);
+        auctionState.setOtherBidderCurrentCash(INITIAL_BASE_CASH - 70);
+
+        AuctionValidatorException exception = assertThrows(AuctionValidatorException.class,
+                () -> PortfolioSpendValidator.ofOther(strategy).validate(auctionState));
+        assertEquals("Portfolio bidder spent other than it committed to its budget.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should fail while a reservation is held")
+    void shouldFailWithReservationHeld() {
+        strategy.nextBid(new BidderStateImpl(0, INITIAL_TOTAL_QUANTITY, INITIAL_BASE_CASH, "own"), new BidderContext());
+
+        AuctionValidatorException exception = assertThrows(AuctionValidatorException.class,
+                () -> PortfolioSpendValidator.ofOwn(strategy).validate(auctionState));
+        assertEquals("Portfolio bidder still holds a reservation.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should start the commits over when the strategy is initialized for another auction")
+    void shouldResetCommitsOnInit() {
+        playRound(40);
+        strategy.init(BidderStrategyParametersBuilder.defaultBuilder().build());
+
+        assertEquals(0, strategy.committed());
+        assertDoesNotThrow(() -> PortfolioSpendValidator.ofOwn(strategy).validate(auctionState));
+    }
+}
@@ -116,4 +116,34 @@ class BidderContextTest {
         assertTrue(allStates.contains(mockBidderState1Updated));
         assertFalse(allStates.contains(mockBidderState1));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should share the views until the states change")
+    void shouldShareViewsUntilStatesChange() {
+        bidderContext.putState(mockBidderState1);
+        bidderContext.putState(mockBidderState2);
+        List<BidderState> allStates = bidderContext.getAllStates();
+        List<String> allIds = bidderContext.getAllIds();
+        List<BidderState> opponents = bidderContext.getFilteredStates("bidder1");
+
+        // Putting the same states again, as done every round, keeps the views
+        bidderContext.putState(mockBidderState1);
+        bidderContext.putState(mockBidderState2);
+        assertSame(allStates, bidderContext.getAllStates());
+        assertSame(allIds, bidderContext.getAllIds());
+        assertSame(opponents, bidderContext.getFilteredStates("bidder1"));
+        assertThrows(UnsupportedOperationException.class, () -> opponents.add(mockBidderState1));
+
+        BidderState mockBidderState3 = mock(BidderState.class);
+        when(mockBidderState3.id()).thenReturn("bidder3");
+        bidderContext.putState(mockBidderState3);
+        assertEquals(3, bidderContext.getAllStates().size());
+        assertEquals(3, bidderContext.getAllIds().size());
+        assertEquals(2, bidderContext.getFilteredStates("bidder1").size());
+        assertTrue(bidderContext.getFilteredStates("bidder1").contains(mockBidderState3));
+
+        bidderContext.clear();
+        assertTrue(bidderContext.getAllStates().isEmpty());
+        assertTrue(bidderContext.getFilteredStates("bidder1").isEmpty());
+    }
+}
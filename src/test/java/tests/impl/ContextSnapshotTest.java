@@ -0,0 +1,133 @@
+package tests.impl;
+
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.impl.BidderHistoryUnit;
+import com.optimax.tradingbot.impl.BidderStateImpl;
+import com.optimax.tradingbot.impl.ContextSnapshot;
+import com.optimax.tradingbot.impl.history.HistoryPolicy;
+import com.optimax.tradingbot.strategies.RandomBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContextSnapshotTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    @DisplayName("should keep a snapshot unchanged by later rounds and clears")
+    void shouldIsolateSnapshots() {
+        BidderContext context = new BidderContext();
+        assertThrows(IllegalStateException.class, context::snapshot);
+        BidderStateImpl own = new BidderStateImpl(0, 10, 100, "own");
+        context.putState(own);
+        context.addHistoryUnit(new BidderHistoryUnit(Map.of("own", 1)));
+
+        context.enableSnapshots();
+        ContextSnapshot first = context.snapshot();
+        own.decreaseCash(30);
+        context.addHistoryUnit(new BidderHistoryUnit(Map.of("own", 30)));
+        context.publish();
+        ContextSnapshot second = context.snapshot();
+        context.clear();
+
+        assertEquals(0, first.version());
+        assertEquals(100, first.getState("own").orElseThrow().cash());
+        assertEquals(1, first.history().size());
+        assertEquals(1, second.version());
+        assertEquals(70, second.getState("own").orElseThrow().cash());
+        assertEquals(2, second.history().size());
+        assertEquals(30, second.history().get(1).getById("own").orElseThrow());
+        assertTrue(second.getFilteredStates("own").isEmpty());
+        assertTrue(context.snapshot().states().isEmpty());
+        assertTrue(context.snapshot().history().isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> second.history().add(null));
+    }
+
+    @Test
+    @DisplayName("should keep only the recent units on the heap when the history spills to disk")
+    void shouldBoundSnapshotsBySpillingPolicy() {
+        BidderContext context = new BidderContext(HistoryPolicy.spillToDisk(100, spillDirectory));
+        context.enableSnapshots();
+        ContextSnapshot early = null;
+        for (int round = 1; round <= 10_000; round++) {
+            context.addHistoryUnit(new BidderHistoryUnit(Map.of("own", round, "other", 0)));
+            context.publish();
+            if (round == 50) {
+                early = context.snapshot();
+            }
+        }
+
+        ContextSnapshot last = context.snapshot();
+        assertTrue(last.history().size() >= 100);
+        assertTrue(last.history().size() < 100 + 2 * 1024);
+        assertEquals(10_000, last.droppedUnits() + last.history().size());
+        assertEquals(last.droppedUnits() + 1, last.history().get(0).getById("own").orElseThrow());
+        assertEquals(10_000, last.history().get(last.history().size() - 1).getById("own").orElseThrow());
+
+        // Snapshots taken before keep the units they saw
+        assertEquals(0, early.droppedUnits());
+        assertEquals(50, early.history().size());
+        assertEquals(1, early.history().get(0).getById("own").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("should let other threads read consistent snapshots while the auction runs")
+    void shouldReadSnapshotsConcurrently() throws InterruptedException {
+        BidderStrategyParameters params = BidderStrategyParametersBuilder.defaultBuilder().build();
+        int totalQuantity = 20_000;
+        int baseCash = 100_000;
+        Auction auction = new Auction(totalQuantity, baseCash,
+                new RandomBidderStrategy(params, new Random(1)), new RandomBidderStrategy(params, new Random(2)));
+        auction.enableContextSnapshots();
+
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            long version = -1;
+            int units = 0;
+            while (!done.get() && failure.get() == null) {
+                ContextSnapshot snapshot = auction.contextSnapshot();
+                int spent = 0;
+                int won = 0;
+                for (var state : snapshot.states()) {
+                    spent += baseCash - state.cash();
+                    won += state.getQuantity();
+                }
+                int bids = 0;
+                for (BidderHistoryUnit unit : snapshot.history()) {
+                    for (int bid : unit.bids().values()) {
+                        bids += bid;
+                    }
+                }
+                if (snapshot.version() < version || snapshot.history().size() < units) {
+                    failure.set("went back from version " + version + " to " + snapshot.version());
+                } else if (won > totalQuantity || (snapshot.states().size() == 2 && spent != bids)) {
+                    failure.set("inconsistent snapshot " + snapshot.version() + ": spent " + spent + ", bid " + bids);
+                }
+                version = snapshot.version();
+                units = snapshot.history().size();
+            }
+        });
+        reader.start();
+        auction.run();
+        done.set(true);
+        reader.join();
+
+        assertNull(failure.get());
+        assertFalse(auction.isAborted());
+        assertTrue(auction.contextSnapshot().history().size() > 0);
+    }
+}
@@ -0,0 +1,85 @@
+package tests.impl.budget;
+
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.core.AuctionState;
+import com.optimax.tradingbot.core.validation.rules.PortfolioSpendValidator;
+import com.optimax.tradingbot.impl.budget.PortfolioStrategy;
+import com.optimax.tradingbot.impl.budget.SharedBudget;
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.RandomBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedBudgetTest {
+
+    @Test
+    @DisplayName("should reserve from other stripes and never more than the budget")
+    void shouldRebalanceStripes() {
+        SharedBudget budget = new SharedBudget(100, 3);
+        assertEquals(4, budget.stripes());
+        assertEquals(100, budget.available());
+
+        int stripe = budget.assignStripe();
+        assertEquals(60, budget.reserveUpTo(stripe, 60));
+        assertEquals(40, budget.reserveUpTo(stripe, 70));
+        assertEquals(0, budget.reserveUpTo(budget.assignStripe(), 1));
+        assertEquals(0, budget.available());
+        assertEquals(0, budget.lowestStripe());
+
+        budget.commit(60);
+        budget.release(stripe, 40);
+        assertEquals(40, budget.available());
+        assertEquals(0, budget.reserved());
+        assertEquals(60, budget.committed());
+        assertThrows(IllegalArgumentException.class, () -> new SharedBudget(-1, 1));
+    }
+
+    @Test
+    @DisplayName("should keep concurrent auctions within their shared budget")
+    void shouldShareBudgetAcrossAuctions() throws Exception {
+        int auctions = 64;
+        int baseCash = 1_000;
+        SharedBudget budget = new SharedBudget(20_000, 8);
+
+        List<Future<Integer>> spent = new ArrayList<>();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < auctions; i++) {
+                long seed = i;
+                spent.add(pool.submit(() -> {
+                    var params = BidderStrategyParametersBuilder.defaultBuilder().build();
+                    PortfolioStrategy own = new PortfolioStrategy(budget, new RandomBidderStrategy(params, new Random(seed)));
+                    Auction auction = new Auction(100, baseCash, own, new BalancedBidderStrategy(params));
+                    auction.addFinalValidator(PortfolioSpendValidator.ofOwn(own));
+                    auction.run();
+                    assertFalse(auction.isAborted());
+                    own.release();
+                    AuctionState state = auction.getAuctionState();
+                    return baseCash - state.getOwnBidderCash();
+                }));
+            }
+            int total = 0;
+            for (Future<Integer> future : spent) {
+                total += future.get();
+            }
+
+            // Alone, the auctions would have spent far more than the budget
+            assertEquals(budget.committed(), total);
+            assertTrue(total <= budget.initialCash());
+            assertEquals(0, budget.reserved());
+            assertEquals(budget.initialCash(), budget.committed() + budget.available());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package tests.impl.codec;
+
+import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.impl.BidderHistoryUnit;
+import com.optimax.tradingbot.impl.BidderStateImpl;
+import com.optimax.tradingbot.impl.codec.ContextDecoder;
+import com.optimax.tradingbot.impl.codec.ContextEncoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContextCodecTest {
+
+    private final BidderStateImpl own = new BidderStateImpl(0, 100, 1_000, "own");
+    private final BidderStateImpl other = new BidderStateImpl(0, 100, 1_000, "other");
+
+    private BidderContext context() {
+        BidderContext context = new BidderContext();
+        context.putState(own);
+        context.putState(other);
+        return context;
+    }
+
+    private void playRound(BidderContext context, int ownBid, int otherBid) {
+        own.decreaseCash(ownBid);
+        other.decreaseCash(otherBid);
+        own.increaseQuantity(ownBid > otherBid ? 2 : ownBid == otherBid ? 1 : 0);
+        other.increaseQuantity(otherBid > ownBid ? 2 : ownBid == otherBid ? 1 : 0);
+        context.addHistoryUnit(new BidderHistoryUnit(Map.of("own", ownBid, "other", otherBid)));
+    }
+
+    private static void assertSameContext(BidderContext expected, BidderContext actual) {
+        assertEquals(expected.getHistory(), actual.getHistory());
+        assertEquals(expected.getAllStates().size(), actual.getAllStates().size());
+        for (BidderState state : expected.getAllStates()) {
+            BidderState replica = actual.getFilteredStates("nobody").stream()
+                    .filter(s -> s.id().equals(state.id()))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(state.getQuantity(), replica.getQuantity());
+            assertEquals(state.cash(), replica.cash());
+            assertEquals(state.totalQuantity(), replica.totalQuantity());
+        }
+    }
+
+    @Test
+    @DisplayName("should rebuild the context from a snapshot and round by round deltas")
+    void shouldReplicateThroughDeltas() {
+        BidderContext context = context();
+        playRound(context, 3, 5);
+        ContextEncoder encoder = new ContextEncoder();
+        ContextDecoder decoder = new ContextDecoder();
+        BidderContext replica = new BidderContext();
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+        encoder.writeSnapshot(context, buffer);
+        buffer.flip();
+        decoder.read(buffer);
+        decoder.applyTo(replica);
+        assertTrue(decoder.isSnapshot());
+        assertSameContext(context, replica);
+
+        Random random = new Random(9);
+        for (int round = 0; round < 50; round++) {
+            playRound(context, random.nextInt(10), random.nextInt(10));
+            buffer.clear();
+            encoder.writeDelta(context, buffer);
+            buffer.flip();
+            // A delta holds the two changed states and the new round only
+            assertTrue(buffer.remaining() <= 5 + 2 + 2 + 2 * 14 + 4 + 6 + 2 * 6, "delta of " + buffer.remaining() + " bytes");
+
+            decoder.read(buffer);
+            assertFalse(decoder.isSnapshot());
+            assertEquals(1, decoder.unitCount());
+            assertEquals(context.getHistory().getLast().getById("other").orElseThrow(), decoder.unit(0).bidOrDefault("other", -1));
+            decoder.applyTo(replica);
+            assertSameContext(context, replica);
+        }
+    }
+
+    @Test
+    @DisplayName("should read states and units in place")
+    void shouldReadFlyweights() {
+        BidderContext context = context();
+        playRound(context, 7, 2);
+        context.addHistoryUnit(new BidderHistoryUnit(Map.of("own", 0, "other", 0), 40));
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        new ContextEncoder().writeSnapshot(context, buffer);
+        buffer.flip();
+        ContextDecoder decoder = new ContextDecoder();
+        decoder.read(buffer);
+
+        assertEquals(0, buffer.remaining());
+        assertEquals(2, decoder.stateCount());
+        BidderState first = decoder.state(0);
+        assertSame(first, decoder.state(1));
+        assertEquals(2, decoder.unitCount());
+        assertEquals(7, decoder.unit(0).bidOrDefault("own", -1));
+        assertEquals(-1, decoder.unit(0).bidOrDefault("late", -1));
+        assertEquals(40, decoder.unit(1).rounds());
+        assertEquals(context.getHistory().getFirst(), decoder.unit(0).toUnit());
+        assertThrows(IndexOutOfBoundsException.class, () -> decoder.unit(2));
+    }
+
+    @Test
+    @DisplayName("should send the ids of bidders joining later once")
+    void shouldSendLateIds() {
+        BidderContext context = context();
+        ContextEncoder encoder = new ContextEncoder();
+        ContextDecoder decoder = new ContextDecoder();
+        BidderContext replica = new BidderContext();
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        encoder.writeSnapshot(context, buffer);
+
+        context.putState(new BidderStateImpl(0, 100, 500, "late"));
+        context.addHistoryUnit(new BidderHistoryUnit(Map.of("own", 1, "other", 2, "late", 3)));
+        encoder.writeDelta(context, buffer);
+        playRound(context, 4, 4);
+        encoder.writeDelta(context, buffer);
+
+        buffer.flip();
+        for (int frame = 0; frame < 3; frame++) {
+            decoder.read(buffer);
+            decoder.applyTo(replica);
+        }
+        assertSameContext(context, replica);
+    }
+
+    @Test
+    @DisplayName("should ask for a snapshot after a lost frame or an overflow, and send one after a clear")
+    void shouldRequireSnapshots() {
+        BidderContext context = context();
+        ContextEncoder encoder = new ContextEncoder();
+        ContextDecoder decoder = new ContextDecoder();
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        assertThrows(IllegalStateException.class, () -> encoder.writeDelta(context, buffer));
+
+        encoder.writeSnapshot(context, buffer);
+        playRound(context, 1, 2);
+        encoder.writeDelta(context, ByteBuffer.allocate(1024));     // Lost
+        playRound(context, 3, 4);
+        encoder.writeDelta(context, buffer);
+        buffer.flip();
+        decoder.read(buffer);
+        assertThrows(IllegalStateException.class, () -> decoder.read(buffer));
+
+
+        // Cleared and grown past what was sent since, still a snapshot
+        context.clear();
+        context.putState(own);
+        context.putState(other);
+        for (int round = 0; round < 4; round++) {
+            playRound(context, round, round);
+        }
+        ByteBuffer afterClear = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        encoder.writeDelta(context, afterClear);
+        afterClear.flip();
+        assertEquals(2, afterClear.get(6));         // Big endian count of the new ids
+        decoder.read(afterClear);
+        assertTrue(decoder.isSnapshot());
+        assertEquals(4, decoder.unitCount());
+
+        ByteBuffer small = ByteBuffer.allocate(8);
+        assertThrows(BufferOverflowException.class, () -> encoder.writeSnapshot(context(), small));
+        assertEquals(0, small.position());
+        assertThrows(IllegalStateException.class, () -> encoder.writeDelta(context, ByteBuffer.allocate(1024)));
+    }
+}
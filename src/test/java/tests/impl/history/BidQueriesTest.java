@@ -0,0 +1,93 @@
+package tests.impl.history;
+
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.impl.BidderHistoryUnit;
+import com.optimax.tradingbot.impl.history.BidQueries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidQueriesTest {
+
+    @Test
+    @DisplayName("should answer window and range queries like a scan of the bids")
+    void shouldMatchScan() {
+        Random random = new Random(3);
+        BidQueries queries = new BidQueries(7);
+        List<Integer> bids = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            int bid = random.nextInt(5) == 0 ? random.nextInt(1_000) : random.nextInt(10);
+            bids.add(bid);
+            queries.append(new BidderHistoryUnit(Map.of("own", 1, "other", bid)));
+
+            List<Integer> window = bids.subList(Math.max(0, bids.size() - 7), bids.size());
+            assertEquals(max(window), queries.windowMax("other").getAsInt());
+            assertEquals(min(window), queries.windowMin("other").getAsInt());
+            assertEquals(mean(window), queries.windowMean("other").getAsDouble(), 1e-9);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            int from = random.nextInt(bids.size());
+            int to = from + 1 + random.nextInt(bids.size() - from);
+            List<Integer> range = bids.subList(from, to);
+            assertEquals(max(range), queries.max("other", from, to).getAsInt());
+            assertEquals(min(range), queries.min("other", from, to).getAsInt());
+            assertEquals(mean(range), queries.mean("other", from, to).getAsDouble(), 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("should count missing bids as 0 and reject ranges out of the history")
+    void shouldHandleMissingBidsAndBadRanges() {
+        BidQueries queries = new BidQueries(2);
+        queries.append(new BidderHistoryUnit(Map.of("own", 5)));
+        queries.append(new BidderHistoryUnit(Map.of("own", 3, "late", 8)));
+        queries.append(new BidderHistoryUnit(Map.of("own", 4)));
+
+        assertEquals(0, queries.min("late", 0, 3).getAsInt());
+        assertEquals(8, queries.windowMax("late").getAsInt());
+        assertEquals(4.0, queries.windowMean("late").getAsDouble());
+        assertTrue(queries.windowMax("unknown").isEmpty());
+        assertTrue(queries.max("own", 1, 1).isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> queries.max("own", 2, 4));
+        assertThrows(IllegalArgumentException.class, () -> new BidQueries(0));
+    }
+
+    @Test
+    @DisplayName("should be maintained by the context once enabled")
+    void shouldBeMaintainedByContext() {
+        BidderContext context = new BidderContext();
+        assertThrows(IllegalStateException.class, context::getBidQueries);
+        context.addHistoryUnit(new BidderHistoryUnit(Map.of("own", 10, "other", 20)));
+
+        context.enableBidQueries(4);
+        context.addHistoryUnit(new BidderHistoryUnit(Map.of("own", 12, "other", 2)));
+
+        assertTrue(context.hasBidQueries());
+        assertEquals(2, context.getBidQueries().size());
+        assertEquals(20, context.getBidQueries().windowMax("other").getAsInt());
+        assertEquals(11.0, context.getBidQueries().mean("own", 0, 2).getAsDouble());
+
+        context.clear();
+        assertEquals(0, context.getBidQueries().size());
+        assertTrue(context.getBidQueries().windowMax("other").isEmpty());
+    }
+
+    private static int max(List<Integer> bids) {
+        return bids.stream().mapToInt(Integer::intValue).max().orElseThrow();
+    }
+
+    private static int min(List<Integer> bids) {
+        return bids.stream().mapToInt(Integer::intValue).min().orElseThrow();
+    }
+
+    private static double mean(List<Integer> bids) {
+        return bids.stream().mapToInt(Integer::intValue).average().orElseThrow();
+    }
+}
@@ -0,0 +1,100 @@
+package tests.impl.history;
+
+import com.optimax.tradingbot.impl.BidderHistoryUnit;
+import com.optimax.tradingbot.impl.history.CompressedHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedHistoryTest {
+
+    private static List<BidderHistoryUnit> randomUnits(int count) {
+        Random random = new Random(42);
+        List<BidderHistoryUnit> units = new ArrayList<>();
+        int own = 0;
+        for (int i = 0; i < count; i++) {
+            // Slowly moving bids with the occasional jump, extreme values and idle entries
+            own = random.nextInt(10) == 0 ? random.nextInt(Integer.MAX_VALUE) : Math.max(0, own + random.nextInt(7) - 3);
+            int other = i % 100 == 0 ? Integer.MAX_VALUE : own + 1;
+            int rounds = i % 500 == 0 ? 1 + random.nextInt(1_000_000) : 1;
+            units.add(new BidderHistoryUnit(Map.of("own", own, "other", other), rounds));
+        }
+        return units;
+    }
+
+    @Test
+    @DisplayName("should read back every unit in order and at random")
+    void shouldReadBackEveryUnit() {
+        List<BidderHistoryUnit> units = randomUnits(10_000);
+        CompressedHistory history = new CompressedHistory();
+        history.addAll(units);
+
+        assertEquals(units, history);
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            int index = random.nextInt(units.size());
+            assertEquals(units.get(index), history.get(index));
+        }
+        assertSame(units.getLast(), history.getLast());
+        for (int i = units.size() - 1; i >= 0; i--) {
+            assertEquals(units.get(i), history.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("should keep bidders joining or missing later on")
+    void shouldKeepJoiningAndMissingBidders() {
+        List<BidderHistoryUnit> units = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            if (i == 70) {
+                units.add(new BidderHistoryUnit(Map.of("own", i, "other", i, "late", -i)));
+            } else if (i % 3 == 0) {
+                units.add(new BidderHistoryUnit(Map.of("own", i)));
+            } else {
+                units.add(new BidderHistoryUnit(Map.of("own", i, "other", 2 * i)));
+            }
+        }
+        units.add(new BidderHistoryUnit(Map.of()));
+        CompressedHistory history = new CompressedHistory();
+        history.addAll(units);
+
+        assertEquals(units, history);
+        assertEquals(new BidderHistoryUnit(Map.of("own", 70, "other", 70, "late", -70)), history.get(70));
+        assertTrue(history.get(150).getById("other").isEmpty());
+    }
+
+    @Test
+    @DisplayName("should take a few bytes per unit for correlated bids")
+    void shouldEncodeCorrelatedBidsCompactly() {
+        CompressedHistory history = new CompressedHistory();
+        for (int i = 0; i < 10_000; i++) {
+            history.add(new BidderHistoryUnit(Map.of("own", 1_000 + i % 3, "other", 1_001 + i % 3)));
+        }
+
+        // A header and two one-byte deltas per unit, plus the full bids at the start of each block
+        assertTrue(history.encodedBytes() <= 31_000, "took " + history.encodedBytes() + " bytes");
+    }
+
+    @Test
+    @DisplayName("should be reusable after clear")
+    void shouldBeReusableAfterClear() {
+        CompressedHistory history = new CompressedHistory();
+        history.addAll(randomUnits(1_000));
+
+        history.clear();
+        assertTrue(history.isEmpty());
+        assertEquals(0, history.encodedBytes());
+        List<BidderHistoryUnit> units = List.of(
+                new BidderHistoryUnit(Map.of("a", 1, "b", 2)),
+                new BidderHistoryUnit(Map.of("a", 3, "b", 4)));
+        history.addAll(units);
+        assertEquals(units, history);
+        assertThrows(IndexOutOfBoundsException.class, () -> history.get(2));
+    }
+}
@@ -0,0 +1,164 @@
+package tests.impl.history;
+
+import com.optimax.tradingbot.bidder.BidderState;
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.impl.BidderContext;
+import com.optimax.tradingbot.impl.BidderHistoryUnit;
+import com.optimax.tradingbot.impl.history.HistoryPolicy;
+import com.optimax.tradingbot.impl.history.SpillingHistory;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpillingHistoryTest {
+
+    @TempDir
+    Path directory;
+
+    private static BidderHistoryUnit unit(int i) {
+        return new BidderHistoryUnit(Map.of("own", i % 97, "other", i % 13), i % 5 + 1);
+    }
+
+    @Test
+    @DisplayName("should read back every unit, spilled or hot, in order")
+    void shouldReadBackEveryUnit() {
+        int units = SpillingHistory.PAGE_UNITS * 3 + 100;
+        try (SpillingHistory history = new SpillingHistory(16, directory)) {
+            for (int i = 0; i < units; i++) {
+                history.add(unit(i));
+            }
+
+            assertEquals(units, history.size());
+            assertEquals(units - 16, history.spilledUnits());
+            for (int i = 0; i < units; i++) {
+                assertEquals(unit(i), history.get(i));
+            }
+            // Jumping back and forth between the pages
+            assertEquals(unit(5), history.get(5));
+            assertEquals(unit(units - 1), history.getLast());
+            assertEquals(unit(SpillingHistory.PAGE_UNITS * 2), history.get(SpillingHistory.PAGE_UNITS * 2));
+            assertEquals(unit(0), history.getFirst());
+        }
+    }
+
+    @Test
+    @DisplayName("should keep bidders missing from a unit missing")
+    void shouldKeepMissingBidders() {
+        try (SpillingHistory history = new SpillingHistory(1, directory)) {
+            history.add(new BidderHistoryUnit(Map.of("own", 1, "other", 2)));
+            history.add(new BidderHistoryUnit(Map.of("own", 3)));
+            history.add(new BidderHistoryUnit(Map.of("other", 4)));
+
+            assertEquals(new BidderHistoryUnit(Map.of("own", 3)), history.get(1));
+            assertTrue(history.get(1).getById("other").isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("should reject bidders joining after the spilling started")
+    void shouldRejectLateBidders() {
+        try (SpillingHistory history = new SpillingHistory(1, directory)) {
+            history.add(new BidderHistoryUnit(Map.of("own", 1)));
+            history.add(new BidderHistoryUnit(Map.of("own", 2, "late", 3)));
+
+            assertThrows(IllegalStateException.class, () -> history.add(unit(0)));
+            assertEquals(2, history.size());
+            assertEquals(new BidderHistoryUnit(Map.of("own", 2, "late", 3)), history.getLast());
+        }
+    }
+
+    @Test
+    @DisplayName("should be reusable after clear and delete its file on close")
+    void shouldBeReusableAfterClear() throws IOException {
+        SpillingHistory history = new SpillingHistory(4, directory);
+        for (int i = 0; i < SpillingHistory.PAGE_UNITS * 2; i++) {
+            history.add(unit(i));
+        }
+        // Depending on the platform the file is unlinked when opened already
+        assertTrue(countFiles() <= 1);
+
+        history.clear();
+        assertTrue(history.isEmpty());
+        history.add(new BidderHistoryUnit(Map.of("a", 1, "b", 2, "c", 3)));
+        for (int i = 0; i < SpillingHistory.PAGE_UNITS + 10; i++) {
+            history.add(new BidderHistoryUnit(Map.of("a", i, "b", i + 1, "c", i + 2)));
+        }
+        assertEquals(new BidderHistoryUnit(Map.of("a", 7, "b", 8, "c", 9)), history.get(8));
+
+        history.close();
+        assertTrue(history.isEmpty());
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    @DisplayName("should hand the spilled history to the strategies of an auction")
+    void shouldServeAuctionHistory() {
+        HistoryReadingStrategy own = new HistoryReadingStrategy();
+        Auction auction = new Auction(20_000, 100_000, own, new HistoryReadingStrategy());
+        auction.setHistoryPolicy(HistoryPolicy.spillToDisk(8, directory));
+
+        auction.run();
+
+        assertFalse(auction.isAborted());
+        assertEquals(10_000, own.history.size());
+        assertEquals(10_000 - 8, ((SpillingHistory) own.history).spilledUnits());
+        assertEquals(List.of(1, 1), List.copyOf(own.history.get(1234).bids().values()));
+    }
+
+    /**
+     * Bids a single unit and checks the history covers all the rounds so far, reading back an old round
+     */
+    private static class HistoryReadingStrategy implements BidderStrategy {
+        private List<BidderHistoryUnit> history;
+        private int round;
+
+        @Override
+        public void init(BidderStrategyParameters params) {
+        }
+
+        @Override
+        public OptionalInt nextBid(BidderState own, BidderContext ctx) {
+            history = ctx.getHistory();
+            assertEquals(round, history.size());
+            if (round > 0) {
+                assertEquals(Optional.of(1), history.get(round / 2).getById(own.id()));
+            }
+            round++;
+            return OptionalInt.of(1);
+        }
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    @DisplayName("should only allow changing the policy of an empty history")
+    void shouldOnlyChangePolicyWhileEmpty() {
+        BidderContext context = new BidderContext(HistoryPolicy.spillToDisk(2, directory));
+        context.addHistoryUnit(unit(1));
+
+        assertThrows(IllegalStateException.class, () -> context.setHistoryPolicy(HistoryPolicy.UNBOUNDED));
+        context.clear();
+        context.setHistoryPolicy(ArrayList::new);
+        assertInstanceOf(ArrayList.class, context.getHistory());
+        assertThrows(IllegalArgumentException.class, () -> HistoryPolicy.spillToDisk(0, directory));
+        assertEquals(List.of(), context.getHistory());
+    }
+}
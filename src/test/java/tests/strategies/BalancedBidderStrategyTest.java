@@ -168,4 +168,25 @@ class BalancedBidderStrategyTest {
         assertTrue(bid2.isPresent(), "Bid 2 should be present before max rounds");
         assertTrue(bid3.isEmpty(), "Bid 3 should be empty after max rounds are reached");
     }
+
+    @Test
+    @DisplayName("Bid plan should match the bids placed round by round")
+    void bidPlanShouldMatchRoundByRoundBids() {
+        BalancedBidderStrategy planner = new BalancedBidderStrategy(params);
+        BalancedBidderStrategy player = new BalancedBidderStrategy(params);
+        var own = new BidderStateImpl(0, 40, 90, "own");
+        BidderContext ctx = new BidderContext();
+        ctx.putState(own);
+
+        int[] plan = planner.bidPlan(own, 15).orElseThrow();
+        assertEquals(15, plan.length);
+
+        for (int i = 0; i < plan.length; i++) {
+            OptionalInt bid = player.nextBid(own, ctx);
+            assertEquals(bid.orElse(0), plan[i], "Round " + (i + 1));
+            own.decreaseCash(bid.orElse(0));
+            player.finishRound();
+        }
+        assertEquals(0, plan[10], "No bids after the max rounds");
+    }
 }
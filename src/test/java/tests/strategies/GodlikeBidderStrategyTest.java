@@ -1,5 +1,6 @@
 package tests.strategies;
 
+import com.optimax.tradingbot.bidder.StrategyCapability;
 import com.optimax.tradingbot.impl.BidderStateImpl;
 import com.optimax.tradingbot.impl.BidderContext;
 import com.optimax.tradingbot.strategies.GodlikeBidderStrategy;
@@ -44,29 +45,49 @@ class GodlikeBidderStrategyTest {
     }
 
     @Test
-    @DisplayName("Should generate an adaptive bid after several rounds based on history")
-    void shouldGenerateAdaptiveBidAfterRoundsBasedOnHistory() {
+    @DisplayName("Should adapt its bid to the opponent bids pushed through the round callback")
+    void shouldAdaptBidToOpponentBidsPushedAfterEachRound() {
         GodlikeBidderStrategy strategy = new GodlikeBidderStrategy(params, new Random(42));
 
-        var own = new BidderStateImpl(20, 100, 40, "own");
-        var other = new BidderStateImpl(50, 100, 20, "other");
+        var own = new BidderStateImpl(0, 1000, 1000, "own");
+        var other = new BidderStateImpl(0, 1000, 1000, "other");
 
         BidderContext ctx = new BidderContext();
         ctx.putState(own);
         ctx.putState(other);
 
-        // Simulated history
-        ctx.addHistoryUnit(new BidderHistoryUnit(Map.of("own", 10, "other", 15)));
-        ctx.addHistoryUnit(new BidderHistoryUnit(Map.of("own", 5, "other", 25)));
-        ctx.addHistoryUnit(new BidderHistoryUnit(Map.of("own", 20, "other", 30)));
+        int opening = strategy.nextBid(own, ctx).getAsInt();
 
-        strategy.finishRound(); // round 2
-        strategy.finishRound(); // round 3
-        strategy.finishRound(); // round 4
+        strategy.onRoundResult(1, opening, 120, 0);
+        strategy.finishRound();
+        assertEquals(OptionalInt.of(121), strategy.nextBid(own, ctx));
 
-        var bid = strategy.nextBid(own, ctx);
-        assertTrue(bid.isPresent(), "Bid should be present");
-        assertTrue(bid.getAsInt() > 0 && bid.getAsInt() <= 40, "Bid should be positive and within own cash");
+        strategy.onRoundResult(2, 121, 300, 0);
+        strategy.finishRound();
+        assertEquals(OptionalInt.of(301), strategy.nextBid(own, ctx));
+        assertNotEquals(opening, 301);
+
+        // An opponent bid above the cap is only followed up to it
+        strategy.onRoundResult(3, 301, 700, 0);
+        strategy.finishRound();
+        assertEquals(OptionalInt.of(500), strategy.nextBid(own, ctx));
+    }
+
+    @Test
+    @DisplayName("Should adapt to the history when no round is reported through the callback")
+    void shouldFallBackToHistoryWithoutRoundCallback() {
+        GodlikeBidderStrategy strategy = new GodlikeBidderStrategy(params, new Random(42));
+
+        var own = new BidderStateImpl(0, 1000, 1000, "own");
+        BidderContext ctx = new BidderContext();
+        ctx.addHistoryUnit(new BidderHistoryUnit(Map.of("own", 10, "other", 150)));
+        strategy.finishRound();
+        assertEquals(OptionalInt.of(151), strategy.nextBid(own, ctx));
+
+        // Once rounds are reported, the pushed bid wins over the history
+        strategy.onRoundResult(2, 151, 40, 0);
+        strategy.finishRound();
+        assertEquals(OptionalInt.of(41), strategy.nextBid(own, ctx));
     }
 
     @Test
@@ -84,4 +105,20 @@ class GodlikeBidderStrategyTest {
         var bid = strategy.nextBid(own, ctx);
         assertTrue(bid.isEmpty(), "Bid should be empty when own bidder has no cash");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should outbid the opponent's last bid pushed through the round callback, without any history")
+    void shouldTrackOpponentBidThroughCallback() {
+        GodlikeBidderStrategy strategy = new GodlikeBidderStrategy(params, new Random(42));
+
+        var own = new BidderStateImpl(0, 100, 100, "own");
+        BidderContext ctx = new BidderContext();
+
+        strategy.onRoundResult(1, 10, 30, 0);
+        strategy.finishRound();
+
+        assertEquals(OptionalInt.of(31), strategy.nextBid(own, ctx));
+        assertTrue(ctx.getHistory().isEmpty());
+        assertEquals(StrategyCapability.NONE, strategy.capabilities());
+    }
+}
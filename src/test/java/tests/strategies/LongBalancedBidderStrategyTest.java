@@ -0,0 +1,53 @@
+package tests.strategies;
+
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.LongBalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import com.optimax.tradingbot.strategies.builder.enums.BidderStrategyGreediness;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongBalancedBidderStrategyTest {
+
+    @Test
+    @DisplayName("Bids should match the int strategy on int-sized cash")
+    void shouldMatchIntStrategy() {
+        for (BidderStrategyGreediness greediness : BidderStrategyGreediness.values()) {
+            for (int risk = 1; risk <= 3; risk++) {
+                BidderStrategyParameters params = BidderStrategyParametersBuilder.defaultBuilder()
+                        .withGreediness(greediness)
+                        .withRiskRewardRatio(risk, risk + 2)
+                        .build();
+                for (int cash = 0; cash < 5_000; cash += 7) {
+                    assertEquals(BalancedBidderStrategy.computeBid(params, cash, 20_000),
+                            LongBalancedBidderStrategy.computeBid(params, cash, 20_000));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Bids on cash beyond the double precision should be exact")
+    void shouldBeExactOnLargeCash() {
+        BidderStrategyParameters params = BidderStrategyParametersBuilder.defaultBuilder().build();
+        long cash = (1L << 60) + 1;
+
+        // Medium greed at a 1:1 ratio bids half the cash, rounded half up
+        assertEquals((1L << 59) + 1, LongBalancedBidderStrategy.computeBid(params, cash, Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Bids should still be capped by half the quantity and the cash")
+    void shouldBeCapped() {
+        BidderStrategyParameters strong = BidderStrategyParametersBuilder.defaultBuilder()
+                .withGreediness(BidderStrategyGreediness.STRONG)
+                .build();
+
+        assertEquals(99, LongBalancedBidderStrategy.computeBid(strong, Long.MAX_VALUE, 200));
+        assertEquals(Long.MAX_VALUE / 2 - 1, LongBalancedBidderStrategy.computeBid(strong, Long.MAX_VALUE, Long.MAX_VALUE));
+        assertEquals(0, LongBalancedBidderStrategy.computeBid(strong, 0, 200));
+    }
+}
@@ -0,0 +1,98 @@
+package tests.strategies;
+
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.bidder.StatelessBidderStrategy;
+import com.optimax.tradingbot.core.Auction;
+import com.optimax.tradingbot.core.AuctionState;
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.GodlikeBidderStrategy;
+import com.optimax.tradingbot.strategies.RandomBidderStrategy;
+import com.optimax.tradingbot.strategies.StatelessStrategies;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatelessStrategiesTest {
+
+    private final BidderStrategyParameters params = BidderStrategyParametersBuilder.defaultBuilder().withMaxRounds(30).build();
+    private final BidderStrategyParameters otherParams = BidderStrategyParametersBuilder.defaultBuilder().withRiskRewardRatio(1, 3).build();
+
+    private static int[] play(BidderStrategy own, BidderStrategy other) {
+        Auction auction = new Auction(100, 500, own, other);
+        auction.run();
+        assertFalse(auction.isAborted());
+        AuctionState state = auction.getAuctionState();
+        return new int[]{state.getOwnBidderCash(), state.getOtherBidderCash(),
+                state.getOwnBidderQuantityWon(), state.getOtherBidderQuantityWon()};
+    }
+
+    @Test
+    @DisplayName("should bid exactly like the built-in strategies")
+    void shouldMatchBuiltInStrategies() {
+        assertArrayEquals(
+                play(new GodlikeBidderStrategy(params, new Random(1)), new RandomBidderStrategy(otherParams, new Random(2))),
+                play(StatelessStrategies.godlike(params, 1).bind(), StatelessStrategies.random(otherParams, 2).bind()));
+        assertArrayEquals(
+                play(new BalancedBidderStrategy(params), new BalancedBidderStrategy(otherParams)),
+                play(StatelessStrategies.balanced(params).bind(), StatelessStrategies.balanced(otherParams).bind()));
+        assertArrayEquals(
+                play(new BalancedBidderStrategy(params), new GodlikeBidderStrategy(otherParams, new Random(3))),
+                play(StatelessStrategies.balanced(params).bind(), StatelessStrategies.godlike(otherParams, 3).bind()));
+    }
+
+    @Test
+    @DisplayName("should serve concurrent auctions from a single instance")
+    void shouldServeConcurrentAuctions() throws Exception {
+        int auctions = 200;
+        StatelessBidderStrategy<?> balanced = StatelessStrategies.balanced(params);
+        StatelessBidderStrategy<?> godlike = StatelessStrategies.godlike(otherParams, 0);
+
+        List<String> results = new ArrayList<>();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<int[]>> futures = new ArrayList<>();
+            for (int i = 0; i < auctions; i++) {
+                futures.add(pool.submit(() -> play(balanced.bind(), godlike.bind())));
+            }
+            for (Future<int[]> future : futures) {
+                results.add(Arrays.toString(future.get()));
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        // The auctions got the seeds 0 to 199 in any order
+        List<String> expected = new ArrayList<>();
+        for (int seed = 0; seed < auctions; seed++) {
+            expected.add(Arrays.toString(play(new BalancedBidderStrategy(params), new GodlikeBidderStrategy(otherParams, new Random(seed)))));
+        }
+        Collections.sort(results);
+        Collections.sort(expected);
+        assertEquals(expected, results);
+    }
+
+    @Test
+    @DisplayName("should start a new state on init")
+    void shouldResetStateOnInit() {
+        StatelessBidderStrategy.BoundStrategy<StatelessStrategies.RoundState> bound = StatelessStrategies.balanced(params).bind();
+        StatelessStrategies.RoundState state = bound.state();
+        bound.finishRounds(5);
+        assertEquals(6, state.round());
+
+        bound.init(params);
+        assertNotSame(state, bound.state());
+        assertEquals(1, bound.state().round());
+    }
+}
@@ -0,0 +1,95 @@
+package tests.utils;
+
+import com.optimax.tradingbot.utils.HashedTimerWheel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimerWheelTest {
+
+    private static final long TICK = 10;
+    private static final long START = 1_000;
+
+    @Test
+    @DisplayName("Timeouts should fire once their tick has ended, in deadline order across ticks")
+    void timeoutsShouldFireAfterTheirTick() {
+        HashedTimerWheel wheel = new HashedTimerWheel(TICK, 8, START);
+        List<Integer> fired = new ArrayList<>();
+        wheel.schedule(() -> fired.add(2), START + 25);
+        wheel.schedule(() -> fired.add(1), START + 5);
+
+        assertEquals(0, wheel.advanceTo(START + 9));
+        assertEquals(1, wheel.advanceTo(START + 10));
+        assertEquals(List.of(1), fired);
+        assertEquals(0, wheel.advanceTo(START + 29));
+        assertEquals(1, wheel.advanceTo(START + 30));
+        assertEquals(List.of(1, 2), fired);
+    }
+
+    @Test
+    @DisplayName("Deadlines beyond one revolution of the wheel should wait for their revolution")
+    void farDeadlinesShouldWaitForTheirRevolution() {
+        HashedTimerWheel wheel = new HashedTimerWheel(TICK, 4, START);
+        HashedTimerWheel.Timeout timeout = wheel.schedule(() -> {
+        }, START + 4 * TICK * 3 + 5);
+
+        assertEquals(0, wheel.advanceTo(START + 4 * TICK * 3));
+        assertFalse(timeout.isExpired());
+        assertEquals(1, wheel.advanceTo(START + 4 * TICK * 3 + TICK));
+        assertTrue(timeout.isExpired());
+    }
+
+    @Test
+    @DisplayName("Cancelled timeouts should not fire, whether linked into the wheel or not")
+    void cancelledTimeoutsShouldNotFire() {
+        HashedTimerWheel wheel = new HashedTimerWheel(TICK, 8, START);
+        List<Integer> fired = new ArrayList<>();
+        HashedTimerWheel.Timeout beforeLinking = wheel.schedule(() -> fired.add(1), START + 15);
+        assertTrue(beforeLinking.cancel());
+
+        HashedTimerWheel.Timeout linked = wheel.schedule(() -> fired.add(2), START + 25);
+        wheel.schedule(() -> fired.add(3), START + 25);
+        wheel.advanceTo(START + 10);
+        assertTrue(linked.cancel());
+        assertFalse(linked.cancel());
+
+        wheel.advanceTo(START + 100);
+        assertEquals(List.of(3), fired);
+        assertTrue(linked.isCancelled());
+    }
+
+    @Test
+    @DisplayName("Deadlines in the past and timeouts scheduled by a task should fire on the next tick")
+    void lateAndNestedTimeoutsShouldFireOnNextTick() {
+        HashedTimerWheel wheel = new HashedTimerWheel(TICK, 8, START);
+        List<Integer> fired = new ArrayList<>();
+        wheel.advanceTo(START + 50);
+
+        wheel.schedule(() -> {
+            fired.add(1);
+            wheel.schedule(() -> fired.add(2), START);
+        }, START);
+
+        assertEquals(1, wheel.advanceTo(START + 60));
+        assertEquals(1, wheel.advanceTo(START + 70));
+        assertEquals(List.of(1, 2), fired);
+    }
+
+    @Test
+    @DisplayName("A failing task should not prevent the other tasks of the tick from running")
+    void failingTaskShouldNotStopOthers() {
+        HashedTimerWheel wheel = new HashedTimerWheel(TICK, 8, START);
+        List<Integer> fired = new ArrayList<>();
+        wheel.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, START + 5);
+        wheel.schedule(() -> fired.add(1), START + 5);
+
+        assertThrows(IllegalStateException.class, () -> wheel.advanceTo(START + 10));
+        assertEquals(List.of(1), fired);
+    }
+}
@@ -0,0 +1,102 @@
+package tests.warmup;
+
+import com.optimax.tradingbot.bidder.BidderStrategy;
+import com.optimax.tradingbot.impl.DefaultBidderWinEvaluator;
+import com.optimax.tradingbot.strategies.BalancedBidderStrategy;
+import com.optimax.tradingbot.strategies.RandomBidderStrategy;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParameters;
+import com.optimax.tradingbot.strategies.builder.BidderStrategyParametersBuilder;
+import com.optimax.tradingbot.warmup.AuctionWarmup;
+import com.optimax.tradingbot.warmup.AuctionWarmupService;
+import com.optimax.tradingbot.warmup.WarmupPlan;
+import com.optimax.tradingbot.warmup.WarmupResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AuctionWarmupTest {
+
+    private static final BidderStrategyParameters PARAMS = BidderStrategyParametersBuilder.defaultBuilder().build();
+
+    private static WarmupPlan plan(List<Supplier<BidderStrategy>> strategies, Duration maxDuration) {
+        // Any compilation counts as quiet, so the warm-up settles after the minimum number of batches
+        return new WarmupPlan(strategies, List.of(DefaultBidderWinEvaluator.INSTANCE), 20, 100, 2, 1, Long.MAX_VALUE, maxDuration);
+    }
+
+    private static List<Supplier<BidderStrategy>> strategies() {
+        return List.of(() -> new BalancedBidderStrategy(PARAMS), () -> new RandomBidderStrategy(PARAMS, new Random(1)));
+    }
+
+    @Test
+    @DisplayName("Warm-up should play every strategy pair in every mode until settled")
+    void warmupShouldSettle() {
+        WarmupResult result = new AuctionWarmup(plan(strategies(), Duration.ofSeconds(30))).run(() -> false);
+
+        assertTrue(result.settled());
+        assertEquals(2, result.batches());
+        assertEquals(2 * 4 * 3, result.auctions());  // 2 batches of 4 pairs in 3 modes
+        assertTrue(result.rounds() > 0);
+    }
+
+    @Test
+    @DisplayName("Warm-up should stop unsettled when cancelled or out of time")
+    void warmupShouldStopUnsettled() {
+        WarmupResult cancelled = new AuctionWarmup(plan(strategies(), Duration.ofSeconds(30))).run(() -> true);
+        assertFalse(cancelled.settled());
+        assertEquals(0, cancelled.batches());
+
+        WarmupResult timedOut = new AuctionWarmup(plan(strategies(), Duration.ZERO)).run(() -> false);
+        assertFalse(timedOut.settled());
+        assertEquals(0, timedOut.batches());
+    }
+
+    @Test
+    @DisplayName("Readiness should be held back until the warm-up has finished")
+    void readinessShouldWaitForWarmup() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<BidderStrategy> gated = () -> {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new BalancedBidderStrategy(PARAMS);
+        };
+        ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+        AuctionWarmupService service = new AuctionWarmupService(plan(List.of(gated), Duration.ofSeconds(30)), publisher);
+
+        service.start();
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        service.onReadinessChange(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+        assertFalse(service.isWarm());
+
+        release.countDown();
+        assertTrue(service.awaitWarm(Duration.ofSeconds(30)).settled());
+        service.stop();
+
+        ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(publisher, times(2)).publishEvent(events.capture());
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, ((AvailabilityChangeEvent<?>) events.getAllValues().get(0)).getState());
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, ((AvailabilityChangeEvent<?>) events.getAllValues().get(1)).getState());
+
+        // Once warm, readiness is no longer touched
+        service.onReadinessChange(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+        verifyNoMoreInteractions(publisher);
+    }
+}